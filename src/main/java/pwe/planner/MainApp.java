@@ -22,10 +22,12 @@ import pwe.planner.model.Model;
 import pwe.planner.model.ModelManager;
 import pwe.planner.model.ReadOnlyApplication;
 import pwe.planner.model.ReadOnlyUserPrefs;
+import pwe.planner.model.UndoHistoryStorage;
 import pwe.planner.model.UserPrefs;
 import pwe.planner.model.util.SampleDataUtil;
 import pwe.planner.storage.ApplicationStorage;
 import pwe.planner.storage.JsonApplicationStorage;
+import pwe.planner.storage.JsonUndoHistoryStorage;
 import pwe.planner.storage.JsonUserPrefsStorage;
 import pwe.planner.storage.Storage;
 import pwe.planner.storage.StorageManager;
@@ -66,7 +68,8 @@ public class MainApp extends Application {
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        UndoHistoryStorage undoHistoryStorage = new JsonUndoHistoryStorage(userPrefs.getUndoHistoryFilePath());
+        model = initModelManager(storage, userPrefs, undoHistoryStorage);
 
         logic = new LogicManager(model, storage);
 
@@ -75,15 +78,17 @@ public class MainApp extends Application {
 
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s module list, requirement categories
-     * list, degree planner list and {@code userPrefs}. <br>
+     * list, degree planner list and {@code userPrefs}, spilling its undo history to {@code undoHistoryStorage}. <br>
      * The data from the sample application will be used instead if {@code storage}'s module list,
      * requirement categories list and degree planner list is not found,
      * or an empty application will be used instead if errors occur when reading {@code storage}'s module list,
      * requirement categories list and degree planner list.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs,
+            UndoHistoryStorage undoHistoryStorage) {
         assert storage != null;
         assert userPrefs != null;
+        assert undoHistoryStorage != null;
 
         Optional<ReadOnlyApplication> applicationOptional;
 
@@ -106,7 +111,7 @@ public class MainApp extends Application {
             initialData = getInitialApplication();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return new ModelManager(initialData, userPrefs, undoHistoryStorage);
 
     }
 
@@ -0,0 +1,124 @@
+package pwe.planner.commons.core;
+
+import static pwe.planner.commons.util.AppUtil.checkArgument;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * A Serializable class that contains the undo history settings.
+ * Guarantees: immutable.
+ */
+public class HistorySettings implements Serializable {
+
+    public static final String MESSAGE_CONSTRAINTS = "The undo history must keep at least 1 state, and must be allowed "
+            + "to use a non-negative number of bytes and of copies of the application in memory";
+
+    private static final int DEFAULT_MAX_STATES = 1000;
+    private static final long DEFAULT_MAX_MEMORY_BYTES = 16L * 1024 * 1024;
+    private static final int DEFAULT_MAX_APPLICATION_COPIES = 4;
+
+    private final int maxStates;
+    private final long maxMemoryBytes;
+    private final int maxApplicationCopies;
+
+    public HistorySettings() {
+        maxStates = DEFAULT_MAX_STATES;
+        maxMemoryBytes = DEFAULT_MAX_MEMORY_BYTES;
+        maxApplicationCopies = DEFAULT_MAX_APPLICATION_COPIES;
+    }
+
+    /**
+     * Creates a {@code HistorySettings} which keeps at most {@code maxStates} states in the undo history, and spills
+     * states to disk once the states kept in memory are estimated to use more than {@code maxMemoryBytes} bytes.
+     */
+    public HistorySettings(int maxStates, long maxMemoryBytes) {
+        this(maxStates, maxMemoryBytes, 0);
+    }
+
+    /**
+     * Creates a {@code HistorySettings} which keeps at most {@code maxStates} states in the undo history, and spills
+     * states to disk once the states kept in memory are estimated to use more than {@code maxMemoryBytes} bytes, or
+     * than {@code maxApplicationCopies} full copies of the application if that is more.
+     */
+    public HistorySettings(int maxStates, long maxMemoryBytes, int maxApplicationCopies) {
+        checkArgument(maxStates > 0 && maxMemoryBytes >= 0 && maxApplicationCopies >= 0, MESSAGE_CONSTRAINTS);
+
+        this.maxStates = maxStates;
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.maxApplicationCopies = maxApplicationCopies;
+    }
+
+    /**
+     * Creates a {@code HistorySettings} from the values read from a json file, using the default value of every value
+     * missing from the file, so that the values are checked like those of any other {@code HistorySettings}.
+     *
+     * @throws IllegalArgumentException if the values do not satisfy {@link #MESSAGE_CONSTRAINTS}.
+     */
+    @JsonCreator
+    public static HistorySettings fromJson(@JsonProperty("maxStates") Integer maxStates,
+            @JsonProperty("maxMemoryBytes") Long maxMemoryBytes,
+            @JsonProperty("maxApplicationCopies") Integer maxApplicationCopies) {
+        return new HistorySettings(maxStates == null ? DEFAULT_MAX_STATES : maxStates,
+                maxMemoryBytes == null ? DEFAULT_MAX_MEMORY_BYTES : maxMemoryBytes,
+                maxApplicationCopies == null ? DEFAULT_MAX_APPLICATION_COPIES : maxApplicationCopies);
+    }
+
+    public int getMaxStates() {
+        return maxStates;
+    }
+
+    public long getMaxMemoryBytes() {
+        return maxMemoryBytes;
+    }
+
+    public int getMaxApplicationCopies() {
+        return maxApplicationCopies;
+    }
+
+    /**
+     * Returns the number of bytes of memory the states of the undo history may use, where a full copy of the
+     * application is estimated to use {@code applicationBytes} bytes, so that the budget grows with the application.
+     */
+    public long getMemoryBudget(long applicationBytes) {
+        checkArgument(applicationBytes >= 0, "Application size should not be negative.");
+
+        if (applicationBytes > Long.MAX_VALUE / Math.max(1, maxApplicationCopies)) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(maxMemoryBytes, applicationBytes * maxApplicationCopies);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof HistorySettings)) { //this handles null as well.
+            return false;
+        }
+
+        HistorySettings o = (HistorySettings) other;
+
+        return maxStates == o.maxStates
+                && maxMemoryBytes == o.maxMemoryBytes
+                && maxApplicationCopies == o.maxApplicationCopies;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxStates, maxMemoryBytes, maxApplicationCopies);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Max states : " + maxStates + "\n");
+        sb.append("Max memory bytes : " + maxMemoryBytes + "\n");
+        sb.append("Max application copies : " + maxApplicationCopies);
+        return sb.toString();
+    }
+}
@@ -9,5 +9,6 @@ public class Messages {
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_MODULE_DISPLAYED_INDEX = "The module index provided is invalid";
     public static final String MESSAGE_MODULES_LISTED_OVERVIEW = "%1$d modules listed!";
+    public static final String MESSAGE_SIMILAR_CODES = "[Tip] Did you mean %1$s instead of %2$s?";
 
 }
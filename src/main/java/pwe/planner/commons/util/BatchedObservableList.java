@@ -0,0 +1,57 @@
+package pwe.planner.commons.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An {@code ObservableList} backed by an {@code ArrayList}, whose modifications can be grouped into batches.
+ * Modifications made between {@link #beginBatch()} and {@link #endBatch()} are visible immediately, but are reported
+ * to listeners as a single change when the outermost batch ends. Batches may be nested.
+ */
+public class BatchedObservableList<E> extends ModifiableObservableListBase<E> {
+    private final List<E> backingList = new ArrayList<>();
+
+    /**
+     * Starts a batch of modifications.
+     */
+    public void beginBatch() {
+        beginChange();
+    }
+
+    /**
+     * Ends the current batch of modifications.
+     * If this ends the outermost batch, all modifications made during the batch are reported as a single change.
+     *
+     * @throws IllegalStateException if there is no batch to end.
+     */
+    public void endBatch() {
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return backingList.get(index);
+    }
+
+    @Override
+    public int size() {
+        return backingList.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        backingList.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return backingList.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return backingList.remove(index);
+    }
+}
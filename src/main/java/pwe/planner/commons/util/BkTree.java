@@ -0,0 +1,206 @@
+package pwe.planner.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * A BK-tree of words, which finds the words within an edit distance of a given word without computing the edit
+ * distance to every word.
+ * <p>
+ * Every child of a node is indexed by its edit distance to the node, as computed by
+ * {@link StringUtil#getEditDistance(String, String)}. By the triangle inequality, the words within a distance of
+ * {@code maxDistance} of a word at a distance of {@code d} of a node can only be in the subtrees of the children
+ * indexed from {@code d - maxDistance} to {@code d + maxDistance}, so the other subtrees are skipped.
+ * <p>
+ * Removed words are only marked as removed, as their nodes are needed to reach their children, and the tree is
+ * rebuilt from the remaining words once there are more removed words than remaining words.
+ */
+public class BkTree {
+
+    private Node root;
+    private int size = 0;
+    private int removedCount = 0;
+
+    /**
+     * Adds {@code word} to the tree. Does nothing if {@code word} is already in the tree.
+     */
+    public void add(String word) {
+        requireNonNull(word);
+
+        if (root == null) {
+            root = new Node(word);
+            size++;
+            return;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = StringUtil.getEditDistance(word, node.word);
+            if (distance == 0) {
+                if (node.isRemoved) {
+                    node.isRemoved = false;
+                    removedCount--;
+                    size++;
+                }
+                return;
+            }
+
+            Node child = node.getChild(distance);
+            if (child == null) {
+                node.setChild(distance, new Node(word));
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Removes {@code word} from the tree. Does nothing if {@code word} is not in the tree.
+     */
+    public void remove(String word) {
+        requireNonNull(word);
+
+        Node node = root;
+        while (node != null) {
+            int distance = StringUtil.getEditDistance(word, node.word);
+            if (distance == 0) {
+                if (!node.isRemoved) {
+                    node.isRemoved = true;
+                    removedCount++;
+                    size--;
+                }
+                break;
+            }
+            node = node.getChild(distance);
+        }
+
+        if (removedCount > size) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Rebuilds the tree from the words which are not removed.
+     */
+    private void rebuild() {
+        List<String> words = new ArrayList<>();
+        Deque<Node> nodesToVisit = new ArrayDeque<>();
+        nodesToVisit.push(root);
+        while (!nodesToVisit.isEmpty()) {
+            Node node = nodesToVisit.pop();
+            if (!node.isRemoved) {
+                words.add(node.word);
+            }
+            for (Node child : node.children) {
+                if (child != null) {
+                    nodesToVisit.push(child);
+                }
+            }
+        }
+
+        clear();
+        words.forEach(this::add);
+    }
+
+    /**
+     * Returns up to {@code limit} words within an edit distance of {@code maxDistance} of {@code word}, nearest first.
+     * Words at the same distance are in lexicographical order.
+     */
+    public List<String> findNearest(String word, int maxDistance, int limit) {
+        requireNonNull(word);
+        checkArgument(maxDistance >= 0, "Maximum distance should not be negative.");
+        checkArgument(limit >= 0, "Limit should not be negative.");
+
+        List<Match> matches = new ArrayList<>();
+        Deque<Node> nodesToVisit = new ArrayDeque<>();
+        if (root != null) {
+            nodesToVisit.push(root);
+        }
+        while (!nodesToVisit.isEmpty()) {
+            Node node = nodesToVisit.pop();
+            int distance = StringUtil.getEditDistance(word, node.word);
+            if (distance <= maxDistance && !node.isRemoved) {
+                matches.add(new Match(node.word, distance));
+            }
+
+            int maxChildDistance = Math.min(distance + maxDistance, node.children.length - 1);
+            for (int childDistance = Math.max(1, distance - maxDistance); childDistance <= maxChildDistance;
+                    childDistance++) {
+                Node child = node.children[childDistance];
+                if (child != null) {
+                    nodesToVisit.push(child);
+                }
+            }
+        }
+
+        matches.sort(Comparator.comparingInt((Match match) -> match.distance).thenComparing(match -> match.word));
+        List<String> nearestWords = new ArrayList<>();
+        for (int i = 0; i < matches.size() && i < limit; i++) {
+            nearestWords.add(matches.get(i).word);
+        }
+        return nearestWords;
+    }
+
+    /**
+     * Removes all the words from the tree.
+     */
+    public void clear() {
+        root = null;
+        size = 0;
+        removedCount = 0;
+    }
+
+    /**
+     * Returns the number of words in the tree.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * A node of the tree, whose children are indexed by their edit distance to {@code word}.
+     */
+    private static class Node {
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private final String word;
+        private Node[] children = NO_CHILDREN;
+        private boolean isRemoved = false;
+
+        private Node(String word) {
+            this.word = word;
+        }
+
+        private Node getChild(int distance) {
+            return distance < children.length ? children[distance] : null;
+        }
+
+        private void setChild(int distance, Node child) {
+            if (distance >= children.length) {
+                children = Arrays.copyOf(children, distance + 1);
+            }
+            children[distance] = child;
+        }
+    }
+
+    /**
+     * A word found within the maximum distance of the searched word.
+     */
+    private static class Match {
+        private final String word;
+        private final int distance;
+
+        private Match(String word, int distance) {
+            this.word = word;
+            this.distance = distance;
+        }
+    }
+}
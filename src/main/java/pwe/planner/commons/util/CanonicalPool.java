@@ -0,0 +1,49 @@
+package pwe.planner.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A pool of canonical instances of an immutable value type, so that equal values share a single instance.
+ * <p>
+ * The first request for a key creates the instance with the factory of the pool, and later requests for the same key
+ * return that instance. If the factory throws an exception, nothing is added to the pool. Instances are never removed
+ * from the pool, so it should only be used for value types with a bounded number of distinct values in practice.
+ *
+ * @param <K> the type of the keys identifying the values
+ * @param <V> the type of the canonical values
+ */
+public class CanonicalPool<K, V> {
+
+    private final Map<K, V> canonicalValues = new ConcurrentHashMap<>();
+    private final Function<? super K, ? extends V> factory;
+
+    public CanonicalPool(Function<? super K, ? extends V> factory) {
+        requireNonNull(factory);
+
+        this.factory = factory;
+    }
+
+    /**
+     * Returns the canonical value for {@code key}, creating it if it is not in the pool yet.
+     */
+    public V get(K key) {
+        requireNonNull(key);
+
+        V canonicalValue = canonicalValues.get(key);
+        if (canonicalValue == null) {
+            canonicalValue = canonicalValues.computeIfAbsent(key, factory);
+        }
+        return canonicalValue;
+    }
+
+    /**
+     * Returns the number of canonical values in the pool.
+     */
+    public int size() {
+        return canonicalValues.size();
+    }
+}
@@ -0,0 +1,199 @@
+package pwe.planner.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.AppUtil.checkArgument;
+import static pwe.planner.commons.util.StringUtil.foldCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A compressed trie of words, which completes a prefix to the words starting with it.
+ * <p>
+ * Every edge of the trie is labelled with a string instead of a single character, and nodes with a single child are
+ * merged into their child, so the trie has at most twice as many nodes as words. Words are compared ignoring case,
+ * using the words folded by {@link StringUtil#foldCase(String)} as keys. Words which only differ in case are completed
+ * to the word added first.
+ * <p>
+ * The trie counts how many times every word is added, and a word is only removed once it has been removed as many
+ * times as it was added, so that words shared by several items can be maintained incrementally as the items change.
+ * Completing a prefix takes time proportional to the length of the prefix and the number of completions returned,
+ * regardless of the number of words in the trie.
+ */
+public class CompletionTrie {
+
+    private Node root = new Node("");
+    private int size = 0;
+
+    /**
+     * Adds {@code word} to the trie, or increases its count if it is already in the trie.
+     */
+    public void add(String word) {
+        requireNonNull(word);
+
+        String key = foldCase(word);
+        Node node = root;
+        int index = 0;
+        while (index < key.length()) {
+            Node child = node.children.get(key.charAt(index));
+            if (child == null) {
+                child = new Node(key.substring(index));
+                node.children.put(key.charAt(index), child);
+                node = child;
+                break;
+            }
+
+            int commonLength = getCommonPrefixLength(child.label, key, index);
+            if (commonLength < child.label.length()) {
+                // splits the edge to the child where the key leaves it
+                Node middle = new Node(child.label.substring(0, commonLength));
+                child.label = child.label.substring(commonLength);
+                middle.children.put(child.label.charAt(0), child);
+                node.children.put(middle.label.charAt(0), middle);
+                child = middle;
+            }
+            node = child;
+            index += commonLength;
+        }
+
+        if (node.count == 0) {
+            node.word = word;
+            size++;
+        }
+        node.count++;
+    }
+
+    /**
+     * Decreases the count of {@code word}, and removes it from the trie once its count reaches zero.
+     * Does nothing if {@code word} is not in the trie.
+     */
+    public void remove(String word) {
+        requireNonNull(word);
+
+        remove(root, foldCase(word), 0);
+    }
+
+    /**
+     * Decreases the count of the word with {@code key} in the subtrie of {@code node}, whose label ends at
+     * {@code index} of {@code key}, and removes or merges the nodes left without a word.
+     */
+    private void remove(Node node, String key, int index) {
+        if (index == key.length()) {
+            if (node.count > 0 && --node.count == 0) {
+                node.word = null;
+                size--;
+            }
+            return;
+        }
+
+        Node child = node.children.get(key.charAt(index));
+        if (child == null || !key.startsWith(child.label, index)) {
+            return;
+        }
+        remove(child, key, index + child.label.length());
+
+        if (child.count > 0) {
+            return;
+        }
+        if (child.children.isEmpty()) {
+            node.children.remove(key.charAt(index));
+        } else if (child.children.size() == 1) {
+            // merges the child, which no longer ends a word, into its only child
+            Node grandchild = child.children.values().iterator().next();
+            grandchild.label = child.label + grandchild.label;
+            node.children.put(key.charAt(index), grandchild);
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} words starting with {@code prefix}, ignoring case, in the order of their keys.
+     */
+    public List<String> complete(String prefix, int limit) {
+        requireNonNull(prefix);
+        checkArgument(limit >= 0, "Limit should not be negative.");
+
+        String key = foldCase(prefix);
+        Node node = root;
+        int index = 0;
+        while (index < key.length()) {
+            Node child = node.children.get(key.charAt(index));
+            if (child == null) {
+                return new ArrayList<>();
+            }
+
+            int commonLength = getCommonPrefixLength(child.label, key, index);
+            if (index + commonLength < key.length() && commonLength < child.label.length()) {
+                // the key leaves the edge to the child before it ends
+                return new ArrayList<>();
+            }
+            node = child;
+            index += commonLength;
+        }
+
+        List<String> completions = new ArrayList<>();
+        collectWords(node, completions, limit);
+        return completions;
+    }
+
+    /**
+     * Adds the words in the subtrie of {@code node} to {@code words} in the order of their keys, until {@code words}
+     * has {@code limit} words.
+     */
+    private static void collectWords(Node node, List<String> words, int limit) {
+        if (words.size() >= limit) {
+            return;
+        }
+        if (node.word != null) {
+            words.add(node.word);
+        }
+        for (Node child : node.children.values()) {
+            if (words.size() >= limit) {
+                return;
+            }
+            collectWords(child, words, limit);
+        }
+    }
+
+    /**
+     * Returns the length of the longest common prefix of {@code label} and {@code key} from {@code keyIndex}.
+     */
+    private static int getCommonPrefixLength(String label, String key, int keyIndex) {
+        int length = 0;
+        while (length < label.length() && keyIndex + length < key.length()
+                && label.charAt(length) == key.charAt(keyIndex + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * Removes all the words from the trie.
+     */
+    public void clear() {
+        root = new Node("");
+        size = 0;
+    }
+
+    /**
+     * Returns the number of distinct words in the trie.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * A node of the trie, which ends a word if {@code count} is positive.
+     */
+    private static class Node {
+        private final Map<Character, Node> children = new TreeMap<>();
+        private String label;
+        private String word;
+        private int count = 0;
+
+        private Node(String label) {
+            this.label = label;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package pwe.planner.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+
+/**
+ * A keyword which is prepared once to be matched approximately against the words of many strings.
+ * <p>
+ * Every word of the keyword must be close to some word of a string for the keyword to match the string, where two
+ * words are close if their edit distance, ignoring case, is at most {@link #getMaxEditDistance(String)} of the word of
+ * the keyword. Short words have to match exactly, as a single edit already turns them into unrelated words.
+ */
+public class FuzzyMatcher {
+
+    private static final int MAX_EXACT_WORD_LENGTH = 2;
+    private static final int MAX_SINGLE_EDIT_WORD_LENGTH = 5;
+
+    private final List<String> keywordWords;
+
+    public FuzzyMatcher(String keyword) {
+        requireNonNull(keyword);
+
+        keywordWords = StringUtil.getNormalizedWords(keyword);
+    }
+
+    /**
+     * Returns the words of the keyword, folded by {@link StringUtil#foldCase(String)}.
+     */
+    public List<String> getWords() {
+        return keywordWords;
+    }
+
+    /**
+     * Returns true if every word of the keyword is close to some word of {@code normalizedWords}, which are the words
+     * of a string folded by {@link StringUtil#foldCase(String)}.
+     *
+     * @throws IllegalArgumentException if the keyword is blank.
+     */
+    public boolean matches(List<String> normalizedWords) {
+        requireNonNull(normalizedWords);
+        checkArgument(!keywordWords.isEmpty(), "Keyword cannot be empty");
+
+        for (String keywordWord : keywordWords) {
+            if (!matchesAnyWord(keywordWord, normalizedWords)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the folded word of the keyword {@code keywordWord} is close to some word of
+     * {@code normalizedWords}.
+     */
+    private static boolean matchesAnyWord(String keywordWord, List<String> normalizedWords) {
+        for (int i = 0; i < normalizedWords.size(); i++) {
+            if (matchesWord(keywordWord, normalizedWords.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the largest edit distance at which a word is close to the word of the keyword {@code keywordWord}.
+     */
+    public static int getMaxEditDistance(String keywordWord) {
+        requireNonNull(keywordWord);
+
+        if (keywordWord.length() <= MAX_EXACT_WORD_LENGTH) {
+            return 0;
+        } else if (keywordWord.length() <= MAX_SINGLE_EDIT_WORD_LENGTH) {
+            return 1;
+        }
+        return 2;
+    }
+
+    /**
+     * Returns true if the folded word {@code word} is close to the folded word of the keyword {@code keywordWord}.
+     */
+    public static boolean matchesWord(String keywordWord, String word) {
+        requireNonNull(keywordWord);
+        requireNonNull(word);
+
+        int maxEditDistance = getMaxEditDistance(keywordWord);
+        // the edit distance is at least the difference in length
+        if (Math.abs(keywordWord.length() - word.length()) > maxEditDistance) {
+            return false;
+        }
+        return maxEditDistance == 0
+                ? keywordWord.equals(word)
+                : StringUtil.getEditDistance(keywordWord, word) <= maxEditDistance;
+    }
+}
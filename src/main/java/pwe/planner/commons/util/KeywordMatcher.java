@@ -0,0 +1,115 @@
+package pwe.planner.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+
+/**
+ * A keyword which is prepared once to be matched against many strings without allocating any objects.
+ * <p>
+ * A keyword of a single word matches a string if it is equal to a word of the string, and a keyword of more than one
+ * word matches a string if it is equal to the whole string. Both comparisons ignore case and leading and trailing
+ * whitespace, in the same way as {@link StringUtil#containsWordIgnoreCase(String, String)} and
+ * {@link StringUtil#compareEqualsIgnoreCase(String, String)}.
+ */
+public class KeywordMatcher {
+
+    private static final String WHITESPACE_REGEX = "\\s+";
+
+    private final boolean isSingleWord;
+    private final String preppedKeyword;
+    private final String foldedKeyword;
+
+    public KeywordMatcher(String keyword) {
+        requireNonNull(keyword);
+
+        isSingleWord = keyword.split(WHITESPACE_REGEX).length == 1;
+        preppedKeyword = keyword.trim();
+        foldedKeyword = StringUtil.foldCase(preppedKeyword);
+    }
+
+    /**
+     * Returns true if the keyword matches {@code string}.
+     *
+     * @throws IllegalArgumentException if the keyword is blank, or if the keyword has more than one word and
+     *         {@code string} is blank.
+     */
+    public boolean matches(String string) {
+        requireNonNull(string);
+        checkArgument(!preppedKeyword.isEmpty(), "Keyword cannot be empty");
+
+        if (!isSingleWord) {
+            return matchesWholeString(string);
+        }
+
+        int length = string.length();
+        int wordLength = preppedKeyword.length();
+        int index = 0;
+        while (index < length) {
+            while (index < length && isWhitespace(string.charAt(index))) {
+                index++;
+            }
+            int wordStartIndex = index;
+            while (index < length && !isWhitespace(string.charAt(index))) {
+                index++;
+            }
+            if (index - wordStartIndex == wordLength
+                    && string.regionMatches(true, wordStartIndex, preppedKeyword, 0, wordLength)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if the keyword matches {@code string}, whose words folded by {@link StringUtil#foldCase(String)}
+     * are {@code normalizedWords}.
+     * A keyword of a single word is only compared with {@code normalizedWords}.
+     *
+     * @throws IllegalArgumentException if the keyword is blank, or if the keyword has more than one word and
+     *         {@code string} is blank.
+     */
+    public boolean matches(String string, List<String> normalizedWords) {
+        requireNonNull(string);
+        requireNonNull(normalizedWords);
+        checkArgument(!preppedKeyword.isEmpty(), "Keyword cannot be empty");
+
+        if (!isSingleWord) {
+            return matchesWholeString(string);
+        }
+
+        for (int i = 0; i < normalizedWords.size(); i++) {
+            if (foldedKeyword.equals(normalizedWords.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if {@code string} without leading and trailing whitespace is equal to the keyword, ignoring case.
+     */
+    private boolean matchesWholeString(String string) {
+        int startIndex = 0;
+        int endIndex = string.length();
+        // skips the same characters as String#trim()
+        while (startIndex < endIndex && string.charAt(startIndex) <= ' ') {
+            startIndex++;
+        }
+        while (startIndex < endIndex && string.charAt(endIndex - 1) <= ' ') {
+            endIndex--;
+        }
+        checkArgument(startIndex < endIndex, "String cannot be empty");
+
+        return endIndex - startIndex == preppedKeyword.length()
+                && string.regionMatches(true, startIndex, preppedKeyword, 0, preppedKeyword.length());
+    }
+
+    /**
+     * Returns true if {@code c} is a whitespace character as defined by {@code \s} in regular expressions.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
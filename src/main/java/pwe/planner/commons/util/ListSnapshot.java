@@ -0,0 +1,248 @@
+package pwe.planner.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * An immutable copy of a list, stored as chunks of up to {@link #CHUNK_SIZE} elements.
+ * <p>
+ * A new snapshot of a list can be derived from an older snapshot of the same list, reusing every chunk of the older
+ * snapshot whose elements have not changed since. Consecutive snapshots of a list which is mostly unchanged thus share
+ * most of their memory, and deriving a snapshot only copies the elements of the changed chunks.
+ * <p>
+ * Chunks do not all have the same size, so that inserting or removing an element only changes the chunk holding it,
+ * rather than shifting the elements of every following chunk. Changed chunks which became too small are copied
+ * together with a neighbouring chunk, so that the chunks do not keep getting smaller as elements are removed.
+ */
+public final class ListSnapshot<T> extends AbstractList<T> implements RandomAccess {
+    public static final int CHUNK_SIZE = 32;
+
+    // Rough sizes used to estimate the memory used by a snapshot
+    private static final long CHUNK_OVERHEAD_BYTES = 16;
+    private static final long REFERENCE_BYTES = 8;
+    private static final long ELEMENT_BYTES = 512;
+
+    private static final ListSnapshot<?> EMPTY = new ListSnapshot<>(new Object[0][], new int[] {0});
+
+    private final Object[][] chunks;
+    /** The position of the first element of every chunk, followed by the size of the snapshot. */
+    private final int[] chunkStarts;
+
+    private ListSnapshot(Object[][] chunks, int[] chunkStarts) {
+        this.chunks = chunks;
+        this.chunkStarts = chunkStarts;
+    }
+
+    /**
+     * Returns an empty snapshot.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ListSnapshot<T> empty() {
+        return (ListSnapshot<T>) EMPTY;
+    }
+
+    /**
+     * Returns a snapshot of the current contents of {@code list}, where this snapshot is an older snapshot of
+     * {@code list} whose elements have only been replaced or added at the end since. Chunks of this snapshot are
+     * reused, unless they are marked in {@code changedChunks} or are not entirely within {@code list}.
+     */
+    public ListSnapshot<T> update(List<? extends T> list, BitSet changedChunks) {
+        requireNonNull(list);
+        requireNonNull(changedChunks);
+
+        int chunkCount = 0;
+        while (chunkCount < chunks.length && chunkStarts[chunkCount + 1] <= list.size()) {
+            chunkCount++;
+        }
+        return update(list, chunkStarts, chunkCount, changedChunks);
+    }
+
+    /**
+     * Returns a snapshot of the current contents of {@code list}, where this snapshot is an older snapshot of
+     * {@code list}.
+     * <p>
+     * The first {@code chunkCount} chunks of this snapshot now hold the elements of {@code list} from
+     * {@code chunkStarts[i]} (inclusive) to {@code chunkStarts[i + 1]} (exclusive), and the elements from
+     * {@code chunkStarts[chunkCount]} onwards have been added since. A chunk is reused if it is not marked in
+     * {@code changedChunks} and still holds the same number of elements.
+     */
+    ListSnapshot<T> update(List<? extends T> list, int[] chunkStarts, int chunkCount, BitSet changedChunks) {
+        List<Object[]> newChunks = new ArrayList<>(chunkCount + 1);
+        boolean isLastChunkReused = false;
+        int copyFrom = 0;
+        for (int i = 0; i < chunkCount; i++) {
+            int from = chunkStarts[i];
+            int length = chunkStarts[i + 1] - from;
+            boolean isReusable = i < chunks.length && !changedChunks.get(i) && chunks[i].length == length;
+            int copyLength = from - copyFrom;
+            if (!isReusable || (copyLength > 0 && copyLength < CHUNK_SIZE / 2)) {
+                // the chunk is copied, or absorbed by the small copied chunk before it
+                continue;
+            }
+
+            isLastChunkReused = copyChunks(list, copyFrom, from, newChunks, isLastChunkReused);
+            newChunks.add(chunks[i]);
+            isLastChunkReused = true;
+            copyFrom = from + length;
+        }
+        copyChunks(list, copyFrom, list.size(), newChunks, isLastChunkReused);
+
+        int[] newChunkStarts = new int[newChunks.size() + 1];
+        for (int i = 0; i < newChunks.size(); i++) {
+            newChunkStarts[i + 1] = newChunkStarts[i] + newChunks.get(i).length;
+        }
+        return new ListSnapshot<>(newChunks.toArray(new Object[0][]), newChunkStarts);
+    }
+
+    /**
+     * Copies the elements of {@code list} from {@code from} (inclusive) to {@code to} (exclusive) into new chunks of
+     * roughly the same size, which are added to {@code newChunks}. If there are too few elements to fill half a chunk,
+     * they are merged with the last chunk of {@code newChunks} when that chunk is reused and has room for them.
+     *
+     * @return true if the last chunk of {@code newChunks} is still reused from this snapshot.
+     */
+    private static boolean copyChunks(List<?> list, int from, int to, List<Object[]> newChunks,
+            boolean isLastChunkReused) {
+        if (from == to) {
+            return isLastChunkReused;
+        }
+
+        if (to - from < CHUNK_SIZE / 2 && isLastChunkReused
+                && newChunks.get(newChunks.size() - 1).length + to - from <= CHUNK_SIZE) {
+            from -= newChunks.remove(newChunks.size() - 1).length;
+        }
+
+        int chunkCount = (to - from + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        for (int i = 0; i < chunkCount; i++) {
+            int chunkFrom = from + (int) ((long) (to - from) * i / chunkCount);
+            int chunkTo = from + (int) ((long) (to - from) * (i + 1) / chunkCount);
+            newChunks.add(list.subList(chunkFrom, chunkTo).toArray());
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of chunks of this snapshot.
+     */
+    int getChunkCount() {
+        return chunks.length;
+    }
+
+    /**
+     * Returns a copy of the position of the first element of every chunk, followed by the size of the snapshot.
+     */
+    int[] copyChunkStarts() {
+        return chunkStarts.clone();
+    }
+
+    /**
+     * Returns the number of chunks of this snapshot which are the same objects as chunks of {@code other}.
+     */
+    int countSharedChunks(ListSnapshot<?> other) {
+        requireNonNull(other);
+
+        Set<Object[]> otherChunks = getChunkSet(other);
+        int sharedChunks = 0;
+        for (Object[] chunk : chunks) {
+            if (otherChunks.contains(chunk)) {
+                sharedChunks++;
+            }
+        }
+        return sharedChunks;
+    }
+
+    /**
+     * Returns a rough estimate of the number of bytes of memory used by this snapshot that are not shared with
+     * {@code neighbour}, an older or newer snapshot of the same list. If {@code neighbour} is null, the estimate covers
+     * the entire snapshot.
+     * <p>
+     * Chunks shared with {@code neighbour} are free, while every other chunk is charged for its array and for every
+     * element that is not also in a chunk of {@code neighbour} which is not shared with this snapshot. As unchanged
+     * elements are only moved into new chunks together with the chunks around them, this only charges the elements
+     * that are not in {@code neighbour}.
+     */
+    public long estimateBytes(ListSnapshot<?> neighbour) {
+        if (neighbour == null) {
+            return estimateChunkBytes() + ELEMENT_BYTES * size();
+        }
+
+        Set<Object[]> neighbourChunks = getChunkSet(neighbour);
+        Set<Object[]> currentChunks = getChunkSet(this);
+        Set<Object> neighbourElements = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Object[] neighbourChunk : neighbour.chunks) {
+            if (!currentChunks.contains(neighbourChunk)) {
+                neighbourElements.addAll(Arrays.asList(neighbourChunk));
+            }
+        }
+
+        long bytes = 0;
+        for (Object[] chunk : chunks) {
+            if (neighbourChunks.contains(chunk)) {
+                continue;
+            }
+
+            bytes += CHUNK_OVERHEAD_BYTES + REFERENCE_BYTES * chunk.length;
+            for (Object element : chunk) {
+                if (!neighbourElements.contains(element)) {
+                    bytes += ELEMENT_BYTES;
+                }
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns a rough estimate of the number of bytes of memory used by the chunks of this snapshot, without their
+     * elements, for a snapshot whose elements are kept in memory by the list it was taken of anyway.
+     */
+    public long estimateChunkBytes() {
+        return CHUNK_OVERHEAD_BYTES * chunks.length + REFERENCE_BYTES * size();
+    }
+
+    /**
+     * Returns the set of the chunks of {@code snapshot}, compared by identity.
+     */
+    private static Set<Object[]> getChunkSet(ListSnapshot<?> snapshot) {
+        Set<Object[]> chunkSet = Collections.newSetFromMap(new IdentityHashMap<>(snapshot.chunks.length));
+        chunkSet.addAll(Arrays.asList(snapshot.chunks));
+        return chunkSet;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+
+        int chunk = Arrays.binarySearch(chunkStarts, 0, chunks.length, index);
+        if (chunk < 0) {
+            // the index is within the chunk starting before the insertion point
+            chunk = -chunk - 2;
+        }
+        return (T) chunks[chunk][index - chunkStarts[chunk]];
+    }
+
+    @Override
+    public int size() {
+        return chunkStarts[chunks.length];
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] elements = new Object[size()];
+        for (int i = 0; i < chunks.length; i++) {
+            System.arraycopy(chunks[i], 0, elements, chunkStarts[i], chunks[i].length);
+        }
+        return elements;
+    }
+}
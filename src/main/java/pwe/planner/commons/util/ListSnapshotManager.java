@@ -0,0 +1,137 @@
+package pwe.planner.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Takes {@link ListSnapshot snapshots} of a list, keeping track of the chunks of the last snapshot that have changed
+ * since the last snapshot so that unchanged chunks can be shared with the last snapshot.
+ * <p>
+ * The manager follows which positions of the list every chunk of the last snapshot now covers. Adding or removing an
+ * element only grows or shrinks the chunk holding it and moves the start of every following chunk by one, so the
+ * chunks after the element are still shared by the next snapshot. Elements added after the last chunk are copied into
+ * new chunks.
+ * <p>
+ * The owner of the list must report every modification of the list to this manager.
+ */
+public class ListSnapshotManager<T> {
+    private final List<T> list;
+    private final BitSet changedChunks = new BitSet();
+    private ListSnapshot<T> lastSnapshot = ListSnapshot.empty();
+    /** The position of the list at which every chunk of the last snapshot now starts, followed by their end. */
+    private int[] chunkStarts = lastSnapshot.copyChunkStarts();
+    private int chunkCount = 0;
+
+    public ListSnapshotManager(List<T> list) {
+        requireNonNull(list);
+
+        this.list = list;
+    }
+
+    /**
+     * Records that the element at {@code index} of the list has been replaced.
+     */
+    public void markChanged(int index) {
+        int chunk = findChunk(index);
+        if (chunk != -1) {
+            changedChunks.set(chunk);
+        }
+    }
+
+    /**
+     * Records that an element has been inserted at {@code index} of the list.
+     */
+    public void markAdded(int index) {
+        int end = chunkStarts[chunkCount];
+        int chunk;
+        if (index < end) {
+            chunk = findChunk(index);
+        } else if (index == end && chunkCount > 0 && end - chunkStarts[chunkCount - 1] < ListSnapshot.CHUNK_SIZE) {
+            // an element added right after the last chunk grows the last chunk while it has room
+            chunk = chunkCount - 1;
+        } else {
+            // the element is copied into a new chunk by the next snapshot
+            return;
+        }
+
+        changedChunks.set(chunk);
+        for (int i = chunk + 1; i <= chunkCount; i++) {
+            chunkStarts[i]++;
+        }
+    }
+
+    /**
+     * Records that the element at {@code index} of the list has been removed.
+     */
+    public void markRemoved(int index) {
+        int chunk = findChunk(index);
+        if (chunk == -1) {
+            return;
+        }
+
+        changedChunks.set(chunk);
+        for (int i = chunk + 1; i <= chunkCount; i++) {
+            chunkStarts[i]--;
+        }
+    }
+
+    /**
+     * Returns the chunk of the last snapshot now covering {@code index} of the list, or -1 if {@code index} is after
+     * the chunks of the last snapshot.
+     */
+    private int findChunk(int index) {
+        if (index >= chunkStarts[chunkCount]) {
+            return -1;
+        }
+
+        // chunks which lost all their elements share their start with the next chunk, so the last of them is found
+        int low = 0;
+        int high = chunkCount - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (chunkStarts[middle] <= index) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Records that the entire list has been replaced.
+     */
+    public void markAllChanged() {
+        resetChunks(ListSnapshot.empty());
+    }
+
+    /**
+     * Records that the contents of the list have been replaced by the contents of {@code snapshot},
+     * so that the next snapshot can share the chunks of {@code snapshot}.
+     */
+    public void markRestored(ListSnapshot<T> snapshot) {
+        requireNonNull(snapshot);
+
+        resetChunks(snapshot);
+    }
+
+    /**
+     * Returns a snapshot of the current contents of the list.
+     */
+    public ListSnapshot<T> takeSnapshot() {
+        resetChunks(lastSnapshot.update(list, chunkStarts, chunkCount, changedChunks));
+        return lastSnapshot;
+    }
+
+    /**
+     * Makes {@code snapshot} the last snapshot, whose chunks cover the list as they do in {@code snapshot}.
+     */
+    private void resetChunks(ListSnapshot<T> snapshot) {
+        lastSnapshot = snapshot;
+        chunkStarts = snapshot.copyChunkStarts();
+        chunkCount = snapshot.getChunkCount();
+        changedChunks.clear();
+    }
+}
@@ -0,0 +1,165 @@
+package pwe.planner.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set that keeps its elements in a sorted array sized exactly to the number of elements.
+ * <p>
+ * Membership is tested by binary search and elements are iterated in their natural order. As the set never changes,
+ * its hash code is computed once. Compared to a {@code HashSet}, no hash table or entry objects are allocated, which
+ * makes it suitable for the many small sets held by the items of a large list. Does not allow nulls.
+ *
+ * @param <E> the type of elements in this set
+ */
+public final class SortedArraySet<E extends Comparable<? super E>> extends AbstractSet<E> {
+
+    private static final SortedArraySet<?> EMPTY_SET = new SortedArraySet<>(new Object[0]);
+
+    private final Object[] elements;
+    private final int hashCode;
+
+    private SortedArraySet(Object[] elements) {
+        this.elements = elements;
+
+        int elementsHashCode = 0;
+        for (Object element : elements) {
+            elementsHashCode += element.hashCode();
+        }
+        hashCode = elementsHashCode;
+    }
+
+    /**
+     * Returns an immutable set containing the elements of {@code elements}.
+     * Elements that are equal according to their natural order are only kept once.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Comparable<? super E>> SortedArraySet<E> copyOf(Collection<? extends E> elements) {
+        requireNonNull(elements);
+
+        if (elements instanceof SortedArraySet) {
+            return (SortedArraySet<E>) elements;
+        }
+
+        Object[] sortedElements = elements.toArray();
+        if (sortedElements.length == 0) {
+            return (SortedArraySet<E>) EMPTY_SET;
+        }
+        requireAllNonNull(sortedElements);
+        Arrays.sort(sortedElements);
+
+        // removes the elements equal to the element before them
+        int size = 1;
+        for (int i = 1; i < sortedElements.length; i++) {
+            if (((E) sortedElements[size - 1]).compareTo((E) sortedElements[i]) != 0) {
+                sortedElements[size++] = sortedElements[i];
+            }
+        }
+        return new SortedArraySet<>(Arrays.copyOf(sortedElements, size));
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (o == null) {
+            return false;
+        }
+
+        try {
+            return Arrays.binarySearch(elements, o) >= 0;
+        } catch (ClassCastException cce) {
+            // an object of another type is never an element of this set
+            return false;
+        }
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int nextIndex = 0;
+
+            @Override
+            public boolean hasNext() {
+                return nextIndex < elements.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return (E) elements[nextIndex++];
+            }
+        };
+    }
+
+    @Override
+    public Object[] toArray() {
+        return elements.clone();
+    }
+
+    @Override
+    public boolean add(E e) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (other instanceof SortedArraySet) {
+            SortedArraySet<?> otherSet = (SortedArraySet<?>) other;
+            return hashCode == otherSet.hashCode && Arrays.equals(elements, otherSet.elements);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
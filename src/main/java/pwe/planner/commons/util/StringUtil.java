@@ -6,7 +6,9 @@ import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -108,4 +110,62 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns {@code string} with every character folded to the same case, so that two strings are equal ignoring
+     * case as defined by {@link String#equalsIgnoreCase(String)} if and only if their folded strings are equal.
+     */
+    public static String foldCase(String string) {
+        requireNonNull(string);
+
+        char[] characters = string.toCharArray();
+        for (int i = 0; i < characters.length; i++) {
+            characters[i] = Character.toLowerCase(Character.toUpperCase(characters[i]));
+        }
+        return new String(characters);
+    }
+
+    /**
+     * Returns the words of {@code sentence}, separated by whitespace, folded by {@link #foldCase(String)}.
+     * The returned list is immutable, and can be safely shared between threads.
+     */
+    public static List<String> getNormalizedWords(String sentence) {
+        requireNonNull(sentence);
+
+        List<String> normalizedWords = new ArrayList<>();
+        for (String word : sentence.split("\\s+")) {
+            if (!word.isEmpty()) {
+                normalizedWords.add(foldCase(word));
+            }
+        }
+        return List.of(normalizedWords.toArray(new String[0]));
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code stringA} and {@code stringB}, which is the least number of
+     * characters to insert, delete or substitute to change one string into the other. Case is not ignored.
+     */
+    public static int getEditDistance(String stringA, String stringB) {
+        requireNonNull(stringA);
+        requireNonNull(stringB);
+
+        // only the previous row of the distances between the prefixes of the strings is kept
+        int[] previousRow = new int[stringB.length() + 1];
+        int[] currentRow = new int[stringB.length() + 1];
+        for (int j = 0; j <= stringB.length(); j++) {
+            previousRow[j] = j;
+        }
+        for (int i = 1; i <= stringA.length(); i++) {
+            currentRow[0] = i;
+            for (int j = 1; j <= stringB.length(); j++) {
+                int substitutionCost = stringA.charAt(i - 1) == stringB.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(previousRow[j - 1] + substitutionCost,
+                        Math.min(previousRow[j], currentRow[j - 1]) + 1);
+            }
+            int[] row = previousRow;
+            previousRow = currentRow;
+            currentRow = row;
+        }
+        return previousRow[stringB.length()];
+    }
 }
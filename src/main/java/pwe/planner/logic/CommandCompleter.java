@@ -0,0 +1,93 @@
+package pwe.planner.logic;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.logic.parser.CliSyntax.OPERATOR_LEFT_BRACKET;
+import static pwe.planner.logic.parser.CliSyntax.PREFIXES;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_CODE;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_COREQUISITE;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import pwe.planner.commons.util.CompletionTrie;
+import pwe.planner.logic.parser.CommandParser;
+import pwe.planner.logic.parser.Prefix;
+import pwe.planner.model.Model;
+
+/**
+ * Completes the last word of partially entered commands.
+ * <p>
+ * The first word of a command is completed to the command words, a word starting with the prefix of a module code or
+ * a tag is completed to the codes or tag names of the modules in the model, and any other word is completed to the
+ * prefixes. The command words and prefixes are kept in tries built once, and the module codes and tag names in tries
+ * maintained by the model as modules change, so completing a word does not depend on the number of modules.
+ */
+public class CommandCompleter {
+
+    public static final int MAX_COMPLETIONS = 10;
+
+    private final Model model;
+    private final CompletionTrie commandWords = new CompletionTrie();
+    private final CompletionTrie prefixes = new CompletionTrie();
+
+    public CommandCompleter(Model model) {
+        requireNonNull(model);
+
+        this.model = model;
+        CommandParser.COMMAND_WORDS.forEach(commandWords::add);
+        PREFIXES.stream().map(Prefix::getPrefix).forEach(prefixes::add);
+    }
+
+    /**
+     * Returns up to {@link #MAX_COMPLETIONS} completions of {@code commandText}, each of which is {@code commandText}
+     * with its last word completed, in lexicographical order of the completed words.
+     * Returns an empty list if {@code commandText} ends with a whitespace or bracket, as there is no word to complete.
+     */
+    public List<String> getCompletions(String commandText) {
+        requireNonNull(commandText);
+
+        int wordStartIndex = getLastWordStartIndex(commandText);
+        String word = commandText.substring(wordStartIndex);
+        if (word.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        String completedText = commandText.substring(0, wordStartIndex);
+        List<String> completions = new ArrayList<>();
+        if (completedText.trim().isEmpty()) {
+            commandWords.complete(word, MAX_COMPLETIONS)
+                    .forEach(commandWord -> completions.add(completedText + commandWord));
+        } else if (startsWithPrefix(word, PREFIX_CODE) || startsWithPrefix(word, PREFIX_COREQUISITE)) {
+            String prefix = word.substring(0, word.indexOf('/') + 1);
+            model.completeModuleCode(word.substring(prefix.length()), MAX_COMPLETIONS)
+                    .forEach(code -> completions.add(completedText + prefix + code));
+        } else if (startsWithPrefix(word, PREFIX_TAG)) {
+            model.completeTagName(word.substring(PREFIX_TAG.getPrefix().length()), MAX_COMPLETIONS)
+                    .forEach(tagName -> completions.add(completedText + PREFIX_TAG.getPrefix() + tagName));
+        } else {
+            prefixes.complete(word, MAX_COMPLETIONS).forEach(prefix -> completions.add(completedText + prefix));
+        }
+        return completions;
+    }
+
+    /**
+     * Returns the index of {@code commandText} at which its last word starts, after the last whitespace or left
+     * bracket.
+     */
+    private static int getLastWordStartIndex(String commandText) {
+        int index = commandText.length();
+        while (index > 0 && !Character.isWhitespace(commandText.charAt(index - 1))
+                && !commandText.startsWith(OPERATOR_LEFT_BRACKET, index - 1)) {
+            index--;
+        }
+        return index;
+    }
+
+    /**
+     * Returns true if {@code word} starts with {@code prefix}.
+     */
+    private static boolean startsWithPrefix(String word, Prefix prefix) {
+        return word.startsWith(prefix.getPrefix());
+    }
+}
@@ -1,6 +1,7 @@
 package pwe.planner.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
@@ -44,12 +45,34 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of modules */
     ObservableList<RequirementCategory> getFilteredRequirementCategoryList();
 
+    /**
+     * Returns the total credits of the modules in the given degreePlanner.
+     *
+     * @see Model#getDegreePlannerCredits(DegreePlanner)
+     */
+    int getDegreePlannerCredits(DegreePlanner degreePlanner);
+
+    /**
+     * Returns the total credits of the modules in the given requirement category.
+     *
+     * @see Model#getRequirementCategoryCredits(RequirementCategory)
+     */
+    int getRequirementCategoryCredits(RequirementCategory requirementCategory);
+
     /**
      * Returns an unmodifiable view of the list of commands entered by the user.
      * The list is ordered from the least recent command to the most recent command.
      */
     ObservableList<String> getHistory();
 
+    /**
+     * Returns the completions of the last word of {@code commandText}, each of which is {@code commandText} with its
+     * last word completed.
+     *
+     * @see CommandCompleter#getCompletions(String)
+     */
+    List<String> getCompletions(String commandText);
+
     /**
      * Returns the user prefs' module list file path.
      */
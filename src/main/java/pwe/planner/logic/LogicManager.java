@@ -5,6 +5,7 @@ import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.beans.property.ReadOnlyProperty;
@@ -34,6 +35,7 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final CommandHistory history;
     private final CommandParser commandParser;
+    private final CommandCompleter commandCompleter;
     private boolean applicationModified;
 
     public LogicManager(Model model, Storage storage) {
@@ -43,6 +45,7 @@ public class LogicManager implements Logic {
         this.storage = storage;
         history = new CommandHistory();
         commandParser = new CommandParser();
+        commandCompleter = new CommandCompleter(model);
 
         // Set applicationModified to true whenever the models' application is modified.
         model.getApplication().addListener(observable -> applicationModified = true);
@@ -95,11 +98,28 @@ public class LogicManager implements Logic {
         return model.getFilteredRequirementCategoryList();
     }
 
+    @Override
+    public int getDegreePlannerCredits(DegreePlanner degreePlanner) {
+        return model.getDegreePlannerCredits(degreePlanner);
+    }
+
+    @Override
+    public int getRequirementCategoryCredits(RequirementCategory requirementCategory) {
+        return model.getRequirementCategoryCredits(requirementCategory);
+    }
+
     @Override
     public ObservableList<String> getHistory() {
         return history.getHistory();
     }
 
+    @Override
+    public List<String> getCompletions(String commandText) {
+        requireNonNull(commandText);
+
+        return commandCompleter.getCompletions(commandText);
+    }
+
     @Override
     public Path getModuleListFilePath() {
         return model.getModuleListFilePath();
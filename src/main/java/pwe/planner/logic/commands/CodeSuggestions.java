@@ -0,0 +1,40 @@
+package pwe.planner.logic.commands;
+
+import static pwe.planner.commons.core.Messages.MESSAGE_SIMILAR_CODES;
+import static pwe.planner.commons.util.StringUtil.joinStreamAsString;
+
+import java.util.Collection;
+import java.util.List;
+
+import pwe.planner.model.Model;
+import pwe.planner.model.module.Code;
+
+/**
+ * Suggests the existing codes most similar to codes which do not exist, to be shown when a command rejects them.
+ */
+class CodeSuggestions {
+
+    static final int MAX_SUGGESTIONS_PER_CODE = 3;
+    private static final String SUGGESTION_DELIMITER = " or ";
+
+    private CodeSuggestions() {}
+
+    /**
+     * Returns a tip suggesting the codes of the modules in {@code model} most similar to each of
+     * {@code nonExistentCodes}, on a new line for every code, or an empty string if there are no similar codes.
+     */
+    static String getSuggestionTip(Model model, Collection<Code> nonExistentCodes) {
+        assert model != null;
+        assert nonExistentCodes != null;
+
+        StringBuilder tip = new StringBuilder();
+        nonExistentCodes.stream().sorted().forEach(code -> {
+            List<Code> similarCodes = model.getSimilarModuleCodes(code, MAX_SUGGESTIONS_PER_CODE);
+            if (!similarCodes.isEmpty()) {
+                tip.append('\n').append(String.format(MESSAGE_SIMILAR_CODES,
+                        joinStreamAsString(similarCodes.stream(), SUGGESTION_DELIMITER), code));
+            }
+        });
+        return tip.toString();
+    }
+}
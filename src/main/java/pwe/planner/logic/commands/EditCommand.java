@@ -138,13 +138,12 @@ public class EditCommand extends Command {
         model.commitApplication();
 
         // Get latest copy of edited module after cascading changes
-        Optional<Module> editedModuleInModuleList = model.getFilteredModuleList().stream()
-                .filter(module -> editedModule.getCode().equals(module.getCode())).findFirst();
+        Module editedModuleInModuleList = model.getModuleByCode(editedModule.getCode());
 
-        assert editedModuleInModuleList.isPresent();
+        assert editedModuleInModuleList != null;
 
         String successMessage = String.format(MESSAGE_EDIT_MODULE_SUCCESS, moduleToEdit.getCode(),
-                editedModuleInModuleList.get());
+                editedModuleInModuleList);
         return new CommandResult(successMessage);
     }
 
@@ -210,7 +209,8 @@ public class EditCommand extends Command {
 
         if (!nonExistentCorequisites.isEmpty()) {
             String exceptionMessage = String.format(MESSAGE_NON_EXISTENT_COREQUISITE, moduleToEdit.getCode(),
-                    joinStreamAsString(nonExistentCorequisites.stream().sorted()));
+                    joinStreamAsString(nonExistentCorequisites.stream().sorted()))
+                    + CodeSuggestions.getSuggestionTip(model, nonExistentCorequisites);
             throw new CommandException(exceptionMessage);
         }
     }
@@ -313,7 +313,7 @@ public class EditCommand extends Command {
             return;
         }
 
-        if (!editedModule.getSemesters().contains(degreePlannerContainingModuleToEdit.getSemester())) {
+        if (!editedModule.isOfferedIn(degreePlannerContainingModuleToEdit.getSemester())) {
             String semestersToEdit = joinStreamAsString(moduleToEdit.getSemesters().stream().sorted());
             String editedSemesters = joinStreamAsString(editedModule.getSemesters().stream().sorted());
             String exceptionMessage = String.format(MESSAGE_INVALID_SEMESTER, moduleToEdit.getCode(), semestersToEdit,
@@ -8,6 +8,7 @@ import static pwe.planner.logic.parser.CliSyntax.OPERATOR_OR;
 import static pwe.planner.logic.parser.CliSyntax.OPERATOR_RIGHT_BRACKET;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_CODE;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_CREDITS;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_FUZZY_NAME;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_NAME;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_SEMESTER;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_TAG;
@@ -37,10 +38,13 @@ public class FindCommand extends Command {
             + "OPERATOR "
             + "[" + PREFIX_SEMESTER + "SEMESTER] "
             + "OPERATOR "
-            + "[" + PREFIX_TAG + "TAG]\n"
+            + "[" + PREFIX_TAG + "TAG] "
+            + "OPERATOR "
+            + "[" + PREFIX_FUZZY_NAME + "NAME]\n"
             + "OPERATOR " + OPERATOR_AND + " for logical \"AND\" operation (both conditions A AND B must match)\n"
             + "OPERATOR " + OPERATOR_OR + " for logical \"OR\" operation (either conditions A OR B must match)\n"
             + "You can also use parenthesis to group what search conditions to evaluate first.\n"
+            + PREFIX_FUZZY_NAME + " matches names approximately, so that every word of NAME may have a typo.\n"
             + "Example 1 " + COMMAND_WORD + " " + PREFIX_NAME + "Programming " + OPERATOR_OR + " "
             + PREFIX_NAME + "Data\n"
             + "Example 2: " + COMMAND_WORD + " " + PREFIX_NAME + "Programming " + OPERATOR_AND + " "
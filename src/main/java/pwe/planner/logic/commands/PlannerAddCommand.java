@@ -78,16 +78,13 @@ public class PlannerAddCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
 
-        DegreePlanner selectedDegreePlanner = model.getApplication().getDegreePlannerList().stream()
-                .filter(degreePlanner -> (degreePlanner.getYear().equals(yearToAddTo)
-                        && degreePlanner.getSemester().equals(semesterToAddTo))).findFirst().orElse(null);
+        DegreePlanner selectedDegreePlanner = model.getDegreePlanner(yearToAddTo, semesterToAddTo);
         if (selectedDegreePlanner == null) {
             throw new CommandException(String.format(MESSAGE_NONEXISTENT_DEGREE_PLANNER, yearToAddTo, semesterToAddTo));
         }
 
-        Set<Code> duplicatePlannerCodes = codesToAdd.stream().filter(codesToCheck -> model.getApplication()
-                .getDegreePlannerList().stream().map(DegreePlanner::getCodes)
-                .anyMatch(selectedPlannerCodes -> selectedPlannerCodes.contains(codesToCheck)))
+        Set<Code> duplicatePlannerCodes = codesToAdd.stream()
+                .filter(codeToCheck -> model.getDegreePlannerByCode(codeToCheck) != null)
                 .collect(Collectors.toSet());
         if (!duplicatePlannerCodes.isEmpty()) {
             // Converts a set to a string to remove the brackets of set.
@@ -99,11 +96,13 @@ public class PlannerAddCommand extends Command {
                 .filter(codeToCheck -> !model.hasModuleCode(codeToCheck)).collect(Collectors.toSet());
         if (!nonExistentModuleCodes.isEmpty()) {
             String nonExistentModuleString = StringUtil.joinStreamAsString(nonExistentModuleCodes.stream().sorted());
-            throw new CommandException(String.format(MESSAGE_NONEXISTENT_MODULES, nonExistentModuleString));
+            throw new CommandException(String.format(MESSAGE_NONEXISTENT_MODULES, nonExistentModuleString)
+                    + CodeSuggestions.getSuggestionTip(model, nonExistentModuleCodes));
         }
 
-        Set<Code> invalidSemesterCodes = codesToAdd.stream().filter(codeToCheck -> !model.getModuleByCode(codeToCheck)
-                        .getSemesters().contains(semesterToAddTo)).collect(Collectors.toSet());
+        Set<Code> invalidSemesterCodes = codesToAdd.stream()
+                .filter(codeToCheck -> !model.getModuleByCode(codeToCheck).isOfferedIn(semesterToAddTo))
+                .collect(Collectors.toSet());
         if (!invalidSemesterCodes.isEmpty()) {
             String invalidSemCodesString = StringUtil.joinStreamAsString(invalidSemesterCodes.stream().sorted());
             throw new CommandException(String.format(MESSAGE_CODE_INVALID_SEMESTER, invalidSemCodesString,
@@ -116,7 +115,7 @@ public class PlannerAddCommand extends Command {
                 .forEach(coreqsOfCodesToAdd::addAll);
         // Returns the invalid co-requisite(s) of codes to add.
         Set<Code> invalidSemesterCoreqs = coreqsOfCodesToAdd.stream()
-                .filter(codeToCheck -> !model.getModuleByCode(codeToCheck).getSemesters().contains(semesterToAddTo))
+                .filter(codeToCheck -> !model.getModuleByCode(codeToCheck).isOfferedIn(semesterToAddTo))
                     .collect(Collectors.toSet());
         if (!invalidSemesterCoreqs.isEmpty()) {
             // Returns the codes to add that has invalid co-requisite(s).
@@ -140,9 +139,8 @@ public class PlannerAddCommand extends Command {
             Module module = model.getModuleByCode(codeToAdd);
 
             // Returns the relevant duplicate co-requisite(s) of the code to add in the entire degree plan.
-            Set<Code> duplicateCoreqs = module.getCorequisites().stream().filter(coreqToCheck -> model.getApplication()
-                    .getDegreePlannerList().stream().map(DegreePlanner::getCodes)
-                    .anyMatch(selectedPlannerCodes -> selectedPlannerCodes.contains(coreqToCheck)))
+            Set<Code> duplicateCoreqs = module.getCorequisites().stream()
+                    .filter(coreqToCheck -> model.getDegreePlannerByCode(coreqToCheck) != null)
                     .collect(Collectors.toSet());
             Set<Code> invalidCoreqs = new HashSet<>(duplicateCoreqs);
             // Returns the invalid duplicate co-requisite(s) that exists in a different section of the degree plan.
@@ -6,7 +6,6 @@ import static pwe.planner.logic.parser.CliSyntax.PREFIX_CODE;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_SEMESTER;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_YEAR;
 
-import java.util.Collections;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -84,19 +83,15 @@ public class PlannerMoveCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
 
-        DegreePlanner toFind = new DegreePlanner(destinationYear, destinationSemester, Collections.emptySet());
         DegreePlanner sourcePlanner = model.getDegreePlannerByCode(toMove);
-        DegreePlanner destinationPlanner = model.getApplication().getDegreePlannerList().stream()
-                .filter(toFind::isSameDegreePlanner)
-                .findFirst()
-                .orElse(null);
+        DegreePlanner destinationPlanner = model.getDegreePlanner(destinationYear, destinationSemester);
 
         if (sourcePlanner == null) {
             throw new CommandException(String.format(MESSAGE_NONEXISTENT_CODE, toMove));
         }
 
         Module moduleToMove = model.getModuleByCode(toMove);
-        if (!moduleToMove.getSemesters().contains(destinationSemester)) {
+        if (!moduleToMove.isOfferedIn(destinationSemester)) {
             throw new CommandException(String.format(MESSAGE_UNAVAILABLE_SEMESTER, destinationSemester));
         }
 
@@ -105,12 +100,17 @@ public class PlannerMoveCommand extends Command {
                     String.format(MESSAGE_NONEXISTENT_DEGREE_PLANNER, destinationYear, destinationSemester));
         }
 
-        Set<Code> codesNotOffered = moduleToMove.getCorequisites().stream()
-                .filter(corequisite -> !model.getModuleByCode(corequisite).getSemesters()
-                        .contains(destinationPlanner.getSemester()))
-                .collect(Collectors.toSet());
+        // Intersects the semesters of all the co-requisites, so that the co-requisites not offered in the destination
+        // semester only need to be found if there are any.
+        int corequisitesSemesterMask = moduleToMove.getSemesterMask();
+        for (Code corequisite : moduleToMove.getCorequisites()) {
+            corequisitesSemesterMask &= model.getModuleByCode(corequisite).getSemesterMask();
+        }
 
-        if (!codesNotOffered.isEmpty()) {
+        if ((corequisitesSemesterMask & destinationSemester.toMask()) == 0) {
+            Set<Code> codesNotOffered = moduleToMove.getCorequisites().stream()
+                    .filter(corequisite -> !model.getModuleByCode(corequisite).isOfferedIn(destinationSemester))
+                    .collect(Collectors.toSet());
             String codesNotOfferedContent =
                     codesNotOffered.stream().sorted().map(Code::toString).collect(Collectors.joining(", "));
             throw new CommandException(
@@ -7,8 +7,10 @@ import static pwe.planner.logic.parser.CliSyntax.PREFIX_CREDITS;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -70,21 +72,26 @@ public class PlannerSuggestCommand extends Command {
         List<ModuleToSuggest> modulesToSuggest = new ArrayList<>();
         List<ModuleToSuggest> modulesWithMatchingTags = new ArrayList<>();
         List<ModuleToSuggest> modulesWithMatchingCredits = new ArrayList<>();
+        // Counts the matching tags of the modules by only going through the modules with each tag to find.
+        Map<Code, Integer> numberOfMatchingTagsByCode = new HashMap<>();
+        for (Tag tag : tagsToFind) {
+            for (Module module : model.getModulesWithTag(tag)) {
+                numberOfMatchingTagsByCode.merge(module.getCode(), 1, Integer::sum);
+            }
+        }
+
+        int bestCredits = creditsToFind.intValue();
         for (Module module : moduleList) {
-            // Finds the matching tags for each module.
-            Set<Tag> matchingTags = new HashSet<>(tagsToFind);
-            matchingTags.retainAll(module.getTags());
+            int numberOfMatchingTags = numberOfMatchingTagsByCode.getOrDefault(module.getCode(), 0);
 
             // Finds the credits difference.
-            int credit = Integer.valueOf((module.getCredits().toString()));
-            int bestCredits = Integer.valueOf(creditsToFind.toString());
-            int creditDifference = abs(credit - bestCredits);
+            int creditDifference = abs(module.getCredits().intValue() - bestCredits);
 
             ModuleToSuggest moduleToSuggest =
-                    new ModuleToSuggest(creditDifference, matchingTags.size(), module.getCode());
+                    new ModuleToSuggest(creditDifference, numberOfMatchingTags, module.getCode());
             modulesToSuggest.add(moduleToSuggest);
 
-            if (!matchingTags.isEmpty()) {
+            if (numberOfMatchingTags > 0) {
                 modulesWithMatchingTags.add(moduleToSuggest);
             }
 
@@ -6,6 +6,7 @@ import static pwe.planner.model.Model.PREDICATE_SHOW_ALL_MODULES;
 import pwe.planner.logic.CommandHistory;
 import pwe.planner.logic.commands.exceptions.CommandException;
 import pwe.planner.model.Model;
+import pwe.planner.model.VersionedApplication;
 
 /**
  * Reverts the {@code model}'s application to its previously undone state.
@@ -24,7 +25,12 @@ public class RedoCommand extends Command {
             throw new CommandException(MESSAGE_FAILURE);
         }
 
-        model.redoApplication();
+        try {
+            model.redoApplication();
+        } catch (VersionedApplication.NoRedoableStateException e) {
+            // the undo history could not be read back from disk
+            throw new CommandException(MESSAGE_FAILURE);
+        }
         model.updateFilteredModuleList(PREDICATE_SHOW_ALL_MODULES);
         return new CommandResult(MESSAGE_SUCCESS);
     }
@@ -9,7 +9,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import pwe.planner.commons.util.StringUtil;
 import pwe.planner.logic.CommandHistory;
@@ -94,18 +93,16 @@ public class RequirementAddCommand extends Command {
 
         if (!nonExistentCodes.isEmpty()) {
             String nonExistentCodesErrorMessage = StringUtil.joinStreamAsString(nonExistentCodes.stream().sorted());
-            throw new CommandException(String.format(MESSAGE_NONEXISTENT_CODE, nonExistentCodesErrorMessage));
+            throw new CommandException(String.format(MESSAGE_NONEXISTENT_CODE, nonExistentCodesErrorMessage)
+                    + CodeSuggestions.getSuggestionTip(model, nonExistentCodes));
         }
 
         if (currentRequirementCategory.hasModuleCode(toAdd)) {
             throw new CommandException(String.format(MESSAGE_DUPLICATE_CODE, currentRequirementCategory.getName()));
         }
 
-        Stream<RequirementCategory> requirementCategories = model.getApplication()
-                .getRequirementCategoryList().stream();
-
-        boolean isAnyCodeInRequirementCategories = requirementCategories.anyMatch(reqCat -> toAdd.stream()
-                .anyMatch(code -> reqCat.getCodeSet().contains(code)));
+        boolean isAnyCodeInRequirementCategories = toAdd.stream()
+                .anyMatch(code -> model.getRequirementCategoryByCode(code) != null);
 
         if (isAnyCodeInRequirementCategories) {
             throw new CommandException(MESSAGE_EXISTING_CODE);
@@ -8,7 +8,6 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import javafx.collections.ObservableList;
 import pwe.planner.commons.util.StringUtil;
 import pwe.planner.logic.CommandHistory;
 import pwe.planner.logic.commands.exceptions.CommandException;
@@ -63,8 +62,6 @@ public class RequirementRemoveCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
 
-        ObservableList<RequirementCategory> requirementCategories = model.getApplication().getRequirementCategoryList();
-
         List<Code> nonExistentCodes = toRemove.stream().filter(code -> !model.hasModuleCode(code))
                 .collect(Collectors.toList());
 
@@ -74,9 +71,8 @@ public class RequirementRemoveCommand extends Command {
             throw new CommandException(String.format(MESSAGE_NONEXISTENT_CODE, nonExistentCodesErrorMessage));
         }
 
-        List<Code> codeNotInAnyRequirementCategory = toRemove.stream().filter(code -> requirementCategories.stream()
-                .noneMatch(requirementCategory -> requirementCategory.getCodeSet()
-                        .contains(code))).collect(Collectors.toList());
+        List<Code> codeNotInAnyRequirementCategory = toRemove.stream()
+                .filter(code -> model.getRequirementCategoryByCode(code) == null).collect(Collectors.toList());
 
         if (!codeNotInAnyRequirementCategory.isEmpty()) {
             String codeNotInAnyRequirementCategoryErrorMessage =
@@ -85,9 +81,10 @@ public class RequirementRemoveCommand extends Command {
                     codeNotInAnyRequirementCategoryErrorMessage));
         }
 
-        RequirementCategory singleSourceRequirementCategory = requirementCategories.stream()
-                .filter(requirementCategory -> requirementCategory.getCodeSet()
-                        .containsAll(toRemove)).findFirst().orElse(null);
+        RequirementCategory singleSourceRequirementCategory = toRemove.stream().findFirst()
+                .map(model::getRequirementCategoryByCode)
+                .filter(requirementCategory -> requirementCategory.getCodeSet().containsAll(toRemove))
+                .orElse(null);
 
         //If all codes to be removed is from a requirement category only, all the codes can be removed together
         if (singleSourceRequirementCategory != null) {
@@ -102,8 +99,7 @@ public class RequirementRemoveCommand extends Command {
         } else {
             //If all codes to be removed are from multiple requirement category, have to remove the codes individually
             for (Code code : toRemove) {
-                RequirementCategory sourceRequirementCategory = requirementCategories.stream()
-                        .filter(reqCat -> reqCat.getCodeSet().contains(code)).findFirst().orElse(null);
+                RequirementCategory sourceRequirementCategory = model.getRequirementCategoryByCode(code);
 
                 Set<Code> newCodeSet = new HashSet<>(sourceRequirementCategory.getCodeSet());
                 newCodeSet.remove(code);
@@ -3,6 +3,7 @@ package pwe.planner.logic.parser;
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_CODE;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_CREDITS;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_FUZZY_NAME;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_NAME;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_SEMESTER;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_TAG;
@@ -12,7 +13,7 @@ import static pwe.planner.logic.parser.ParserUtil.parseCode;
 import static pwe.planner.logic.parser.ParserUtil.parseCredits;
 import static pwe.planner.logic.parser.ParserUtil.parseName;
 import static pwe.planner.logic.parser.ParserUtil.parseSemester;
-import static pwe.planner.logic.parser.ParserUtil.parseTag;
+import static pwe.planner.logic.parser.ParserUtil.parseTagKeyword;
 import static pwe.planner.logic.parser.ParserUtil.parseYear;
 
 import java.util.ArrayDeque;
@@ -25,9 +26,12 @@ import pwe.planner.logic.parser.exceptions.BooleanParserException;
 import pwe.planner.logic.parser.exceptions.BooleanParserPredicateException;
 import pwe.planner.logic.parser.exceptions.ParseException;
 import pwe.planner.model.module.CodeContainsKeywordsPredicate;
+import pwe.planner.model.module.CompositeKeywordsPredicate;
+import pwe.planner.model.module.CompositeKeywordsPredicate.Connective;
 import pwe.planner.model.module.CreditsContainsKeywordsPredicate;
 import pwe.planner.model.module.KeywordsPredicate;
 import pwe.planner.model.module.NameContainsKeywordsPredicate;
+import pwe.planner.model.module.NameFuzzyMatchesKeywordPredicate;
 import pwe.planner.model.module.TagContainsKeywordsPredicate;
 import pwe.planner.model.planner.SemesterContainsKeywordPredicate;
 import pwe.planner.model.planner.YearContainsKeywordPredicate;
@@ -83,8 +87,11 @@ public class BooleanExpressionParser<T> {
             String semesterKeyword = parseSemester(argMultimap.getValue(PREFIX_SEMESTER).get()).toString();
             predicate = new SemesterContainsKeywordPredicate<>(semesterKeyword);
         } else if (prefixes.contains(PREFIX_TAG) && argMultimap.getValue(PREFIX_TAG).isPresent()) {
-            String tagKeyword = parseTag(argMultimap.getValue(PREFIX_TAG).get()).tagName;
+            String tagKeyword = parseTagKeyword(argMultimap.getValue(PREFIX_TAG).get());
             predicate = new TagContainsKeywordsPredicate<>(tagKeyword);
+        } else if (prefixes.contains(PREFIX_FUZZY_NAME) && argMultimap.getValue(PREFIX_FUZZY_NAME).isPresent()) {
+            String nameKeyword = parseName(argMultimap.getValue(PREFIX_FUZZY_NAME).get()).toString();
+            predicate = new NameFuzzyMatchesKeywordPredicate<>(nameKeyword);
         } else {
             throw new BooleanParserPredicateException(String.format(MESSAGE_UNABLE_TO_CREATE_PREDICATE, args));
         }
@@ -105,9 +112,9 @@ public class BooleanExpressionParser<T> {
 
         switch (operator) {
         case OR:
-            return predicate1.or(predicate2);
+            return new CompositeKeywordsPredicate<>(Connective.OR, predicate1, predicate2);
         case AND:
-            return predicate1.and(predicate2);
+            return new CompositeKeywordsPredicate<>(Connective.AND, predicate1, predicate2);
         default:
             throw new BooleanParserException(String.format(MESSAGE_INVALID_EXPRESSION, MESSAGE_INVALID_OPERATOR));
         }
@@ -5,11 +5,11 @@ import static pwe.planner.logic.parser.CliSyntax.OPERATORS;
 
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.NoSuchElementException;
-import java.util.Optional;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.Set;
 
 /**
  * Tokenizes command in the format of a boolean expression by extracting all arguments with {@link Prefix prefix} and
@@ -27,15 +27,18 @@ import java.util.stream.Stream;
  * 5. &&  <br>
  * 6. c/C <br>
  * 7. )   <br>
+ * <br>
+ * The string is scanned once from left to right, and only the delimiters starting with the character at the current
+ * position are compared with the string.
  */
 public class BooleanExpressionTokenizer {
-    private String stringToTokenize;
-    private final List<String> prefixes;
-    private final List<String> delimiters;
+    private final String stringToTokenize;
+    private final Set<String> prefixes;
+    private final Set<String> delimiters;
+    private final String[] delimiterArray;
+    private final boolean[] isDelimiterAtTokenStart;
 
     private Deque<String> tokens = new ArrayDeque<>();
-    private int nextTokenStartIndex = 0;
-    private int nextTokenEndIndex = 0;
 
     /**
      * Initializes a {@link BooleanExpressionTokenizer} that tokenizes {@code stringToTokenize} by extracting all
@@ -47,83 +50,94 @@ public class BooleanExpressionTokenizer {
         requireAllNonNull(stringToTokenize, prefixes);
 
         this.stringToTokenize = stringToTokenize;
-        this.prefixes = prefixes.stream().map(Prefix::getPrefix).collect(Collectors.toList());
-        this.delimiters = Stream.concat(this.prefixes.stream(), OPERATORS.stream()).collect(Collectors.toList());
+        this.prefixes = new HashSet<>();
+        for (Prefix prefix : prefixes) {
+            this.prefixes.add(prefix.getPrefix());
+        }
+        this.delimiters = new LinkedHashSet<>(this.prefixes);
+        this.delimiters.addAll(OPERATORS);
+        this.delimiterArray = this.delimiters.toArray(new String[0]);
+        this.isDelimiterAtTokenStart = new boolean[delimiterArray.length];
 
         tokenizeString();
     }
 
     /**
      * Tokenizes {@link #stringToTokenize} based on the {@link CliSyntax#OPERATORS boolean operators} and the specified
-     * {@link #prefixes} until there are no more tokens to be extracted.
+     * {@link #prefixes} in a single pass over the string.
      * <br><br>
      * Note: This method does not parse or validate the contents of the tokens.
      */
     private void tokenizeString() {
-        while (hasNextToken()) {
-            extractNextToken();
+        int tokenStartIndex = 0;
+        while (tokenStartIndex < stringToTokenize.length()) {
+            int tokenEndIndex = findTokenEndIndex(tokenStartIndex);
+            extractToken(tokenStartIndex, tokenEndIndex);
+            tokenStartIndex = tokenEndIndex;
         }
     }
 
     /**
-     * Tests if there are still more tokens available for extraction.<br>
-     * If this method returns {@code true}, then a subsequent call to {@link #extractNextToken()} will successfully
-     * extract the next token available.
-     * @return {@code true} if and only if there is at least one token remaining; {@code false} otherwise.
+     * Returns the end index of the token starting at {@code tokenStartIndex}.
+     * <br><br>
+     * If a delimiter starts at {@code tokenStartIndex}, the token is the shortest such delimiter. Otherwise, the token
+     * extends up to the next delimiter, or the end of the string if there is none. In both cases, the token is cut
+     * short by any other delimiter starting within it.
      */
-    private boolean hasNextToken() {
-        // ensure token start/end indexes are within valid range
-        if (nextTokenStartIndex >= stringToTokenize.length() || nextTokenEndIndex >= stringToTokenize.length()) {
-            return false;
+    private int findTokenEndIndex(int tokenStartIndex) {
+        int tokenEndIndex = stringToTokenize.length();
+        for (int i = 0; i < delimiterArray.length; i++) {
+            isDelimiterAtTokenStart[i] = stringToTokenize.startsWith(delimiterArray[i], tokenStartIndex);
+            if (isDelimiterAtTokenStart[i]) {
+                tokenEndIndex = Math.min(tokenEndIndex, tokenStartIndex + delimiterArray[i].length());
+            }
         }
 
-        Optional<Integer> optionalNextTokenEndIndex = delimiters.stream()
-                .map(delimiter -> {
-                    int index = stringToTokenize.indexOf(delimiter, nextTokenStartIndex);
-                    if (index == nextTokenStartIndex) {
-                        index += delimiter.length();
-                    }
+        for (int index = tokenStartIndex + 1; index < tokenEndIndex; index++) {
+            char c = stringToTokenize.charAt(index);
+            for (int i = 0; i < delimiterArray.length; i++) {
+                if (!isDelimiterAtTokenStart[i] && delimiterArray[i].charAt(0) == c
+                        && stringToTokenize.startsWith(delimiterArray[i], index)) {
                     return index;
-                })
-                .filter(index -> index != -1) // exclude -1 (indicates delimiter does not exists)
-                .min(Integer::compare); // get the smallest end index for next token
-
-        if (!optionalNextTokenEndIndex.isPresent()) {
-            nextTokenEndIndex = stringToTokenize.length();
-            return nextTokenStartIndex != nextTokenEndIndex;
-        } else {
-            nextTokenEndIndex = optionalNextTokenEndIndex.get();
-            return true;
+                }
+            }
         }
+        return tokenEndIndex;
     }
 
     /**
-     * Extracts the next available trimmed token, and adds it to the {@link #tokens} if it is not empty.
+     * Extracts the trimmed token between {@code tokenStartIndex} and {@code tokenEndIndex}, and adds it to the
+     * {@link #tokens} if it is not empty.
      * <br><br>
      * However, if the last token extracted is prefixed but the next token extracted is not a delimiter, the next token
      * extracted will be concatenated to the last token extracted.
      */
-    private void extractNextToken() {
-        if (nextTokenStartIndex >= stringToTokenize.length() || nextTokenEndIndex > stringToTokenize.length()) {
+    private void extractToken(int tokenStartIndex, int tokenEndIndex) {
+        int trimmedStartIndex = tokenStartIndex;
+        int trimmedEndIndex = tokenEndIndex;
+        // skips the same characters as String#trim()
+        while (trimmedStartIndex < trimmedEndIndex && stringToTokenize.charAt(trimmedStartIndex) <= ' ') {
+            trimmedStartIndex++;
+        }
+        while (trimmedStartIndex < trimmedEndIndex && stringToTokenize.charAt(trimmedEndIndex - 1) <= ' ') {
+            trimmedEndIndex--;
+        }
+        if (trimmedStartIndex == trimmedEndIndex) {
             return;
         }
 
-        String nextToken = stringToTokenize.substring(nextTokenStartIndex, nextTokenEndIndex).trim();
-        if (!nextToken.isEmpty()) {
-            String lastToken = tokens.peekLast();
+        String nextToken = stringToTokenize.substring(trimmedStartIndex, trimmedEndIndex);
+        String lastToken = tokens.peekLast();
 
-            // Checks if last token extracted is prefixed, but nextToken is not delimiter
-            if (!delimiters.contains(nextToken) && lastToken != null && prefixes.contains(lastToken)) {
-                // concatenate both tokens together if so, and update tokens accordingly
-                String joinnedToken = lastToken + nextToken;
-                tokens.removeLast();
-                tokens.addLast(joinnedToken);
-            } else {
-                tokens.addLast(nextToken);
-            }
+        // Checks if last token extracted is prefixed, but nextToken is not delimiter
+        if (!delimiters.contains(nextToken) && lastToken != null && prefixes.contains(lastToken)) {
+            // concatenate both tokens together if so, and update tokens accordingly
+            String joinedToken = lastToken + nextToken;
+            tokens.removeLast();
+            tokens.addLast(joinedToken);
+        } else {
+            tokens.addLast(nextToken);
         }
-
-        nextTokenStartIndex = nextTokenEndIndex;
     }
 
     /**
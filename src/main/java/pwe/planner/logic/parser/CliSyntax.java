@@ -15,6 +15,18 @@ public class CliSyntax {
     public static final Prefix PREFIX_COREQUISITE = new Prefix("coreq/");
     public static final Prefix PREFIX_YEAR = new Prefix("year/");
     public static final Prefix PREFIX_SEMESTER = new Prefix("sem/");
+    public static final Prefix PREFIX_FUZZY_NAME = new Prefix("fuzzy/");
+
+    public static final List<Prefix> PREFIXES = List.of(
+            PREFIX_NAME,
+            PREFIX_CODE,
+            PREFIX_CREDITS,
+            PREFIX_TAG,
+            PREFIX_COREQUISITE,
+            PREFIX_YEAR,
+            PREFIX_SEMESTER,
+            PREFIX_FUZZY_NAME
+    );
 
     public static final String OPERATOR_OR = "||";
     public static final String OPERATOR_AND = "&&";
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static pwe.planner.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -43,6 +44,18 @@ public class CommandParser {
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
 
+    /**
+     * The command words of all the commands parsed by the parser.
+     */
+    public static final List<String> COMMAND_WORDS = List.of(AddCommand.COMMAND_WORD, EditCommand.COMMAND_WORD,
+            SelectCommand.COMMAND_WORD, DeleteCommand.COMMAND_WORD, ClearCommand.COMMAND_WORD,
+            ResetCommand.COMMAND_WORD, FindCommand.COMMAND_WORD, ListCommand.COMMAND_WORD,
+            RequirementAddCommand.COMMAND_WORD, RequirementListCommand.COMMAND_WORD,
+            RequirementMoveCommand.COMMAND_WORD, RequirementRemoveCommand.COMMAND_WORD, HistoryCommand.COMMAND_WORD,
+            PlannerListCommand.COMMAND_WORD, PlannerShowCommand.COMMAND_WORD, PlannerMoveCommand.COMMAND_WORD,
+            ExitCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD, UndoCommand.COMMAND_WORD, RedoCommand.COMMAND_WORD,
+            PlannerAddCommand.COMMAND_WORD, PlannerSuggestCommand.COMMAND_WORD, PlannerRemoveCommand.COMMAND_WORD);
+
     /**
      * Parses user input into command for execution.
      *
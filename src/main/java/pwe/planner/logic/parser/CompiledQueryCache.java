@@ -0,0 +1,101 @@
+package pwe.planner.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import pwe.planner.logic.parser.exceptions.BooleanParserException;
+import pwe.planner.logic.parser.exceptions.ParseException;
+
+/**
+ * A cache of the predicates compiled by {@link BooleanExpressionParser} from filter expressions with a fixed list of
+ * {@link Prefix prefixes}, which evicts the least recently used predicate when it is full.
+ * <p>
+ * Expressions are keyed by their text without leading and trailing whitespace, which is ignored by
+ * {@link BooleanExpressionTokenizer}. The compiled predicates are immutable and only depend on the text of the
+ * expression, the prefixes of the cache and the syntax in {@link CliSyntax}, none of which change while a cache is in
+ * use, so cached predicates never become stale. Expressions which cannot be parsed are not cached.
+ *
+ * @param <T> the type of the objects tested by the compiled predicates
+ */
+public class CompiledQueryCache<T> {
+
+    private final List<Prefix> prefixes;
+    private final Map<String, Predicate<T>> compiledQueries;
+    private int hitCount = 0;
+    private int missCount = 0;
+
+    /**
+     * Creates a cache holding up to {@code capacity} predicates compiled with {@code prefixes}.
+     */
+    public CompiledQueryCache(int capacity, List<Prefix> prefixes) {
+        requireNonNull(prefixes);
+        checkArgument(capacity > 0, "Capacity should be positive.");
+
+        this.prefixes = new ArrayList<>(prefixes);
+        // an access-ordered map, in which the eldest entry is the least recently used one
+        compiledQueries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Predicate<T>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the predicate compiled from {@code expression}, compiling it if it is not in the cache.
+     *
+     * @throws BooleanParserException if {@code expression} is not a valid filter expression
+     * @throws ParseException if a keyword of {@code expression} is invalid
+     */
+    public synchronized Predicate<T> get(String expression) throws BooleanParserException, ParseException {
+        requireNonNull(expression);
+
+        String normalizedExpression = expression.trim();
+        Predicate<T> compiledQuery = compiledQueries.get(normalizedExpression);
+        if (compiledQuery != null) {
+            hitCount++;
+            return compiledQuery;
+        }
+
+        missCount++;
+        compiledQuery = new BooleanExpressionParser<T>(normalizedExpression, prefixes).parse();
+        compiledQueries.put(normalizedExpression, compiledQuery);
+        return compiledQuery;
+    }
+
+    /**
+     * Returns the number of expressions found in the cache.
+     */
+    public synchronized int getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of expressions which had to be compiled, including those which could not be parsed.
+     */
+    public synchronized int getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of predicates in the cache.
+     */
+    public synchronized int size() {
+        return compiledQueries.size();
+    }
+
+    /**
+     * Removes every predicate from the cache and resets its counters.
+     */
+    public synchronized void clear() {
+        compiledQueries.clear();
+        hitCount = 0;
+        missCount = 0;
+    }
+}
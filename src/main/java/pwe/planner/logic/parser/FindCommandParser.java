@@ -6,6 +6,7 @@ import static pwe.planner.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static pwe.planner.logic.commands.FindCommand.MESSAGE_USAGE;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_CODE;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_CREDITS;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_FUZZY_NAME;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_NAME;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_SEMESTER;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_TAG;
@@ -30,8 +31,19 @@ public class FindCommandParser implements Parser<FindCommand> {
             PREFIX_CODE,
             PREFIX_CREDITS,
             PREFIX_TAG,
-            PREFIX_SEMESTER
+            PREFIX_SEMESTER,
+            PREFIX_FUZZY_NAME
     );
+    private static final int QUERY_CACHE_CAPACITY = 64;
+    private static final CompiledQueryCache<Module> QUERY_CACHE =
+            new CompiledQueryCache<>(QUERY_CACHE_CAPACITY, PREFIXES);
+
+    /**
+     * Returns the cache of the predicates compiled from the filter expressions of {@code FindCommand}s.
+     */
+    public static CompiledQueryCache<Module> getQueryCache() {
+        return QUERY_CACHE;
+    }
 
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
@@ -47,8 +59,7 @@ public class FindCommandParser implements Parser<FindCommand> {
         }
 
         try {
-            BooleanExpressionParser<Module> expressionParser = new BooleanExpressionParser<>(args, PREFIXES);
-            Predicate<Module> predicate = expressionParser.parse();
+            Predicate<Module> predicate = QUERY_CACHE.get(args);
             return new FindCommand(predicate);
         } catch (BooleanParserPredicateException predicateException) {
             logger.warning(predicateException.getMessage());
@@ -9,6 +9,7 @@ import java.util.Set;
 import java.util.stream.Stream;
 
 import pwe.planner.commons.core.index.Index;
+import pwe.planner.commons.util.KeywordMatcher;
 import pwe.planner.commons.util.StringUtil;
 import pwe.planner.logic.parser.exceptions.ParseException;
 import pwe.planner.model.module.Code;
@@ -80,7 +81,7 @@ public class ParserUtil {
         if (!Credits.isValidCredits(trimmedCredits)) {
             throw new ParseException(Credits.MESSAGE_CONSTRAINTS);
         }
-        return new Credits(trimmedCredits);
+        return Credits.of(trimmedCredits);
     }
 
     /**
@@ -96,7 +97,7 @@ public class ParserUtil {
         if (!Code.isValidCode(trimmedCode)) {
             throw new ParseException(Code.MESSAGE_CONSTRAINTS);
         }
-        return new Code(trimmedCode);
+        return Code.of(trimmedCode);
     }
 
     /**
@@ -112,7 +113,7 @@ public class ParserUtil {
         if (!Year.isValidYear(trimmedYear)) {
             throw new ParseException(Year.MESSAGE_YEAR_CONSTRAINTS);
         }
-        return new Year(trimmedYear);
+        return Year.of(trimmedYear);
     }
 
     /**
@@ -128,7 +129,7 @@ public class ParserUtil {
         if (!Semester.isValidSemester(trimmedSemester)) {
             throw new ParseException(Semester.MESSAGE_SEMESTER_CONSTRAINTS);
         }
-        return new Semester(trimmedSemester);
+        return Semester.of(trimmedSemester);
     }
 
     /**
@@ -153,11 +154,25 @@ public class ParserUtil {
     public static Tag parseTag(String tag) throws ParseException {
         requireNonNull(tag);
 
+        return Tag.of(parseTagKeyword(tag));
+    }
+
+    /**
+     * Parses a {@code String tag} into a tag name to search for.
+     * Leading and trailing whitespaces will be trimmed.
+     * Unlike {@link #parseTag(String)}, the tag name is not added to the canonical tags, as it is not stored in any
+     * module.
+     *
+     * @throws ParseException if the given {@code tag} is invalid.
+     */
+    public static String parseTagKeyword(String tag) throws ParseException {
+        requireNonNull(tag);
+
         String trimmedTag = tag.trim();
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return trimmedTag;
     }
 
     /**
@@ -210,10 +225,6 @@ public class ParserUtil {
     public static boolean parseKeyword(String keyword, String compareTo) {
         requireAllNonNull(keyword, compareTo);
 
-        if (keyword.split("\\s+").length == 1) {
-            return StringUtil.containsWordIgnoreCase(compareTo, keyword);
-        } else {
-            return StringUtil.compareEqualsIgnoreCase(compareTo, keyword);
-        }
+        return new KeywordMatcher(keyword).matches(compareTo);
     }
 }
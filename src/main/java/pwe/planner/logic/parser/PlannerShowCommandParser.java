@@ -25,6 +25,16 @@ public class PlannerShowCommandParser implements Parser<PlannerShowCommand> {
             PREFIX_YEAR,
             PREFIX_SEMESTER
     );
+    private static final int QUERY_CACHE_CAPACITY = 64;
+    private static final CompiledQueryCache<DegreePlanner> QUERY_CACHE =
+            new CompiledQueryCache<>(QUERY_CACHE_CAPACITY, PREFIXES);
+
+    /**
+     * Returns the cache of the predicates compiled from the filter expressions of {@code PlannerShowCommand}s.
+     */
+    public static CompiledQueryCache<DegreePlanner> getQueryCache() {
+        return QUERY_CACHE;
+    }
 
     /**
      * Parses the given {@code String} of arguments in the context of the PlannerShowCommand
@@ -44,8 +54,7 @@ public class PlannerShowCommandParser implements Parser<PlannerShowCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, PlannerShowCommand.MESSAGE_USAGE));
         }
         try {
-            BooleanExpressionParser<DegreePlanner> expressionParser = new BooleanExpressionParser<>(args, PREFIXES);
-            Predicate<DegreePlanner> predicate = expressionParser.parse();
+            Predicate<DegreePlanner> predicate = QUERY_CACHE.get(args);
             return new PlannerShowCommand(predicate);
         } catch (BooleanParserPredicateException predicateException) {
             logger.warning(predicateException.getMessage());
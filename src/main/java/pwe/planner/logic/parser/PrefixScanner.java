@@ -0,0 +1,90 @@
+package pwe.planner.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finds the prefixes of a fixed set in arguments strings with a trie of the prefixes, and extracts their argument
+ * values into an {@code ArgumentMultimap}.
+ * <p>
+ * A prefix is only recognised after a whitespace, so the trie is only walked from the character after every
+ * whitespace of an arguments string, and the prefixes are found in a single left-to-right pass in the order in which
+ * they appear. If several prefixes start at the same position, the longest one is taken, and the search resumes after
+ * the end of the prefix found. The value of every prefix is extracted as soon as the next prefix is found.
+ */
+class PrefixScanner {
+
+    private static final char PREFIX_SEPARATOR = ' ';
+    private static final Prefix PREAMBLE = new Prefix("");
+
+    private final Node root = new Node();
+
+    /**
+     * Creates a scanner finding {@code prefixes}.
+     */
+    PrefixScanner(List<Prefix> prefixes) {
+        requireNonNull(prefixes);
+
+        for (Prefix prefix : prefixes) {
+            Node node = root;
+            for (char c : prefix.getPrefix().toCharArray()) {
+                node = node.children.computeIfAbsent(c, unused -> new Node());
+            }
+            if (node.prefix == null) {
+                node.prefix = prefix;
+            }
+        }
+    }
+
+    /**
+     * Returns an {@code ArgumentMultimap} mapping the prefixes found in {@code argsString} to their trimmed argument
+     * values, and the preamble to the trimmed text before the first prefix.
+     */
+    ArgumentMultimap scan(String argsString) {
+        requireNonNull(argsString);
+
+        ArgumentMultimap argMultimap = new ArgumentMultimap();
+        Prefix currentPrefix = PREAMBLE;
+        int valueStartIndex = 0;
+        int length = argsString.length();
+        for (int index = 1; index < length; index++) {
+            if (argsString.charAt(index - 1) != PREFIX_SEPARATOR) {
+                continue;
+            }
+
+            // walks the trie to find the longest prefix starting at index
+            Prefix foundPrefix = root.prefix;
+            int foundPrefixEndIndex = index;
+            Node node = root;
+            for (int i = index; i < length && node != null; i++) {
+                node = node.children.get(argsString.charAt(i));
+                if (node != null && node.prefix != null) {
+                    foundPrefix = node.prefix;
+                    foundPrefixEndIndex = i + 1;
+                }
+            }
+            if (foundPrefix == null) {
+                continue;
+            }
+
+            argMultimap.put(currentPrefix, argsString.substring(valueStartIndex, index).trim());
+            currentPrefix = foundPrefix;
+            valueStartIndex = foundPrefixEndIndex;
+            // an empty prefix ends where it starts
+            index = Math.max(index, foundPrefixEndIndex - 1);
+        }
+        argMultimap.put(currentPrefix, argsString.substring(valueStartIndex).trim());
+        return argMultimap;
+    }
+
+    /**
+     * A node of the trie, which ends a prefix if {@code prefix} is not null.
+     */
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private Prefix prefix;
+    }
+}
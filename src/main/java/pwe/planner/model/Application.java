@@ -8,6 +8,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import javafx.beans.InvalidationListener;
 import javafx.collections.ObservableList;
@@ -17,9 +19,12 @@ import pwe.planner.model.module.Module;
 import pwe.planner.model.module.Name;
 import pwe.planner.model.module.UniqueModuleList;
 import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.planner.Semester;
 import pwe.planner.model.planner.UniqueDegreePlannerList;
+import pwe.planner.model.planner.Year;
 import pwe.planner.model.requirement.RequirementCategory;
 import pwe.planner.model.requirement.UniqueRequirementCategoryList;
+import pwe.planner.model.tag.Tag;
 
 /**
  * Wraps all data at the application levels
@@ -30,7 +35,11 @@ public class Application implements ReadOnlyApplication {
     private final UniqueModuleList modules;
     private final UniqueDegreePlannerList degreePlanners;
     private final UniqueRequirementCategoryList requirementCategories;
+    private final CreditTotals creditTotals = new CreditTotals();
+    private final ModuleSearchIndex moduleSearchIndex = new ModuleSearchIndex();
     private final InvalidationListenerManager invalidationListenerManager = new InvalidationListenerManager();
+    private int batchDepth = 0;
+    private boolean isModifiedDuringBatch = false;
 
     /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
@@ -72,11 +81,9 @@ public class Application implements ReadOnlyApplication {
      * Resets the existing {@code DegreePlanner} data with empty {@code Code}.
      */
     public void resetPlanner() {
-        List<DegreePlanner> editedDegreePlannerList = new ArrayList<>();
-        for (DegreePlanner planner : degreePlanners) {
-            editedDegreePlannerList.add(new DegreePlanner(planner.getYear(), planner.getSemester(), Set.of()));
-        }
-        setDegreePlanners(editedDegreePlannerList);
+        degreePlanners.clearCodes();
+        creditTotals.resetDegreePlanners(degreePlanners.asUnmodifiableObservableList());
+        indicateModified();
     }
 
     /**
@@ -91,6 +98,86 @@ public class Application implements ReadOnlyApplication {
         setRequirementCategories(editedRequirementCategories);
     }
 
+    /**
+     * Returns an immutable snapshot of the current state of this {@code Application}.
+     * Only the parts of the lists modified since the previous snapshot are copied.
+     */
+    ApplicationSnapshot takeSnapshot() {
+        return new ApplicationSnapshot(modules.takeSnapshot(), degreePlanners.takeSnapshot(),
+                requirementCategories.takeSnapshot());
+    }
+
+    /**
+     * Resets the existing data of this {@code Application} to the state saved in {@code snapshot}, a snapshot
+     * previously taken of this {@code Application}.
+     */
+    void restoreSnapshot(ApplicationSnapshot snapshot) {
+        requireNonNull(snapshot);
+
+        modules.restoreSnapshot(snapshot.getModules());
+        degreePlanners.restoreSnapshot(snapshot.getDegreePlanners());
+        requirementCategories.restoreSnapshot(snapshot.getRequirementCategories());
+        creditTotals.reset(this);
+        moduleSearchIndex.reset(getModuleList());
+        indicateModified();
+    }
+
+    //// batch operations
+
+    /**
+     * Applies {@code mutations} to this {@code Application} as a single batch.
+     * Listeners of this {@code Application} and of its lists are notified only once, after all the mutations have been
+     * applied. If {@code mutations} throws an exception, this {@code Application} is restored to its state before the
+     * batch, and the exception is rethrown.
+     */
+    public void batch(Consumer<Application> mutations) {
+        requireNonNull(mutations);
+
+        ApplicationSnapshot snapshotBeforeBatch = takeSnapshot();
+        beginBatch();
+        try {
+            mutations.accept(this);
+        } catch (RuntimeException e) {
+            restoreSnapshot(snapshotBeforeBatch);
+            throw e;
+        } finally {
+            commitBatch();
+        }
+    }
+
+    /**
+     * Starts a batch of mutations. Until the matching {@link #commitBatch()}, listeners of this {@code Application}
+     * and of its lists are not notified of any mutation. Batches may be nested.
+     */
+    public void beginBatch() {
+        batchDepth++;
+        modules.beginBatch();
+        degreePlanners.beginBatch();
+        requirementCategories.beginBatch();
+    }
+
+    /**
+     * Ends the current batch of mutations started by {@link #beginBatch()}.
+     * If this ends the outermost batch, the mutations made during the batch are reported to the listeners of each
+     * list as a single change, and the listeners of this {@code Application} are notified once if it was modified.
+     *
+     * @throws IllegalStateException if there is no batch to commit.
+     */
+    public void commitBatch() {
+        if (batchDepth == 0) {
+            throw new IllegalStateException("There is no batch to commit.");
+        }
+
+        batchDepth--;
+        modules.commitBatch();
+        degreePlanners.commitBatch();
+        requirementCategories.commitBatch();
+        if (batchDepth == 0 && isModifiedDuringBatch) {
+            isModifiedDuringBatch = false;
+            indicateModified();
+        }
+    }
+
     //// list overwrite operations
 
     /**
@@ -101,6 +188,8 @@ public class Application implements ReadOnlyApplication {
         requireNonNull(modules);
 
         this.modules.setModules(modules);
+        creditTotals.reset(this);
+        moduleSearchIndex.reset(getModuleList());
         indicateModified();
     }
 
@@ -112,6 +201,7 @@ public class Application implements ReadOnlyApplication {
         requireNonNull(degreePlanners);
 
         this.degreePlanners.setDegreePlanners(degreePlanners);
+        creditTotals.resetDegreePlanners(degreePlanners);
         indicateModified();
     }
 
@@ -123,6 +213,7 @@ public class Application implements ReadOnlyApplication {
         requireNonNull(requirementCategories);
 
         this.requirementCategories.setRequirementCategories(requirementCategories);
+        creditTotals.resetRequirementCategories(requirementCategories);
         indicateModified();
     }
 
@@ -146,13 +237,62 @@ public class Application implements ReadOnlyApplication {
         return modules.getModuleByCode(code);
     }
 
+    /**
+     * Returns the modules with {@code tag}, in no particular order.
+     */
+    public List<Module> getModulesWithTag(Tag tag) {
+        requireNonNull(tag);
+
+        return modules.getModulesWithTag(tag);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate}, which looks up the matching modules in the search index of
+     * this {@code Application} where possible, instead of testing {@code predicate} against every module.
+     */
+    public Predicate<Module> createModuleFilter(Predicate<Module> predicate) {
+        requireNonNull(predicate);
+
+        return moduleSearchIndex.createFilter(predicate);
+    }
+
+    /**
+     * Returns up to {@code limit} codes of the modules in the application starting with {@code prefix}, ignoring
+     * case, in lexicographical order.
+     */
+    public List<String> completeModuleCode(String prefix, int limit) {
+        requireNonNull(prefix);
+
+        return moduleSearchIndex.completeCode(prefix, limit);
+    }
+
+    /**
+     * Returns up to {@code limit} tag names of the modules in the application starting with {@code prefix}, ignoring
+     * case, in lexicographical order.
+     */
+    public List<String> completeTagName(String prefix, int limit) {
+        requireNonNull(prefix);
+
+        return moduleSearchIndex.completeTagName(prefix, limit);
+    }
+
+    /**
+     * Returns up to {@code limit} codes of the modules in the application which are most similar to {@code code},
+     * nearest first, to suggest in place of a code which does not exist.
+     */
+    public List<Code> getSimilarModuleCodes(Code code, int limit) {
+        requireNonNull(code);
+
+        return moduleSearchIndex.findSimilarCodes(code, limit);
+    }
+
     /**
      * Returns true if a {@code Module} with the specified {@code Code} exists in the application.
      */
     public boolean hasModuleCode(Code code) {
         requireNonNull(code);
 
-        return modules.asUnmodifiableObservableList().stream().anyMatch((module) -> module.getCode().equals(code));
+        return modules.containsCode(code);
     }
 
     /**
@@ -163,6 +303,9 @@ public class Application implements ReadOnlyApplication {
         requireNonNull(moduleToAdd);
 
         modules.add(moduleToAdd);
+        moduleSearchIndex.addModule(moduleToAdd);
+        creditTotals.addModule(moduleToAdd);
+        refreshCredits(moduleToAdd.getCode());
         indicateModified();
     }
 
@@ -175,6 +318,7 @@ public class Application implements ReadOnlyApplication {
         requireAllNonNull(target, editedModule);
 
         modules.setModule(target, editedModule);
+        updateModuleIndexes(target, editedModule);
     }
 
     /**
@@ -185,13 +329,48 @@ public class Application implements ReadOnlyApplication {
     public void editModule(Module target, Module editedModule) {
         requireAllNonNull(target, editedModule);
 
-        modules.setModule(target, editedModule);
-        if (!target.getCode().equals(editedModule.getCode())) {
-            cascadeEditedCodeInDegreePlanners(target.getCode(), editedModule.getCode());
-            cascadeEditedCodeInRequirementCategories(target.getCode(), editedModule.getCode());
+        batch(application -> {
+            modules.setModule(target, editedModule);
+            updateModuleIndexes(target, editedModule);
+            if (!target.getCode().equals(editedModule.getCode())) {
+                cascadeEditedCodeInDegreePlanners(target.getCode(), editedModule.getCode());
+                cascadeEditedCodeInRequirementCategories(target.getCode(), editedModule.getCode());
+            }
+
+            indicateModified();
+        });
+    }
+
+    /**
+     * Updates the search index and the credit totals after {@code target} has been replaced by {@code editedModule}.
+     */
+    private void updateModuleIndexes(Module target, Module editedModule) {
+        assert target != null;
+        assert editedModule != null;
+
+        moduleSearchIndex.removeModule(target);
+        moduleSearchIndex.addModule(editedModule);
+        creditTotals.removeModule(target.getCode());
+        creditTotals.addModule(editedModule);
+        refreshCredits(target.getCode());
+        refreshCredits(editedModule.getCode());
+    }
+
+    /**
+     * Recomputes the credit totals of the degree planner and requirement category containing {@code code}.
+     */
+    private void refreshCredits(Code code) {
+        assert code != null;
+
+        DegreePlanner degreePlanner = degreePlanners.getDegreePlannerByCode(code);
+        if (degreePlanner != null) {
+            creditTotals.addDegreePlanner(degreePlanner);
         }
 
-        indicateModified();
+        RequirementCategory requirementCategory = requirementCategories.getRequirementCategoryByCode(code);
+        if (requirementCategory != null) {
+            creditTotals.addRequirementCategory(requirementCategory);
+        }
     }
 
     /**
@@ -202,23 +381,22 @@ public class Application implements ReadOnlyApplication {
     private void cascadeEditedCodeInDegreePlanners(Code codeToEdit, Code editedCode) {
         requireAllNonNull(codeToEdit, editedCode);
 
-        ObservableList<DegreePlanner> degreePlanners = getDegreePlannerList();
+        DegreePlanner degreePlanner = degreePlanners.getDegreePlannerByCode(codeToEdit);
+        if (degreePlanner == null) {
+            return;
+        }
 
-        for (DegreePlanner degreePlanner : degreePlanners) {
-            if (degreePlanner.getCodes().contains(codeToEdit)) {
-                Set<Code> editedDegreePlannerCodes = new HashSet<>(degreePlanner.getCodes());
-                editedDegreePlannerCodes.remove(codeToEdit);
-                editedDegreePlannerCodes.add(editedCode);
+        Set<Code> editedDegreePlannerCodes = new HashSet<>(degreePlanner.getCodes());
+        editedDegreePlannerCodes.remove(codeToEdit);
+        editedDegreePlannerCodes.add(editedCode);
 
-                DegreePlanner editedDegreePlanner = new DegreePlanner(
-                        degreePlanner.getYear(),
-                        degreePlanner.getSemester(),
-                        editedDegreePlannerCodes
-                );
+        DegreePlanner editedDegreePlanner = new DegreePlanner(
+                degreePlanner.getYear(),
+                degreePlanner.getSemester(),
+                editedDegreePlannerCodes
+        );
 
-                setDegreePlanner(degreePlanner, editedDegreePlanner);
-            }
-        }
+        setDegreePlanner(degreePlanner, editedDegreePlanner);
     }
 
     /**
@@ -229,23 +407,22 @@ public class Application implements ReadOnlyApplication {
     private void cascadeEditedCodeInRequirementCategories(Code codeToEdit, Code editedCode) {
         requireAllNonNull(codeToEdit, editedCode);
 
-        ObservableList<RequirementCategory> requirementCategories = getRequirementCategoryList();
-
-        for (RequirementCategory requirementCategory : requirementCategories) {
-            if (requirementCategory.getCodeSet().contains(codeToEdit)) {
-                Set<Code> editedCodes = new HashSet<>(requirementCategory.getCodeSet());
-                editedCodes.remove(codeToEdit);
-                editedCodes.add(editedCode);
-
-                RequirementCategory editedRequirementCategory = new RequirementCategory(
-                        requirementCategory.getName(),
-                        requirementCategory.getCredits(),
-                        editedCodes
-                );
-
-                setRequirementCategory(requirementCategory, editedRequirementCategory);
-            }
+        RequirementCategory requirementCategory = requirementCategories.getRequirementCategoryByCode(codeToEdit);
+        if (requirementCategory == null) {
+            return;
         }
+
+        Set<Code> editedCodes = new HashSet<>(requirementCategory.getCodeSet());
+        editedCodes.remove(codeToEdit);
+        editedCodes.add(editedCode);
+
+        RequirementCategory editedRequirementCategory = new RequirementCategory(
+                requirementCategory.getName(),
+                requirementCategory.getCredits(),
+                editedCodes
+        );
+
+        setRequirementCategory(requirementCategory, editedRequirementCategory);
     }
 
     /**
@@ -255,10 +432,14 @@ public class Application implements ReadOnlyApplication {
     public void removeModule(Module moduleToDelete) {
         requireNonNull(moduleToDelete);
 
-        modules.remove(moduleToDelete);
-        cascadeDeleteCodeToDegreePlanners(moduleToDelete.getCode());
-        cascadeDeleteCodeToRequirementCategories(moduleToDelete.getCode());
-        indicateModified();
+        batch(application -> {
+            modules.remove(moduleToDelete);
+            moduleSearchIndex.removeModule(moduleToDelete);
+            creditTotals.removeModule(moduleToDelete.getCode());
+            cascadeDeleteCodeToDegreePlanners(moduleToDelete.getCode());
+            cascadeDeleteCodeToRequirementCategories(moduleToDelete.getCode());
+            indicateModified();
+        });
     }
 
     /**
@@ -268,21 +449,21 @@ public class Application implements ReadOnlyApplication {
     private void cascadeDeleteCodeToDegreePlanners(Code codeToDelete) {
         assert codeToDelete != null;
 
-        ObservableList<DegreePlanner> degreePlanners = getDegreePlannerList();
-        for (DegreePlanner degreePlanner : degreePlanners) {
-            if (degreePlanner.getCodes().contains(codeToDelete)) {
-                Set<Code> editedCodes = new HashSet<>(degreePlanner.getCodes());
-                editedCodes.remove(codeToDelete);
+        DegreePlanner degreePlanner = degreePlanners.getDegreePlannerByCode(codeToDelete);
+        if (degreePlanner == null) {
+            return;
+        }
 
-                DegreePlanner editedDegreePlanner = new DegreePlanner(
-                        degreePlanner.getYear(),
-                        degreePlanner.getSemester(),
-                        editedCodes
-                );
+        Set<Code> editedCodes = new HashSet<>(degreePlanner.getCodes());
+        editedCodes.remove(codeToDelete);
 
-                setDegreePlanner(degreePlanner, editedDegreePlanner);
-            }
-        }
+        DegreePlanner editedDegreePlanner = new DegreePlanner(
+                degreePlanner.getYear(),
+                degreePlanner.getSemester(),
+                editedCodes
+        );
+
+        setDegreePlanner(degreePlanner, editedDegreePlanner);
     }
 
     /**
@@ -292,21 +473,21 @@ public class Application implements ReadOnlyApplication {
     private void cascadeDeleteCodeToRequirementCategories(Code codeToDelete) {
         assert codeToDelete != null;
 
-        ObservableList<RequirementCategory> requirementCategories = getRequirementCategoryList();
-        for (RequirementCategory requirementCategory : requirementCategories) {
-            if (requirementCategory.getCodeSet().contains(codeToDelete)) {
-                Set<Code> editedCodes = new HashSet<>(requirementCategory.getCodeSet());
-                editedCodes.remove(codeToDelete);
+        RequirementCategory requirementCategory = requirementCategories.getRequirementCategoryByCode(codeToDelete);
+        if (requirementCategory == null) {
+            return;
+        }
 
-                RequirementCategory editedRequirementCategory = new RequirementCategory(
-                        requirementCategory.getName(),
-                        requirementCategory.getCredits(),
-                        editedCodes
-                );
+        Set<Code> editedCodes = new HashSet<>(requirementCategory.getCodeSet());
+        editedCodes.remove(codeToDelete);
 
-                setRequirementCategory(requirementCategory, editedRequirementCategory);
-            }
-        }
+        RequirementCategory editedRequirementCategory = new RequirementCategory(
+                requirementCategory.getName(),
+                requirementCategory.getCredits(),
+                editedCodes
+        );
+
+        setRequirementCategory(requirementCategory, editedRequirementCategory);
     }
 
     //// planner-level operations
@@ -330,6 +511,15 @@ public class Application implements ReadOnlyApplication {
         return degreePlanners.getDegreePlannerByCode(code);
     }
 
+    /**
+     * Returns the degree planner of {@code year} and {@code semester}, otherwise returns null.
+     */
+    public DegreePlanner getDegreePlanner(Year year, Semester semester) {
+        requireAllNonNull(year, semester);
+
+        return degreePlanners.getDegreePlanner(year, semester);
+    }
+
     /**
      * Adds a degree planner to the degree planner list.
      * The degree planner must not already exist in the degree planner list.
@@ -338,6 +528,7 @@ public class Application implements ReadOnlyApplication {
         requireNonNull(degreePlanner);
 
         degreePlanners.add(degreePlanner);
+        creditTotals.addDegreePlanner(degreePlanner);
     }
 
     /**
@@ -350,6 +541,8 @@ public class Application implements ReadOnlyApplication {
         requireAllNonNull(target, editedDegreePlanner);
 
         degreePlanners.setDegreePlanner(target, editedDegreePlanner);
+        creditTotals.removeDegreePlanner(target);
+        creditTotals.addDegreePlanner(editedDegreePlanner);
     }
 
     /**
@@ -360,31 +553,31 @@ public class Application implements ReadOnlyApplication {
     public void moveModuleBetweenPlanner(DegreePlanner sourcePlanner, DegreePlanner destinationPlanner, Code code) {
         requireAllNonNull(sourcePlanner, destinationPlanner, code);
 
-        Set<Code> codesToMove = new HashSet<>(modules.getModuleByCode(code).getCorequisites());
-        codesToMove.add(code);
-        Set<Code> editedDestinationPlannerCodes = new HashSet<>(destinationPlanner.getCodes());
+        batch(application -> {
+            Set<Code> codesToMove = new HashSet<>(modules.getModuleByCode(code).getCorequisites());
+            codesToMove.add(code);
+            Set<Code> editedDestinationPlannerCodes = new HashSet<>(destinationPlanner.getCodes());
 
-        for (Code codeToMove : codesToMove) {
-            DegreePlanner sourceDegreePlanner = degreePlanners.getDegreePlannerByCode(codeToMove);
-            Set<Code> editedSourceDegreePlanner = new HashSet<>(sourceDegreePlanner.getCodes());
-            editedSourceDegreePlanner.remove(codeToMove);
-            DegreePlanner editedSourcePlanner =
-                    new DegreePlanner(sourceDegreePlanner.getYear(), sourceDegreePlanner.getSemester(),
-                            editedSourceDegreePlanner);
+            for (Code codeToMove : codesToMove) {
+                DegreePlanner sourceDegreePlanner = degreePlanners.getDegreePlannerByCode(codeToMove);
+                Set<Code> editedSourceDegreePlanner = new HashSet<>(sourceDegreePlanner.getCodes());
+                editedSourceDegreePlanner.remove(codeToMove);
+                DegreePlanner editedSourcePlanner =
+                        new DegreePlanner(sourceDegreePlanner.getYear(), sourceDegreePlanner.getSemester(),
+                                editedSourceDegreePlanner);
 
-            setDegreePlanner(sourceDegreePlanner, editedSourcePlanner);
-        }
+                setDegreePlanner(sourceDegreePlanner, editedSourcePlanner);
+            }
 
-        editedDestinationPlannerCodes.addAll(codesToMove);
-        DegreePlanner editedDestinationPlanner = new DegreePlanner(destinationPlanner.getYear(),
-                destinationPlanner.getSemester(), editedDestinationPlannerCodes);
+            editedDestinationPlannerCodes.addAll(codesToMove);
+            DegreePlanner editedDestinationPlanner = new DegreePlanner(destinationPlanner.getYear(),
+                    destinationPlanner.getSemester(), editedDestinationPlannerCodes);
 
-        // Search for the destinationPlanner is necessary as code could have been removed from destinationPlanner
-        DegreePlanner targetDestinationPlanner = getDegreePlannerList().stream()
-                .filter(destinationPlanner::isSameDegreePlanner)
-                .findFirst()
-                .orElse(null);
-        setDegreePlanner(targetDestinationPlanner, editedDestinationPlanner);
+            // Search for the destinationPlanner is necessary as code could have been removed from destinationPlanner
+            DegreePlanner targetDestinationPlanner =
+                    degreePlanners.getDegreePlanner(destinationPlanner.getYear(), destinationPlanner.getSemester());
+            setDegreePlanner(targetDestinationPlanner, editedDestinationPlanner);
+        });
     }
 
     /**
@@ -395,6 +588,16 @@ public class Application implements ReadOnlyApplication {
         requireNonNull(key);
 
         degreePlanners.remove(key);
+        creditTotals.removeDegreePlanner(key);
+    }
+
+    /**
+     * Returns the total credits of the modules in {@code degreePlanner}.
+     */
+    public int getDegreePlannerCredits(DegreePlanner degreePlanner) {
+        requireNonNull(degreePlanner);
+
+        return creditTotals.getDegreePlannerCredits(degreePlanner);
     }
 
     //// requirement-level operations
@@ -429,6 +632,15 @@ public class Application implements ReadOnlyApplication {
         return requirementCategories.getRequirementCategory(requirementCategoryName);
     }
 
+    /**
+     * Returns the requirement category which contains the given {@code code}, otherwise returns null.
+     */
+    public RequirementCategory getRequirementCategoryByCode(Code code) {
+        requireNonNull(code);
+
+        return requirementCategories.getRequirementCategoryByCode(code);
+    }
+
     /**
      * Adds a requirement to the requirementCategoryList.
      * The requirement must not already exist in the requirementCategoryList.
@@ -437,6 +649,7 @@ public class Application implements ReadOnlyApplication {
         requireNonNull(requirementCategory);
 
         requirementCategories.add(requirementCategory);
+        creditTotals.addRequirementCategory(requirementCategory);
     }
 
     /**
@@ -450,6 +663,8 @@ public class Application implements ReadOnlyApplication {
         requireAllNonNull(target, editedRequirementCategory);
 
         requirementCategories.setRequirementCategory(target, editedRequirementCategory);
+        creditTotals.removeRequirementCategory(target);
+        creditTotals.addRequirementCategory(editedRequirementCategory);
     }
 
     /**
@@ -460,6 +675,16 @@ public class Application implements ReadOnlyApplication {
         requireNonNull(key);
 
         requirementCategories.remove(key);
+        creditTotals.removeRequirementCategory(key);
+    }
+
+    /**
+     * Returns the total credits of the modules in {@code requirementCategory}.
+     */
+    public int getRequirementCategoryCredits(RequirementCategory requirementCategory) {
+        requireNonNull(requirementCategory);
+
+        return creditTotals.getRequirementCategoryCredits(requirementCategory);
     }
 
     //// listener methods
@@ -480,8 +705,13 @@ public class Application implements ReadOnlyApplication {
 
     /**
      * Notifies listeners that the application has been modified.
+     * During a batch, the notification is deferred until the outermost batch is committed.
      */
     protected void indicateModified() {
+        if (batchDepth > 0) {
+            isModifiedDuringBatch = true;
+            return;
+        }
         invalidationListenerManager.callListeners(this);
     }
 
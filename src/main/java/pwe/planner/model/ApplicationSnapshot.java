@@ -0,0 +1,122 @@
+package pwe.planner.model;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.BitSet;
+import java.util.Objects;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import pwe.planner.commons.util.ListSnapshot;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.requirement.RequirementCategory;
+
+/**
+ * An immutable state of an {@code Application}.
+ * Consecutive snapshots of the same {@code Application} share the parts of their lists that did not change.
+ */
+class ApplicationSnapshot implements ReadOnlyApplication {
+
+    private final ListSnapshot<Module> modules;
+    private final ListSnapshot<DegreePlanner> degreePlanners;
+    private final ListSnapshot<RequirementCategory> requirementCategories;
+
+    ApplicationSnapshot(ListSnapshot<Module> modules, ListSnapshot<DegreePlanner> degreePlanners,
+            ListSnapshot<RequirementCategory> requirementCategories) {
+        requireAllNonNull(modules, degreePlanners, requirementCategories);
+
+        this.modules = modules;
+        this.degreePlanners = degreePlanners;
+        this.requirementCategories = requirementCategories;
+    }
+
+    /**
+     * Returns a snapshot of {@code application} which does not share anything with other snapshots.
+     */
+    static ApplicationSnapshot of(ReadOnlyApplication application) {
+        requireNonNull(application);
+
+        BitSet noChangedChunks = new BitSet();
+        return new ApplicationSnapshot(
+                ListSnapshot.<Module>empty().update(application.getModuleList(), noChangedChunks),
+                ListSnapshot.<DegreePlanner>empty().update(application.getDegreePlannerList(), noChangedChunks),
+                ListSnapshot.<RequirementCategory>empty().update(application.getRequirementCategoryList(),
+                        noChangedChunks));
+    }
+
+    /**
+     * Returns a rough estimate of the number of bytes of memory used by this snapshot that are not shared with
+     * {@code neighbour}, an older or newer snapshot of the same {@code Application}, or by the entire snapshot if
+     * {@code neighbour} is null.
+     */
+    long estimateBytes(ApplicationSnapshot neighbour) {
+        if (neighbour == null) {
+            return modules.estimateBytes(null) + degreePlanners.estimateBytes(null)
+                    + requirementCategories.estimateBytes(null);
+        }
+        return modules.estimateBytes(neighbour.modules) + degreePlanners.estimateBytes(neighbour.degreePlanners)
+                + requirementCategories.estimateBytes(neighbour.requirementCategories);
+    }
+
+    /**
+     * Returns a rough estimate of the number of bytes of memory used by the lists of this snapshot, without their
+     * elements, which are the elements of the {@code Application} the snapshot is the current state of.
+     */
+    long estimateListBytes() {
+        return modules.estimateChunkBytes() + degreePlanners.estimateChunkBytes()
+                + requirementCategories.estimateChunkBytes();
+    }
+
+    ListSnapshot<Module> getModules() {
+        return modules;
+    }
+
+    ListSnapshot<DegreePlanner> getDegreePlanners() {
+        return degreePlanners;
+    }
+
+    ListSnapshot<RequirementCategory> getRequirementCategories() {
+        return requirementCategories;
+    }
+
+    @Override
+    public ObservableList<Module> getModuleList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(modules));
+    }
+
+    @Override
+    public ObservableList<DegreePlanner> getDegreePlannerList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(degreePlanners));
+    }
+
+    @Override
+    public ObservableList<RequirementCategory> getRequirementCategoryList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(requirementCategories));
+    }
+
+    /**
+     * A snapshot never changes, so listeners are never notified.
+     */
+    @Override
+    public void addListener(InvalidationListener listener) {}
+
+    @Override
+    public void removeListener(InvalidationListener listener) {}
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ApplicationSnapshot // instanceof handles nulls
+                && modules.equals(((ApplicationSnapshot) other).modules)
+                && degreePlanners.equals(((ApplicationSnapshot) other).degreePlanners)
+                && requirementCategories.equals(((ApplicationSnapshot) other).requirementCategories));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(modules, degreePlanners, requirementCategories);
+    }
+}
@@ -0,0 +1,58 @@
+package pwe.planner.model;
+
+import java.util.BitSet;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import pwe.planner.model.module.CompositeKeywordsPredicate;
+import pwe.planner.model.module.CompositeKeywordsPredicate.Connective;
+
+/**
+ * Evaluates filter expressions made up of {@link CompositeKeywordsPredicate}s with set algebra on bitsets.
+ * <p>
+ * Every other predicate of an expression is a leaf, which is resolved to the bitset of the positions of the elements
+ * matching it. The bitsets of the leaves are then combined with bitwise AND and OR according to the connectives of the
+ * expression, so a whole expression is answered with a few operations on compact bitsets, instead of testing the
+ * expression against every element.
+ */
+class BooleanExpressionEvaluator {
+
+    /**
+     * Returns the bitset of the positions of the elements matching {@code predicate}, or null if {@code leafResolver}
+     * returns null for any leaf of {@code predicate}.
+     * The bitsets returned by {@code leafResolver} are never modified, but a bitset of a leaf may be returned as is.
+     * Like {@link CompositeKeywordsPredicate#test(Object)}, the second operand of an AND is not evaluated if no element
+     * matches the first operand, so the leaves of such an operand are never resolved.
+     */
+    static BitSet evaluate(Predicate<?> predicate, Function<Predicate<?>, BitSet> leafResolver) {
+        if (!(predicate instanceof CompositeKeywordsPredicate)) {
+            return leafResolver.apply(predicate);
+        }
+
+        CompositeKeywordsPredicate<?> compositePredicate = (CompositeKeywordsPredicate<?>) predicate;
+        BitSet firstBits = evaluate(compositePredicate.getFirstPredicate(), leafResolver);
+        if (firstBits == null) {
+            return null;
+        }
+        if (compositePredicate.getConnective() == Connective.AND && firstBits.isEmpty()) {
+            return firstBits;
+        }
+        BitSet secondBits = evaluate(compositePredicate.getSecondPredicate(), leafResolver);
+        if (secondBits == null) {
+            return null;
+        }
+
+        BitSet resultBits = (BitSet) firstBits.clone();
+        switch (compositePredicate.getConnective()) {
+        case AND:
+            resultBits.and(secondBits);
+            break;
+        case OR:
+            resultBits.or(secondBits);
+            break;
+        default:
+            throw new AssertionError("Unknown connective: " + compositePredicate.getConnective());
+        }
+        return resultBits;
+    }
+}
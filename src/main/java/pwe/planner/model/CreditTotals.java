@@ -0,0 +1,156 @@
+package pwe.planner.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.requirement.RequirementCategory;
+
+/**
+ * Keeps the total credits of the modules in every degree planner and requirement category of an application, so that
+ * the totals can be read without looking up the credits of each module again.
+ * <p>
+ * The owner of the totals must report every change to its modules, degree planners and requirement categories.
+ * The total of a degree planner or requirement category is recomputed from the credits of its own modules when it
+ * is added or when the credits of one of its modules change, so each update only costs as much as the number of
+ * modules in the affected degree planner or requirement category. Modules that do not exist are counted as 0 credits.
+ */
+class CreditTotals {
+
+    private final Map<Code, Integer> creditsByCode = new HashMap<>();
+    private final Map<DegreePlanner, Integer> degreePlannerCredits = new HashMap<>();
+    private final Map<RequirementCategory, Integer> requirementCategoryCredits = new HashMap<>();
+
+    /**
+     * Recomputes every total from the modules, degree planners and requirement categories of {@code application}.
+     */
+    public void reset(ReadOnlyApplication application) {
+        requireNonNull(application);
+
+        creditsByCode.clear();
+        for (Module module : application.getModuleList()) {
+            creditsByCode.put(module.getCode(), getCredits(module));
+        }
+        resetDegreePlanners(application.getDegreePlannerList());
+        resetRequirementCategories(application.getRequirementCategoryList());
+    }
+
+    /**
+     * Recomputes the totals of the degree planners, which are replaced by {@code degreePlanners}.
+     */
+    public void resetDegreePlanners(List<DegreePlanner> degreePlanners) {
+        requireNonNull(degreePlanners);
+
+        degreePlannerCredits.clear();
+        degreePlanners.forEach(this::addDegreePlanner);
+    }
+
+    /**
+     * Recomputes the totals of the requirement categories, which are replaced by {@code requirementCategories}.
+     */
+    public void resetRequirementCategories(List<RequirementCategory> requirementCategories) {
+        requireNonNull(requirementCategories);
+
+        requirementCategoryCredits.clear();
+        requirementCategories.forEach(this::addRequirementCategory);
+    }
+
+    /**
+     * Records the credits of {@code module}, replacing the credits of any module with the same code.
+     * The totals of the degree planner and requirement category containing the code of {@code module} must be
+     * refreshed afterwards.
+     */
+    public void addModule(Module module) {
+        requireNonNull(module);
+
+        creditsByCode.put(module.getCode(), getCredits(module));
+    }
+
+    /**
+     * Forgets the credits of the module with {@code code}.
+     * The totals of the degree planner and requirement category containing {@code code} must be refreshed afterwards.
+     */
+    public void removeModule(Code code) {
+        requireNonNull(code);
+
+        creditsByCode.remove(code);
+    }
+
+    /**
+     * Computes and records the total credits of {@code degreePlanner}, replacing any total previously recorded for it.
+     */
+    public void addDegreePlanner(DegreePlanner degreePlanner) {
+        requireNonNull(degreePlanner);
+
+        degreePlannerCredits.put(degreePlanner, sumCredits(degreePlanner.getCodes()));
+    }
+
+    /**
+     * Forgets the total credits of {@code degreePlanner}.
+     */
+    public void removeDegreePlanner(DegreePlanner degreePlanner) {
+        requireNonNull(degreePlanner);
+
+        degreePlannerCredits.remove(degreePlanner);
+    }
+
+    /**
+     * Computes and records the total credits of {@code requirementCategory}, replacing any total previously recorded
+     * for it.
+     */
+    public void addRequirementCategory(RequirementCategory requirementCategory) {
+        requireNonNull(requirementCategory);
+
+        requirementCategoryCredits.put(requirementCategory, sumCredits(requirementCategory.getCodeSet()));
+    }
+
+    /**
+     * Forgets the total credits of {@code requirementCategory}.
+     */
+    public void removeRequirementCategory(RequirementCategory requirementCategory) {
+        requireNonNull(requirementCategory);
+
+        requirementCategoryCredits.remove(requirementCategory);
+    }
+
+    /**
+     * Returns the total credits of the modules in {@code degreePlanner}.
+     */
+    public int getDegreePlannerCredits(DegreePlanner degreePlanner) {
+        requireNonNull(degreePlanner);
+
+        Integer credits = degreePlannerCredits.get(degreePlanner);
+        return credits == null ? sumCredits(degreePlanner.getCodes()) : credits;
+    }
+
+    /**
+     * Returns the total credits of the modules in {@code requirementCategory}.
+     */
+    public int getRequirementCategoryCredits(RequirementCategory requirementCategory) {
+        requireNonNull(requirementCategory);
+
+        Integer credits = requirementCategoryCredits.get(requirementCategory);
+        return credits == null ? sumCredits(requirementCategory.getCodeSet()) : credits;
+    }
+
+    /**
+     * Returns the total credits of the modules with {@code codes}.
+     */
+    private int sumCredits(Set<Code> codes) {
+        int totalCredits = 0;
+        for (Code code : codes) {
+            totalCredits += creditsByCode.getOrDefault(code, 0);
+        }
+        return totalCredits;
+    }
+
+    private static int getCredits(Module module) {
+        return module.getCredits().intValue();
+    }
+}
@@ -0,0 +1,85 @@
+package pwe.planner.model;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.logic.parser.ParserUtil.parseKeyword;
+
+import java.util.BitSet;
+import java.util.function.Predicate;
+
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.planner.Semester;
+import pwe.planner.model.planner.SemesterContainsKeywordPredicate;
+import pwe.planner.model.planner.UniqueDegreePlannerList;
+import pwe.planner.model.planner.Year;
+import pwe.planner.model.planner.YearContainsKeywordPredicate;
+
+/**
+ * A filter of degree planners which is evaluated as a bitset of the slots of the year and semester grid of
+ * {@link UniqueDegreePlannerList}.
+ * <p>
+ * The slots matching a year or semester keyword do not depend on the degree planners in the list, so the bitset of
+ * a filter expression is evaluated once by {@link BooleanExpressionEvaluator}, and testing a degree planner only
+ * checks the bit of its slot.
+ */
+class DegreePlannerSlotFilter implements Predicate<DegreePlanner> {
+
+    private final BitSet matchingSlots;
+
+    private DegreePlannerSlotFilter(BitSet matchingSlots) {
+        this.matchingSlots = matchingSlots;
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate}, which checks the slots matching {@code predicate} instead
+     * of testing the keywords of {@code predicate} against every degree planner.
+     * Returns {@code predicate} itself if it is not made up of keywords predicates on years and semesters.
+     */
+    static Predicate<DegreePlanner> create(Predicate<DegreePlanner> predicate) {
+        requireNonNull(predicate);
+
+        BitSet matchingSlots = BooleanExpressionEvaluator.evaluate(predicate, DegreePlannerSlotFilter::lookUpLeaf);
+        return matchingSlots == null ? predicate : new DegreePlannerSlotFilter(matchingSlots);
+    }
+
+    /**
+     * Returns the slots matching the keywords predicate {@code predicate}, or null if {@code predicate} is not a
+     * keywords predicate on years or semesters.
+     */
+    private static BitSet lookUpLeaf(Predicate<?> predicate) {
+        BitSet slots = new BitSet();
+        if (predicate instanceof YearContainsKeywordPredicate) {
+            String keyword = ((YearContainsKeywordPredicate<?>) predicate).getKeyword();
+            for (int year = 1; year <= Year.NUMBER_OF_YEARS; year++) {
+                if (parseKeyword(keyword, Integer.toString(year))) {
+                    for (int semester = 1; semester <= Semester.NUMBER_OF_SEMESTERS; semester++) {
+                        slots.set(getSlot(year, semester));
+                    }
+                }
+            }
+        } else if (predicate instanceof SemesterContainsKeywordPredicate) {
+            String keyword = ((SemesterContainsKeywordPredicate<?>) predicate).getKeyword();
+            for (int semester = 1; semester <= Semester.NUMBER_OF_SEMESTERS; semester++) {
+                if (parseKeyword(keyword, Integer.toString(semester))) {
+                    for (int year = 1; year <= Year.NUMBER_OF_YEARS; year++) {
+                        slots.set(getSlot(year, semester));
+                    }
+                }
+            }
+        } else {
+            return null;
+        }
+        return slots;
+    }
+
+    private static int getSlot(int year, int semester) {
+        return UniqueDegreePlannerList.getSlot(Year.of(Integer.toString(year)),
+                Semester.of(Integer.toString(semester)));
+    }
+
+    @Override
+    public boolean test(DegreePlanner degreePlanner) {
+        requireNonNull(degreePlanner);
+
+        return matchingSlots.get(UniqueDegreePlannerList.getSlot(degreePlanner.getYear(), degreePlanner.getSemester()));
+    }
+}
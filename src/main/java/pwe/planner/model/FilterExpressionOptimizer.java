@@ -0,0 +1,165 @@
+package pwe.planner.model;
+
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import pwe.planner.model.module.CompositeKeywordsPredicate;
+import pwe.planner.model.module.CompositeKeywordsPredicate.Connective;
+
+/**
+ * Reorders the operands of the {@link CompositeKeywordsPredicate}s of a filter expression, so that the expression is
+ * evaluated with as little work as possible.
+ * <p>
+ * AND and OR both short-circuit, so the second operand of an AND is only evaluated if the first operand matches, and
+ * the second operand of an OR only if the first one does not. Every leaf of the expression is given an estimated cost
+ * and selectivity (the fraction of the elements it matches), and the operands of every chain of the same connective,
+ * such as {@code a && b && c}, are sorted so that the operands most likely to decide the result at the lowest cost are
+ * evaluated first. Operands are assumed to be independent. As AND and OR are commutative, the reordered expression
+ * always matches the same elements as the original expression.
+ */
+class FilterExpressionOptimizer {
+
+    /**
+     * Returns an expression matching the same elements as {@code predicate}, with the operands of its connectives
+     * reordered according to the estimates returned by {@code leafEstimator} for its leaves.
+     * Returns {@code predicate} itself if it is already in the best order.
+     */
+    static <T> Predicate<T> optimize(Predicate<T> predicate, Function<Predicate<?>, Estimate> leafEstimator) {
+        requireAllNonNull(predicate, leafEstimator);
+
+        return plan(predicate, leafEstimator).predicate;
+    }
+
+    /**
+     * Returns the estimate of {@code predicate} as reordered by {@link #optimize(Predicate, Function)}.
+     */
+    static Estimate estimate(Predicate<?> predicate, Function<Predicate<?>, Estimate> leafEstimator) {
+        requireAllNonNull(predicate, leafEstimator);
+
+        return plan(predicate, leafEstimator).estimate;
+    }
+
+    /**
+     * Returns the best order of the operands of {@code predicate} together with its estimate.
+     */
+    private static <T> Plan<T> plan(Predicate<T> predicate, Function<Predicate<?>, Estimate> leafEstimator) {
+        if (!(predicate instanceof CompositeKeywordsPredicate)) {
+            return new Plan<>(predicate, leafEstimator.apply(predicate));
+        }
+
+        Connective connective = ((CompositeKeywordsPredicate<T>) predicate).getConnective();
+        List<Predicate<T>> operands = new ArrayList<>();
+        collectOperands(predicate, connective, operands);
+
+        List<Plan<T>> operandPlans = new ArrayList<>();
+        for (Predicate<T> operand : operands) {
+            operandPlans.add(plan(operand, leafEstimator));
+        }
+        // a stable sort, so operands of the same rank keep their order
+        operandPlans.sort(Comparator.comparingDouble(operandPlan -> operandPlan.estimate.getRank(connective)));
+
+        Plan<T> combinedPlan = operandPlans.get(0);
+        for (int i = 1; i < operandPlans.size(); i++) {
+            combinedPlan = combine(connective, combinedPlan, operandPlans.get(i));
+        }
+        return predicate.equals(combinedPlan.predicate) ? new Plan<>(predicate, combinedPlan.estimate) : combinedPlan;
+    }
+
+    /**
+     * Adds the operands of the chain of {@code connective} starting at {@code predicate} to {@code operands}, from
+     * left to right.
+     */
+    private static <T> void collectOperands(Predicate<T> predicate, Connective connective,
+            List<Predicate<T>> operands) {
+        if (predicate instanceof CompositeKeywordsPredicate
+                && ((CompositeKeywordsPredicate<T>) predicate).getConnective() == connective) {
+            CompositeKeywordsPredicate<T> compositePredicate = (CompositeKeywordsPredicate<T>) predicate;
+            collectOperands(compositePredicate.getFirstPredicate(), connective, operands);
+            collectOperands(compositePredicate.getSecondPredicate(), connective, operands);
+        } else {
+            operands.add(predicate);
+        }
+    }
+
+    private static <T> Plan<T> combine(Connective connective, Plan<T> first, Plan<T> second) {
+        Predicate<T> predicate = new CompositeKeywordsPredicate<>(connective, first.predicate, second.predicate);
+        double firstSelectivity = first.estimate.getSelectivity();
+        double secondSelectivity = second.estimate.getSelectivity();
+
+        switch (connective) {
+        case AND:
+            return new Plan<>(predicate, new Estimate(
+                    first.estimate.getCost() + firstSelectivity * second.estimate.getCost(),
+                    firstSelectivity * secondSelectivity));
+        case OR:
+            return new Plan<>(predicate, new Estimate(
+                    first.estimate.getCost() + (1 - firstSelectivity) * second.estimate.getCost(),
+                    firstSelectivity + secondSelectivity - firstSelectivity * secondSelectivity));
+        default:
+            throw new AssertionError("Unknown connective: " + connective);
+        }
+    }
+
+    /**
+     * The estimated cost of evaluating a predicate on an element, and the estimated fraction of the elements it
+     * matches.
+     */
+    static class Estimate {
+        private final double cost;
+        private final double selectivity;
+
+        /**
+         * Creates an estimate of a positive {@code cost} and a {@code selectivity} between 0 and 1.
+         */
+        Estimate(double cost, double selectivity) {
+            assert cost > 0 : "cost should be positive.";
+            assert selectivity >= 0 && selectivity <= 1 : "selectivity should be between 0 and 1.";
+
+            this.cost = cost;
+            this.selectivity = selectivity;
+        }
+
+        double getCost() {
+            return cost;
+        }
+
+        double getSelectivity() {
+            return selectivity;
+        }
+
+        /**
+         * Returns the rank of this estimate as an operand of {@code connective}. Evaluating the operands of a chain of
+         * {@code connective} in increasing order of rank minimises the expected cost of the chain.
+         */
+        private double getRank(Connective connective) {
+            switch (connective) {
+            case AND:
+                // the cost paid for every element ruled out by the operand
+                return cost / (1 - selectivity);
+            case OR:
+                // the cost paid for every element matched by the operand
+                return cost / selectivity;
+            default:
+                throw new AssertionError("Unknown connective: " + connective);
+            }
+        }
+    }
+
+    /**
+     * An order of the operands of an expression together with its estimate.
+     */
+    private static class Plan<T> {
+        private final Predicate<T> predicate;
+        private final Estimate estimate;
+
+        private Plan(Predicate<T> predicate, Estimate estimate) {
+            this.predicate = predicate;
+            this.estimate = estimate;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package pwe.planner.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.beans.property.ReadOnlyProperty;
@@ -10,7 +11,10 @@ import pwe.planner.model.module.Code;
 import pwe.planner.model.module.Module;
 import pwe.planner.model.module.Name;
 import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.planner.Semester;
+import pwe.planner.model.planner.Year;
 import pwe.planner.model.requirement.RequirementCategory;
+import pwe.planner.model.tag.Tag;
 
 /**
  * The API of the Model component.
@@ -103,6 +107,29 @@ public interface Model {
      */
     Module getModuleByCode(Code code);
 
+    /**
+     * Returns the modules with the given tag, in no particular order.
+     */
+    List<Module> getModulesWithTag(Tag tag);
+
+    /**
+     * Returns up to {@code limit} codes of the modules in the application starting with {@code prefix}, ignoring
+     * case, in lexicographical order.
+     */
+    List<String> completeModuleCode(String prefix, int limit);
+
+    /**
+     * Returns up to {@code limit} tag names of the modules in the application starting with {@code prefix}, ignoring
+     * case, in lexicographical order.
+     */
+    List<String> completeTagName(String prefix, int limit);
+
+    /**
+     * Returns up to {@code limit} codes of the modules in the application which are most similar to {@code code},
+     * nearest first, to suggest in place of a code which does not exist.
+     */
+    List<Code> getSimilarModuleCodes(Code code, int limit);
+
     /**
      * Returns true if a {@code Module} with the specified {@code Code} exists in the application.
      */
@@ -199,6 +226,16 @@ public interface Model {
      */
     DegreePlanner getDegreePlannerByCode(Code code);
 
+    /**
+     * Returns the degree planner of the given year and semester, otherwise returns null.
+     */
+    DegreePlanner getDegreePlanner(Year year, Semester semester);
+
+    /**
+     * Returns the total credits of the modules in the given degreePlanner.
+     */
+    int getDegreePlannerCredits(DegreePlanner degreePlanner);
+
     /**
      * Deletes the given degreePlanner.
      * The degreePlanner must exist in the degreePlaner list.
@@ -257,6 +294,16 @@ public interface Model {
      */
     RequirementCategory getRequirementCategory(Name requirementCategoryName);
 
+    /**
+     * Returns the requirement category which contains the given {@code code}, otherwise returns null.
+     */
+    RequirementCategory getRequirementCategoryByCode(Code code);
+
+    /**
+     * Returns the total credits of the modules in the given requirement category.
+     */
+    int getRequirementCategoryCredits(RequirementCategory requirementCategory);
+
     /**
      * Adds the given requirement.
      * {@code requirement} must not already exist in the requirementCategoryList.
@@ -4,7 +4,9 @@ import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -14,13 +16,17 @@ import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import pwe.planner.commons.core.GuiSettings;
+import pwe.planner.commons.core.HistorySettings;
 import pwe.planner.commons.core.LogsCenter;
 import pwe.planner.model.module.Code;
 import pwe.planner.model.module.Module;
 import pwe.planner.model.module.Name;
 import pwe.planner.model.module.exceptions.ModuleNotFoundException;
 import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.planner.Semester;
+import pwe.planner.model.planner.Year;
 import pwe.planner.model.requirement.RequirementCategory;
+import pwe.planner.model.tag.Tag;
 
 /**
  * Represents the in-memory model of the application data.
@@ -40,14 +46,32 @@ public class ModelManager implements Model {
 
     /**
      * Initializes a ModelManager with the given application and userPrefs.
+     * Undo history states which do not fit into memory are discarded.
      */
     public ModelManager(ReadOnlyApplication application, ReadOnlyUserPrefs userPrefs) {
+        this(application, userPrefs, Optional.empty());
+    }
+
+    /**
+     * Initializes a ModelManager with the given application and userPrefs.
+     * Undo history states which do not fit into memory are spilled to {@code undoHistoryStorage}.
+     */
+    public ModelManager(ReadOnlyApplication application, ReadOnlyUserPrefs userPrefs,
+            UndoHistoryStorage undoHistoryStorage) {
+        this(application, userPrefs, Optional.of(undoHistoryStorage));
+    }
+
+    private ModelManager(ReadOnlyApplication application, ReadOnlyUserPrefs userPrefs,
+            Optional<UndoHistoryStorage> undoHistoryStorage) {
         super();
-        requireAllNonNull(application, userPrefs);
+        requireAllNonNull(application, userPrefs, undoHistoryStorage);
 
         logger.fine("Initializing with application: " + application + " and user prefs " + userPrefs);
 
-        versionedApplication = new VersionedApplication(application);
+        HistorySettings historySettings = userPrefs.getHistorySettings();
+        versionedApplication = undoHistoryStorage
+                .map(storage -> new VersionedApplication(application, historySettings, storage))
+                .orElseGet(() -> new VersionedApplication(application, historySettings));
         this.userPrefs = new UserPrefs(userPrefs);
 
         filteredModules = new FilteredList<>(versionedApplication.getModuleList());
@@ -166,6 +190,34 @@ public class ModelManager implements Model {
         return versionedApplication.getModuleByCode(code);
     }
 
+    @Override
+    public List<Module> getModulesWithTag(Tag tag) {
+        requireNonNull(tag);
+
+        return versionedApplication.getModulesWithTag(tag);
+    }
+
+    @Override
+    public List<String> completeModuleCode(String prefix, int limit) {
+        requireNonNull(prefix);
+
+        return versionedApplication.completeModuleCode(prefix, limit);
+    }
+
+    @Override
+    public List<String> completeTagName(String prefix, int limit) {
+        requireNonNull(prefix);
+
+        return versionedApplication.completeTagName(prefix, limit);
+    }
+
+    @Override
+    public List<Code> getSimilarModuleCodes(Code code, int limit) {
+        requireNonNull(code);
+
+        return versionedApplication.getSimilarModuleCodes(code, limit);
+    }
+
     @Override
     public boolean hasModuleCode(Code code) {
         requireNonNull(code);
@@ -217,7 +269,7 @@ public class ModelManager implements Model {
     public void updateFilteredModuleList(Predicate<Module> predicate) {
         requireNonNull(predicate);
 
-        filteredModules.setPredicate(predicate);
+        filteredModules.setPredicate(versionedApplication.createModuleFilter(predicate));
     }
 
     //=========== Undo/Redo =================================================================================
@@ -343,6 +395,19 @@ public class ModelManager implements Model {
         return versionedApplication.getDegreePlannerByCode(code);
     }
 
+    @Override
+    public DegreePlanner getDegreePlanner(Year year, Semester semester) {
+        requireAllNonNull(year, semester);
+        return versionedApplication.getDegreePlanner(year, semester);
+    }
+
+    @Override
+    public int getDegreePlannerCredits(DegreePlanner degreePlanner) {
+        requireNonNull(degreePlanner);
+
+        return versionedApplication.getDegreePlannerCredits(degreePlanner);
+    }
+
     @Override
     public void setDegreePlanner(DegreePlanner target, DegreePlanner editedDegreePlanner) {
         requireAllNonNull(target, editedDegreePlanner);
@@ -366,7 +431,7 @@ public class ModelManager implements Model {
     public void updateFilteredDegreePlannerList(Predicate<DegreePlanner> predicate) {
         requireNonNull(predicate);
 
-        filteredDegreePlanners.setPredicate(predicate);
+        filteredDegreePlanners.setPredicate(DegreePlannerSlotFilter.create(predicate));
     }
 
     //=========== RequirementCategoryList Methods =================================================================
@@ -392,6 +457,20 @@ public class ModelManager implements Model {
         return versionedApplication.getRequirementCategory(requirementCategoryName);
     }
 
+    @Override
+    public RequirementCategory getRequirementCategoryByCode(Code code) {
+        requireNonNull(code);
+
+        return versionedApplication.getRequirementCategoryByCode(code);
+    }
+
+    @Override
+    public int getRequirementCategoryCredits(RequirementCategory requirementCategory) {
+        requireNonNull(requirementCategory);
+
+        return versionedApplication.getRequirementCategoryCredits(requirementCategory);
+    }
+
     @Override
     public void addRequirementCategory(RequirementCategory requirementCategory) {
         requireNonNull(requirementCategory);
@@ -0,0 +1,707 @@
+package pwe.planner.model;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.StringUtil.foldCase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import pwe.planner.commons.util.BkTree;
+import pwe.planner.commons.util.CompletionTrie;
+import pwe.planner.commons.util.FuzzyMatcher;
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.CodeContainsKeywordsPredicate;
+import pwe.planner.model.module.CreditsContainsKeywordsPredicate;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.module.NameContainsKeywordsPredicate;
+import pwe.planner.model.module.NameFuzzyMatchesKeywordPredicate;
+import pwe.planner.model.module.TagContainsKeywordsPredicate;
+import pwe.planner.model.planner.Semester;
+import pwe.planner.model.planner.SemesterContainsKeywordPredicate;
+import pwe.planner.model.tag.Tag;
+
+/**
+ * An inverted index of the searchable fields of the modules in an application, which finds the modules matching a
+ * filter expression without testing the keywords of the expression against every module.
+ * <p>
+ * The name, code, credits, semesters and tags of every module are split into words, and every word is mapped to the
+ * modules containing it. The whole value of every field is mapped as well, as a keyword of more than one word has to
+ * match the whole value. Words and values are compared ignoring case, in the same way as
+ * {@link pwe.planner.logic.parser.ParserUtil#parseKeyword(String, String)}.
+ * <p>
+ * Every indexed module is given a slot, which is not changed until the module is removed, and the modules containing a
+ * word or value are kept as a {@link PostingList} of their slots in ascending order. Most words and values, such as
+ * codes and whole names, belong to a single module, so the posting lists are kept sparse, and their memory grows with
+ * the number of modules they contain rather than with the number of slots. Slots are reused after their modules are
+ * removed, so the slots stay as compact as the module list. Filter expressions are evaluated by
+ * {@link BooleanExpressionEvaluator}, on bitsets of the slots built from the posting lists of the keywords of the
+ * expression only when the expression is evaluated.
+ * <p>
+ * Before a filter expression is evaluated, its operands are reordered by {@link FilterExpressionOptimizer}, using the
+ * size of the posting list of every keyword and the cost of testing every field of a module, so that no module is
+ * looked up before the expression is evaluated.
+ * <p>
+ * The distinct words of the names of the modules are also split into trigrams, and every trigram is mapped to the
+ * words containing it, to find the names approximately matching a keyword without computing the edit distance between
+ * the keyword and every word. A word within an edit distance of {@code k} of a word of a keyword shares all but at most
+ * {@code 3k} of the distinct trigrams of the word of the keyword, so only the words sharing enough trigrams are
+ * candidates, which are then verified by {@link FuzzyMatcher}. The modules with the matching words are looked up in
+ * the postings of the words, so the cost depends on the number of distinct words rather than the number of modules.
+ * <p>
+ * The codes and tag names of the modules are also kept in {@link CompletionTrie}s, to complete them as they are
+ * typed, and the codes in a {@link BkTree}, to suggest the codes closest to a mistyped code.
+ * <p>
+ * The owner of the index must report every change to its modules.
+ */
+public class ModuleSearchIndex {
+
+    /**
+     * The searchable fields of a module, with the relative cost of testing a keyword against the field of a module.
+     * Names are made up of several words, and modules have several semesters and tags, while codes and credits are
+     * single words.
+     */
+    private enum Field {
+        NAME(4), CODE(1), CREDITS(1), SEMESTER(2), TAG(3);
+
+        private final double testCost;
+
+        Field(double testCost) {
+            this.testCost = testCost;
+        }
+    }
+
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+    private static final PostingList EMPTY_POSTING_LIST = new PostingList();
+    private static final double UNKNOWN_TEST_COST = 10;
+    private static final double FUZZY_NAME_TEST_COST = 8;
+    private static final double FUZZY_NAME_SELECTIVITY = 0.1;
+    private static final int TRIGRAM_LENGTH = 3;
+    private static final String TRIGRAM_PADDING = "  ";
+    private static final int MAX_SIMILAR_CODE_DISTANCE = 2;
+
+    private final Map<Code, Module> indexedModules = new HashMap<>();
+    private final Map<Code, Integer> slotByCode = new HashMap<>();
+    private final List<Code> codeBySlot = new ArrayList<>();
+    private final BitSet usedSlots = new BitSet();
+    private final Map<Field, Map<String, PostingList>> wordPostings = new EnumMap<>(Field.class);
+    private final Map<Field, Map<String, PostingList>> valuePostings = new EnumMap<>(Field.class);
+    private final Map<String, Set<String>> nameWordsByTrigram = new HashMap<>();
+    private final CompletionTrie codeCompletions = new CompletionTrie();
+    private final CompletionTrie tagCompletions = new CompletionTrie();
+    private final BkTree codeTree = new BkTree();
+    private int modificationCount = 0;
+
+    public ModuleSearchIndex() {
+        for (Field field : Field.values()) {
+            wordPostings.put(field, new HashMap<>());
+            valuePostings.put(field, new HashMap<>());
+        }
+    }
+
+    /**
+     * Replaces the modules in the index with {@code modules}.
+     * <p>
+     * The modules of a restored snapshot are mostly the same objects as the indexed modules, so if at least half of
+     * {@code modules} are already indexed, only the other modules are added and the modules no longer in
+     * {@code modules} are removed. Otherwise, the index is rebuilt from scratch.
+     */
+    public void reset(List<Module> modules) {
+        requireNonNull(modules);
+
+        int unchangedCount = 0;
+        for (Module module : modules) {
+            if (indexedModules.get(module.getCode()) == module) {
+                unchangedCount++;
+            }
+        }
+
+        if (2 * unchangedCount < Math.max(modules.size(), indexedModules.size())) {
+            clear();
+            modules.forEach(this::addModule);
+        } else {
+            Set<Code> codes = new HashSet<>();
+            for (Module module : modules) {
+                codes.add(module.getCode());
+                if (indexedModules.get(module.getCode()) != module) {
+                    addModule(module);
+                }
+            }
+
+            List<Module> removedModules = new ArrayList<>();
+            for (Module indexedModule : indexedModules.values()) {
+                if (!codes.contains(indexedModule.getCode())) {
+                    removedModules.add(indexedModule);
+                }
+            }
+            removedModules.forEach(this::removeModule);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Removes every module from the index.
+     */
+    private void clear() {
+        slotByCode.clear();
+        codeBySlot.clear();
+        usedSlots.clear();
+        wordPostings.values().forEach(Map::clear);
+        valuePostings.values().forEach(Map::clear);
+        nameWordsByTrigram.clear();
+        codeCompletions.clear();
+        tagCompletions.clear();
+        codeTree.clear();
+        indexedModules.clear();
+    }
+
+    /**
+     * Adds {@code module} to the index, replacing the module with the same code if there is one.
+     */
+    public void addModule(Module module) {
+        requireNonNull(module);
+
+        removeModule(module);
+        int slot = usedSlots.nextClearBit(0);
+        usedSlots.set(slot);
+        if (slot == codeBySlot.size()) {
+            codeBySlot.add(module.getCode());
+        } else {
+            codeBySlot.set(slot, module.getCode());
+        }
+        slotByCode.put(module.getCode(), slot);
+        indexedModules.put(module.getCode(), module);
+        codeCompletions.add(module.getCode().toString());
+        codeTree.add(module.getCode().toString());
+        module.getTags().forEach(tag -> tagCompletions.add(tag.tagName));
+        for (String word : module.getName().getNormalizedWords()) {
+            if (!wordPostings.get(Field.NAME).containsKey(word)) {
+                addNameWordTrigrams(word);
+            }
+        }
+
+        for (Field field : Field.values()) {
+            for (String value : getValues(module, field)) {
+                addPosting(valuePostings.get(field), foldCase(value.trim()), slot);
+                for (String word : WHITESPACE_PATTERN.split(value)) {
+                    if (!word.isEmpty()) {
+                        addPosting(wordPostings.get(field), foldCase(word), slot);
+                    }
+                }
+            }
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Removes the module with the code of {@code module} from the index, if there is one.
+     */
+    public void removeModule(Module module) {
+        requireNonNull(module);
+
+        Module indexedModule = indexedModules.remove(module.getCode());
+        if (indexedModule == null) {
+            return;
+        }
+        int slot = slotByCode.remove(module.getCode());
+        usedSlots.clear(slot);
+        codeBySlot.set(slot, null);
+        removeCodeAndTagNames(indexedModule);
+
+        for (Field field : Field.values()) {
+            for (String value : getValues(indexedModule, field)) {
+                removePosting(valuePostings.get(field), foldCase(value.trim()), slot);
+                for (String word : WHITESPACE_PATTERN.split(value)) {
+                    if (!word.isEmpty()) {
+                        removePosting(wordPostings.get(field), foldCase(word), slot);
+                    }
+                }
+            }
+        }
+        for (String word : indexedModule.getName().getNormalizedWords()) {
+            if (!wordPostings.get(Field.NAME).containsKey(word)) {
+                removeNameWordTrigrams(word);
+            }
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Returns the codes of the indexed modules matching {@code predicate}, or an empty {@code Optional} if
+     * {@code predicate} is not made up of keywords predicates on the searchable fields of a module.
+     */
+    public Optional<Set<Code>> search(Predicate<?> predicate) {
+        requireNonNull(predicate);
+
+        BitSet matchingSlots = BooleanExpressionEvaluator.evaluate(optimize(predicate), this::lookUpLeaf);
+        if (matchingSlots == null) {
+            return Optional.empty();
+        }
+
+        Set<Code> matchingCodes = new HashSet<>();
+        matchingSlots.stream().mapToObj(codeBySlot::get).forEach(matchingCodes::add);
+        return Optional.of(Collections.unmodifiableSet(matchingCodes));
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate}, which looks up the modules matching {@code predicate} in
+     * the index instead of testing the keywords of {@code predicate} against every module.
+     * Returns {@code predicate}, with its operands reordered to be tested as quickly as possible, if it cannot be
+     * looked up in the index.
+     */
+    public Predicate<Module> createFilter(Predicate<Module> predicate) {
+        requireNonNull(predicate);
+
+        Predicate<Module> optimizedPredicate = optimize(predicate);
+        BitSet matchingSlots = BooleanExpressionEvaluator.evaluate(optimizedPredicate, this::lookUpLeaf);
+        if (matchingSlots == null) {
+            return optimizedPredicate;
+        }
+        return new IndexedFilter(optimizedPredicate, matchingSlots);
+    }
+
+    /**
+     * Returns {@code predicate} with its operands reordered according to the statistics of the index.
+     */
+    private <T> Predicate<T> optimize(Predicate<T> predicate) {
+        return FilterExpressionOptimizer.optimize(predicate, this::estimateLeaf);
+    }
+
+    /**
+     * Returns up to {@code limit} codes of the indexed modules starting with {@code prefix}, ignoring case, in
+     * lexicographical order.
+     */
+    public List<String> completeCode(String prefix, int limit) {
+        requireNonNull(prefix);
+
+        return codeCompletions.complete(prefix, limit);
+    }
+
+    /**
+     * Returns up to {@code limit} tag names of the indexed modules starting with {@code prefix}, ignoring case, in
+     * lexicographical order.
+     */
+    public List<String> completeTagName(String prefix, int limit) {
+        requireNonNull(prefix);
+
+        return tagCompletions.complete(prefix, limit);
+    }
+
+    /**
+     * Returns up to {@code limit} codes of the indexed modules within an edit distance of
+     * {@code MAX_SIMILAR_CODE_DISTANCE} of {@code code}, nearest first.
+     */
+    public List<Code> findSimilarCodes(Code code, int limit) {
+        requireNonNull(code);
+
+        List<Code> similarCodes = new ArrayList<>();
+        for (String similarCode : codeTree.findNearest(code.toString(), MAX_SIMILAR_CODE_DISTANCE, limit)) {
+            similarCodes.add(Code.of(similarCode));
+        }
+        return similarCodes;
+    }
+
+    /**
+     * Removes the code and tag names of {@code module} from the completions, and its code from the similar codes.
+     */
+    private void removeCodeAndTagNames(Module module) {
+        codeTree.remove(module.getCode().toString());
+        codeCompletions.remove(module.getCode().toString());
+        module.getTags().forEach(tag -> tagCompletions.remove(tag.tagName));
+    }
+
+    /**
+     * Returns true if {@code module} has the same searchable fields as the indexed module with the same code.
+     */
+    private boolean isIndexed(Module module) {
+        Module indexedModule = indexedModules.get(module.getCode());
+        if (indexedModule == module) {
+            return true;
+        }
+
+        return indexedModule != null
+                && indexedModule.getName().equals(module.getName())
+                && indexedModule.getCredits().equals(module.getCredits())
+                && indexedModule.getSemesterMask() == module.getSemesterMask()
+                && indexedModule.getTags().equals(module.getTags());
+    }
+
+    /**
+     * Returns the slots of the modules matching the keywords predicate {@code predicate}, or null if
+     * {@code predicate} is not a keywords predicate on a searchable field of a module.
+     */
+    private BitSet lookUpLeaf(Predicate<?> predicate) {
+        if (predicate instanceof NameFuzzyMatchesKeywordPredicate) {
+            return lookUpFuzzyName(((NameFuzzyMatchesKeywordPredicate<?>) predicate).getKeyword());
+        }
+
+        Field field = getField(predicate);
+        if (field == null) {
+            return null;
+        }
+        PostingList postingList = lookUp(field, getKeyword(predicate));
+        return postingList == null ? null : postingList.toBitSet();
+    }
+
+    /**
+     * Returns the estimated cost and selectivity of testing the leaf {@code predicate} against a module, without
+     * looking up the modules matching it.
+     * <p>
+     * The selectivity of a keywords predicate on a field is the size of the posting list of its keyword, while fuzzy
+     * name predicates, whose modules are only found by comparing the keyword with the words of the names, are assumed
+     * to match a fixed fraction of the modules. Leaves which cannot be looked up in the index are assumed to be costly
+     * and to match every module, so that they are tested last.
+     */
+    private FilterExpressionOptimizer.Estimate estimateLeaf(Predicate<?> predicate) {
+        if (predicate instanceof NameFuzzyMatchesKeywordPredicate) {
+            String keyword = ((NameFuzzyMatchesKeywordPredicate<?>) predicate).getKeyword();
+            return new FuzzyMatcher(keyword).getWords().isEmpty()
+                    ? new FilterExpressionOptimizer.Estimate(UNKNOWN_TEST_COST, 1)
+                    : new FilterExpressionOptimizer.Estimate(FUZZY_NAME_TEST_COST, FUZZY_NAME_SELECTIVITY);
+        }
+
+        Field field = getField(predicate);
+        PostingList postingList = field == null ? null : lookUp(field, getKeyword(predicate));
+        if (postingList == null) {
+            return new FilterExpressionOptimizer.Estimate(UNKNOWN_TEST_COST, 1);
+        }
+
+        int moduleCount = indexedModules.size();
+        double selectivity = moduleCount == 0 ? 0 : (double) postingList.size() / moduleCount;
+        return new FilterExpressionOptimizer.Estimate(field.testCost, selectivity);
+    }
+
+    /**
+     * Returns the field searched by the keywords predicate {@code predicate}, or null if {@code predicate} is not a
+     * keywords predicate on a searchable field of a module.
+     */
+    private static Field getField(Predicate<?> predicate) {
+        if (predicate instanceof NameContainsKeywordsPredicate) {
+            return Field.NAME;
+        } else if (predicate instanceof CodeContainsKeywordsPredicate) {
+            return Field.CODE;
+        } else if (predicate instanceof CreditsContainsKeywordsPredicate) {
+            return Field.CREDITS;
+        } else if (predicate instanceof SemesterContainsKeywordPredicate) {
+            return Field.SEMESTER;
+        } else if (predicate instanceof TagContainsKeywordsPredicate) {
+            return Field.TAG;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the keyword of {@code predicate}, which must be a keywords predicate on a searchable field of a module.
+     */
+    private static String getKeyword(Predicate<?> predicate) {
+        switch (getField(predicate)) {
+        case NAME:
+            return ((NameContainsKeywordsPredicate<?>) predicate).getKeyword();
+        case CODE:
+            return ((CodeContainsKeywordsPredicate<?>) predicate).getKeyword();
+        case CREDITS:
+            return ((CreditsContainsKeywordsPredicate<?>) predicate).getKeyword();
+        case SEMESTER:
+            return ((SemesterContainsKeywordPredicate<?>) predicate).getKeyword();
+        case TAG:
+            return ((TagContainsKeywordsPredicate<?>) predicate).getKeyword();
+        default:
+            throw new AssertionError("Unknown field: " + getField(predicate));
+        }
+    }
+
+    /**
+     * Returns the posting list of the modules whose {@code field} matches {@code keyword}, or null if {@code keyword}
+     * is blank. A keyword of a single word matches any word of the field, while a keyword of more than one word must
+     * match the whole field.
+     */
+    private PostingList lookUp(Field field, String keyword) {
+        String preppedKeyword = keyword.trim();
+        if (preppedKeyword.isEmpty()) {
+            // blank keywords are rejected when the keywords predicate is tested
+            return null;
+        }
+
+        Map<String, PostingList> postings = WHITESPACE_PATTERN.split(keyword).length == 1
+                ? wordPostings.get(field)
+                : valuePostings.get(field);
+        return postings.getOrDefault(foldCase(preppedKeyword), EMPTY_POSTING_LIST);
+    }
+
+    /**
+     * Returns the slots of the modules whose names approximately match {@code keyword}, as defined by
+     * {@link FuzzyMatcher}, or null if {@code keyword} is blank.
+     */
+    private BitSet lookUpFuzzyName(String keyword) {
+        List<String> keywordWords = new FuzzyMatcher(keyword).getWords();
+        if (keywordWords.isEmpty()) {
+            // blank keywords are rejected when the keywords predicate is tested
+            return null;
+        }
+
+        BitSet matchingSlots = null;
+        for (String keywordWord : keywordWords) {
+            BitSet wordMatchingSlots = lookUpFuzzyNameWord(keywordWord);
+            if (matchingSlots == null) {
+                matchingSlots = wordMatchingSlots;
+            } else {
+                matchingSlots.and(wordMatchingSlots);
+            }
+            if (matchingSlots.isEmpty()) {
+                break;
+            }
+        }
+        return matchingSlots;
+    }
+
+    /**
+     * Returns the slots of the modules with a word in their names close to the folded word of a keyword
+     * {@code keywordWord}, as defined by {@link FuzzyMatcher}.
+     * <p>
+     * A close word shares at least {@code minSharedCount} of the distinct trigrams of {@code keywordWord}, so it must
+     * contain one of the {@code trigramCount - minSharedCount + 1} trigrams with the fewest words. Only the words
+     * containing these trigrams are counted against the other trigrams, and only the words with enough trigrams are
+     * verified. Every word is a candidate if {@code minSharedCount} is not positive.
+     */
+    private BitSet lookUpFuzzyNameWord(String keywordWord) {
+        List<Set<String>> trigramWords = new ArrayList<>();
+        for (String trigram : getTrigrams(keywordWord)) {
+            trigramWords.add(nameWordsByTrigram.getOrDefault(trigram, Collections.emptySet()));
+        }
+        trigramWords.sort(Comparator.comparingInt(Set::size));
+
+        int minSharedCount = trigramWords.size() - TRIGRAM_LENGTH * FuzzyMatcher.getMaxEditDistance(keywordWord);
+        Set<String> candidateWords = new HashSet<>();
+        if (minSharedCount > 0) {
+            for (Set<String> words : trigramWords.subList(0, trigramWords.size() - minSharedCount + 1)) {
+                candidateWords.addAll(words);
+            }
+        } else {
+            // words repeating their trigrams, such as "aaaaaa", cannot be filtered by their trigrams
+            candidateWords.addAll(wordPostings.get(Field.NAME).keySet());
+        }
+
+        BitSet matchingSlots = new BitSet();
+        for (String word : candidateWords) {
+            int sharedCount = 0;
+            for (Set<String> words : trigramWords) {
+                if (words.contains(word)) {
+                    sharedCount++;
+                }
+            }
+            if (sharedCount >= minSharedCount && FuzzyMatcher.matchesWord(keywordWord, word)) {
+                wordPostings.get(Field.NAME).get(word).addTo(matchingSlots);
+            }
+        }
+        return matchingSlots;
+    }
+
+    /**
+     * Adds the folded word {@code word}, which is not in the name of any other module, to the words of its trigrams.
+     */
+    private void addNameWordTrigrams(String word) {
+        for (String trigram : getTrigrams(word)) {
+            nameWordsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(word);
+        }
+    }
+
+    /**
+     * Removes the folded word {@code word}, which is no longer in the name of any module, from the words of its
+     * trigrams.
+     */
+    private void removeNameWordTrigrams(String word) {
+        for (String trigram : getTrigrams(word)) {
+            Set<String> words = nameWordsByTrigram.get(trigram);
+            if (words == null) {
+                continue;
+            }
+
+            words.remove(word);
+            if (words.isEmpty()) {
+                nameWordsByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code word} padded with whitespace on both sides, so that every character of
+     * {@code word}, including the first and last, is in {@code TRIGRAM_LENGTH} trigrams.
+     */
+    private static Set<String> getTrigrams(String word) {
+        String paddedWord = TRIGRAM_PADDING + word + TRIGRAM_PADDING;
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + TRIGRAM_LENGTH <= paddedWord.length(); i++) {
+            trigrams.add(paddedWord.substring(i, i + TRIGRAM_LENGTH));
+        }
+        return trigrams;
+    }
+
+    private static void addPosting(Map<String, PostingList> postings, String key, int slot) {
+        postings.computeIfAbsent(key, unused -> new PostingList()).add(slot);
+    }
+
+    private static void removePosting(Map<String, PostingList> postings, String key, int slot) {
+        PostingList slots = postings.get(key);
+        if (slots == null) {
+            return;
+        }
+
+        slots.remove(slot);
+        if (slots.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+
+    /**
+     * Returns the values of {@code field} in {@code module}.
+     */
+    private static List<String> getValues(Module module, Field field) {
+        switch (field) {
+        case NAME:
+            return List.of(module.getName().toString());
+        case CODE:
+            return List.of(module.getCode().toString());
+        case CREDITS:
+            return List.of(module.getCredits().toString());
+        case SEMESTER:
+            List<String> semesters = new ArrayList<>();
+            for (Semester semester : module.getSemesters()) {
+                semesters.add(semester.toString());
+            }
+            return semesters;
+        case TAG:
+            List<String> tagNames = new ArrayList<>();
+            for (Tag tag : module.getTags()) {
+                tagNames.add(tag.tagName);
+            }
+            return tagNames;
+        default:
+            throw new AssertionError("Unknown field: " + field);
+        }
+    }
+
+    /**
+     * A predicate that looks up the modules matching its keywords predicate in the index.
+     * The matching modules are looked up again whenever the index changes. Modules which are not in the index yet,
+     * as the index is only updated after the module list, are tested against the keywords predicate instead.
+     */
+    private class IndexedFilter implements Predicate<Module> {
+        private final Predicate<Module> predicate;
+        /** The slots of the modules matching the predicate, or null if a leaf of the predicate cannot be looked up. */
+        private BitSet matchingSlots;
+        private int lookedUpModificationCount;
+
+        /**
+         * Creates a filter for {@code predicate}, whose matching slots in the current state of the index are
+         * {@code matchingSlots}.
+         */
+        private IndexedFilter(Predicate<Module> predicate, BitSet matchingSlots) {
+            this.predicate = predicate;
+            this.matchingSlots = matchingSlots;
+            lookedUpModificationCount = modificationCount;
+        }
+
+        @Override
+        public boolean test(Module module) {
+            requireNonNull(module);
+
+            if (!isIndexed(module)) {
+                return predicate.test(module);
+            }
+
+            if (lookedUpModificationCount != modificationCount) {
+                matchingSlots = BooleanExpressionEvaluator.evaluate(predicate, ModuleSearchIndex.this::lookUpLeaf);
+                lookedUpModificationCount = modificationCount;
+            }
+            if (matchingSlots == null) {
+                // a leaf skipped when the filter was created could not be looked up
+                return predicate.test(module);
+            }
+            return matchingSlots.get(slotByCode.get(module.getCode()));
+        }
+    }
+
+    /**
+     * The slots of the modules containing a word or value, as a sorted array of distinct slots.
+     * <p>
+     * A slot is added or removed by binary search and shifting the slots after it. Slots are mostly added in
+     * ascending order, as modules are given the lowest free slot, so adding a slot usually appends it.
+     */
+    private static class PostingList {
+        private static final int[] NO_SLOTS = new int[0];
+
+        private int[] slots = NO_SLOTS;
+        private int size = 0;
+
+        /**
+         * Adds {@code slot} to the list, if it is not in the list yet.
+         */
+        private void add(int slot) {
+            int index = size > 0 && slots[size - 1] < slot ? -size - 1 : Arrays.binarySearch(slots, 0, size, slot);
+            if (index >= 0) {
+                return;
+            }
+
+            int insertionPoint = -index - 1;
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, Math.max(1, size + (size >> 1) + 1));
+            }
+            System.arraycopy(slots, insertionPoint, slots, insertionPoint + 1, size - insertionPoint);
+            slots[insertionPoint] = slot;
+            size++;
+        }
+
+        /**
+         * Removes {@code slot} from the list, if it is in the list.
+         */
+        private void remove(int slot) {
+            int index = Arrays.binarySearch(slots, 0, size, slot);
+            if (index < 0) {
+                return;
+            }
+
+            System.arraycopy(slots, index + 1, slots, index, size - index - 1);
+            size--;
+            if (size < slots.length / 4) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+
+        /**
+         * Sets the bits of the slots of the list in {@code bits}.
+         */
+        private void addTo(BitSet bits) {
+            for (int i = 0; i < size; i++) {
+                bits.set(slots[i]);
+            }
+        }
+
+        /**
+         * Returns a new bitset of the slots of the list.
+         */
+        private BitSet toBitSet() {
+            BitSet bits = size == 0 ? new BitSet() : new BitSet(slots[size - 1] + 1);
+            addTo(bits);
+            return bits;
+        }
+    }
+}
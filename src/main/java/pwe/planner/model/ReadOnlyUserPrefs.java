@@ -3,6 +3,7 @@ package pwe.planner.model;
 import java.nio.file.Path;
 
 import pwe.planner.commons.core.GuiSettings;
+import pwe.planner.commons.core.HistorySettings;
 
 /**
  * Unmodifiable view of user prefs.
@@ -16,4 +17,8 @@ public interface ReadOnlyUserPrefs {
     Path getDegreePlannerListFilePath();
 
     Path getRequirementCategoryListFilePath();
+
+    HistorySettings getHistorySettings();
+
+    Path getUndoHistoryFilePath();
 }
@@ -0,0 +1,42 @@
+package pwe.planner.model;
+
+import java.io.IOException;
+
+import pwe.planner.commons.exceptions.DataConversionException;
+
+/**
+ * Stores the states of the undo history that are spilled out of memory.
+ */
+public interface UndoHistoryStorage {
+
+    /**
+     * Saves {@code state} to the storage.
+     *
+     * @return an identifier that can be passed to {@link #readState(long)} to read the saved state back.
+     * @throws IOException if there was any problem writing to the storage.
+     */
+    long saveState(ReadOnlyApplication state) throws IOException;
+
+    /**
+     * Reads back the state saved under {@code stateId}.
+     *
+     * @throws DataConversionException if the saved state is not in the expected format.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    ReadOnlyApplication readState(long stateId) throws DataConversionException, IOException;
+
+    /**
+     * Discards the state saved under {@code stateId}, so that the storage can reclaim the space it uses.
+     * Does nothing if there is no such state.
+     *
+     * @throws IOException if there was any problem writing to the storage.
+     */
+    void discardState(long stateId) throws IOException;
+
+    /**
+     * Discards all saved states.
+     *
+     * @throws IOException if there was any problem writing to the storage.
+     */
+    void clear() throws IOException;
+}
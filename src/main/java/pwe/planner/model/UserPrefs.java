@@ -6,7 +6,11 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.annotation.Nulls;
+
 import pwe.planner.commons.core.GuiSettings;
+import pwe.planner.commons.core.HistorySettings;
 
 /**
  * Represents User's preferences.
@@ -19,6 +23,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private Path degreePlannerListFilePath = Paths.get("data", "degreePlannerList.json");
     private Path requirementCategoryListFilePath = Paths.get("data", "requirementCategoryList.json");
 
+    @JsonSetter(nulls = Nulls.FAIL)
+    private HistorySettings historySettings = new HistorySettings();
+    private Path undoHistoryFilePath = Paths.get("data", "undoHistory.dat");
+
     /**
      * Creates a {@code UserPrefs} with default values.
      */
@@ -44,6 +52,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setModuleListFilePath(newUserPrefs.getModuleListFilePath());
         setDegreePlannerListFilePath(newUserPrefs.getDegreePlannerListFilePath());
         setRequirementCategoryListFilePath(newUserPrefs.getRequirementCategoryListFilePath());
+        setHistorySettings(newUserPrefs.getHistorySettings());
+        setUndoHistoryFilePath(newUserPrefs.getUndoHistoryFilePath());
 
     }
 
@@ -87,6 +97,26 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.requirementCategoryListFilePath = requirementCategoryListFilePath;
     }
 
+    public HistorySettings getHistorySettings() {
+        return historySettings;
+    }
+
+    public void setHistorySettings(HistorySettings historySettings) {
+        requireNonNull(historySettings);
+
+        this.historySettings = historySettings;
+    }
+
+    public Path getUndoHistoryFilePath() {
+        return undoHistoryFilePath;
+    }
+
+    public void setUndoHistoryFilePath(Path undoHistoryFilePath) {
+        requireNonNull(undoHistoryFilePath);
+
+        this.undoHistoryFilePath = undoHistoryFilePath;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -100,13 +130,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         return guiSettings.equals(o.guiSettings)
                 && moduleListFilePath.toAbsolutePath().equals(o.moduleListFilePath.toAbsolutePath())
-                && degreePlannerListFilePath.toAbsolutePath().equals(o.degreePlannerListFilePath.toAbsolutePath());
+                && degreePlannerListFilePath.toAbsolutePath().equals(o.degreePlannerListFilePath.toAbsolutePath())
+                && historySettings.equals(o.historySettings)
+                && undoHistoryFilePath.toAbsolutePath().equals(o.undoHistoryFilePath.toAbsolutePath());
 
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, moduleListFilePath, degreePlannerListFilePath);
+        return Objects.hash(guiSettings, moduleListFilePath, degreePlannerListFilePath, historySettings,
+                undoHistoryFilePath);
     }
 
     @Override
@@ -123,6 +156,12 @@ public class UserPrefs implements ReadOnlyUserPrefs {
                 .append('\n')
                 .append("Local data file location for degree planner list: ")
                 .append(Paths.get("").toAbsolutePath().relativize(degreePlannerListFilePath.toAbsolutePath()))
+                .append('\n')
+                .append("Undo history settings: ")
+                .append(historySettings)
+                .append('\n')
+                .append("Local data file location for undo history: ")
+                .append(Paths.get("").toAbsolutePath().relativize(undoHistoryFilePath.toAbsolutePath()))
                 .toString();
     }
 
@@ -1,40 +1,224 @@
 package pwe.planner.model;
 
 import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import pwe.planner.commons.core.HistorySettings;
+import pwe.planner.commons.core.LogsCenter;
+import pwe.planner.commons.exceptions.DataConversionException;
 
 /**
  * {@code Application} that keeps track of its own history.
+ * The history is kept as {@link ApplicationSnapshot snapshots}, which share the unchanged parts of the application
+ * with one another, so that each commit only copies what was modified since the previous commit.
+ * <p>
+ * The history is bounded by its {@link HistorySettings}: the oldest states are discarded once the history holds more
+ * than the maximum number of states, and the oldest states are spilled to the {@link UndoHistoryStorage} (or discarded
+ * if there is none) once the states held in memory are estimated to use more than the memory budget, which grows with
+ * the size of the application. Spilled states are read back when they are undone or redone to, and are discarded from
+ * the undo history storage once they leave the history.
+ * <p>
+ * Every state held in memory is charged for the memory it does not share with its neighbour towards the current
+ * state, so the memory shared by neighbouring states is only charged once. The current state is only charged for its
+ * lists, as its elements are the elements of the application itself.
  */
 public class VersionedApplication extends Application {
+    private static final Logger logger = LogsCenter.getLogger(VersionedApplication.class);
 
-    private final List<ReadOnlyApplication> applicationStateList;
+    private final List<HistoryState> applicationStateList;
+    private final HistorySettings historySettings;
+    private final UndoHistoryStorage undoHistoryStorage;
     private int currentStatePointer;
+    private int spilledStateCount;
+    private long estimatedMemoryBytes;
 
     public VersionedApplication(ReadOnlyApplication initialState) {
+        this(initialState, new HistorySettings());
+    }
+
+    /**
+     * Creates a {@code VersionedApplication} whose history is bounded by {@code historySettings}.
+     * States that do not fit into the memory budget are discarded.
+     */
+    public VersionedApplication(ReadOnlyApplication initialState, HistorySettings historySettings) {
+        this(initialState, historySettings, Optional.empty());
+    }
+
+    /**
+     * Creates a {@code VersionedApplication} whose history is bounded by {@code historySettings}.
+     * States that do not fit into the memory budget are spilled to {@code undoHistoryStorage}.
+     */
+    public VersionedApplication(ReadOnlyApplication initialState, HistorySettings historySettings,
+            UndoHistoryStorage undoHistoryStorage) {
+        this(initialState, historySettings, Optional.of(undoHistoryStorage));
+    }
+
+    private VersionedApplication(ReadOnlyApplication initialState, HistorySettings historySettings,
+            Optional<UndoHistoryStorage> undoHistoryStorage) {
         super(initialState);
-        requireNonNull(initialState);
+        requireAllNonNull(initialState, historySettings, undoHistoryStorage);
 
+        this.historySettings = historySettings;
+        this.undoHistoryStorage = undoHistoryStorage.orElse(null);
         applicationStateList = new ArrayList<>();
-        applicationStateList.add(new Application(initialState));
+        applicationStateList.add(new HistoryState(takeSnapshot()));
         currentStatePointer = 0;
+        reestimateState(0);
     }
 
     /**
-     * Saves a copy of the current {@code Application} state at the end of the state list.
+     * Saves a snapshot of the current {@code Application} state at the end of the state list.
+     * The snapshot shares every unchanged part of the state with the previous snapshot.
      * Undone states are removed from the state list.
      */
     public void commit() {
         removeStatesAfterCurrentPointer();
-        applicationStateList.add(new Application(this));
-        currentStatePointer++;
+        applicationStateList.add(new HistoryState(takeSnapshot()));
+        moveCurrentStatePointer(currentStatePointer + 1);
+
+        enforceHistorySettings();
+        logger.fine(getHistoryFootprint());
         indicateModified();
     }
 
     private void removeStatesAfterCurrentPointer() {
-        applicationStateList.subList(currentStatePointer + 1, applicationStateList.size()).clear();
+        removeStates(currentStatePointer + 1, applicationStateList.size());
+    }
+
+    /**
+     * Removes the states from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) from the state list.
+     * The current state pointer must not be within the removed range.
+     */
+    private void removeStates(int fromIndex, int toIndex) {
+        List<HistoryState> statesToRemove = applicationStateList.subList(fromIndex, toIndex);
+        for (HistoryState state : statesToRemove) {
+            if (state.isInMemory()) {
+                estimatedMemoryBytes -= state.estimatedBytes;
+            } else {
+                discardSpilledState(state);
+            }
+        }
+        // the remaining states are charged relative to states towards the current state, which are not removed
+        statesToRemove.clear();
+    }
+
+    /**
+     * Discards {@code state}, which must be spilled, from the undo history storage.
+     */
+    private void discardSpilledState(HistoryState state) {
+        spilledStateCount--;
+        try {
+            undoHistoryStorage.discardState(state.spilledStateId);
+        } catch (IOException ioe) {
+            logger.warning("Problem while discarding undo history on disk: " + ioe);
+        }
+    }
+
+    /**
+     * Discards the oldest states until the history holds no more than the maximum number of states, then spills
+     * (or discards) the oldest states before the current state until the memory budget is met.
+     */
+    private void enforceHistorySettings() {
+        while (applicationStateList.size() > historySettings.getMaxStates()) {
+            discardOldestState();
+        }
+
+        long memoryBudget = historySettings.getMemoryBudget(
+                applicationStateList.get(currentStatePointer).snapshot.estimateBytes(null));
+        while (estimatedMemoryBytes > memoryBudget) {
+            int index = getOldestStateInMemoryIndex();
+            if (index >= currentStatePointer) {
+                // only the current state and undone states are left in memory
+                break;
+            }
+
+            if (undoHistoryStorage == null || !spillState(index)) {
+                discardOldestState();
+            }
+        }
+    }
+
+    /**
+     * Discards the oldest state in the history.
+     */
+    private void discardOldestState() {
+        assert currentStatePointer > 0;
+
+        removeStates(0, 1);
+        currentStatePointer--;
+    }
+
+    /**
+     * Spills the state at {@code index}, which must be the oldest state held in memory, to the undo history storage.
+     *
+     * @return true if the state was spilled, or false if it could not be written to the undo history storage.
+     */
+    private boolean spillState(int index) {
+        HistoryState state = applicationStateList.get(index);
+        assert state.isInMemory();
+
+        try {
+            state.spilledStateId = undoHistoryStorage.saveState(state.snapshot);
+        } catch (IOException ioe) {
+            logger.warning("Problem while spilling undo history to disk, discarding state instead: " + ioe);
+            return false;
+        }
+
+        state.snapshot = null;
+        estimatedMemoryBytes -= state.estimatedBytes;
+        state.estimatedBytes = 0;
+        spilledStateCount++;
+        // the next state is charged relative to the state after it, so it is not affected
+        return true;
+    }
+
+    /**
+     * Moves the current state pointer to {@code index}, and re-estimates the memory used by the previous and the new
+     * current state, the only states whose neighbour towards the current state changes.
+     */
+    private void moveCurrentStatePointer(int index) {
+        int previousStatePointer = currentStatePointer;
+        currentStatePointer = index;
+        reestimateState(previousStatePointer);
+        reestimateState(currentStatePointer);
+    }
+
+    /**
+     * Re-estimates the memory used by the state at {@code index} (if it is held in memory), relative to its neighbour
+     * towards the current state.
+     */
+    private void reestimateState(int index) {
+        HistoryState state = applicationStateList.get(index);
+        if (!state.isInMemory()) {
+            return;
+        }
+
+        estimatedMemoryBytes -= state.estimatedBytes;
+        if (index == currentStatePointer) {
+            state.estimatedBytes = state.snapshot.estimateListBytes();
+        } else {
+            int neighbourIndex = index < currentStatePointer ? index + 1 : index - 1;
+            state.estimatedBytes = state.snapshot.estimateBytes(applicationStateList.get(neighbourIndex).snapshot);
+        }
+        estimatedMemoryBytes += state.estimatedBytes;
+    }
+
+    /**
+     * Returns the index of the oldest state held in memory.
+     */
+    private int getOldestStateInMemoryIndex() {
+        int index = 0;
+        while (!applicationStateList.get(index).isInMemory()) {
+            index++;
+        }
+        return index;
     }
 
     /**
@@ -44,8 +228,16 @@ public class VersionedApplication extends Application {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
-        currentStatePointer--;
-        resetData(applicationStateList.get(currentStatePointer));
+
+        ApplicationSnapshot snapshot = readState(currentStatePointer - 1);
+        if (snapshot == null) {
+            // the states before the current state can no longer be restored
+            removeStates(0, currentStatePointer);
+            currentStatePointer = 0;
+            throw new NoUndoableStateException();
+        }
+        moveCurrentStatePointer(currentStatePointer - 1);
+        restoreSnapshot(snapshot);
     }
 
     /**
@@ -55,8 +247,33 @@ public class VersionedApplication extends Application {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
-        currentStatePointer++;
-        resetData(applicationStateList.get(currentStatePointer));
+
+        ApplicationSnapshot snapshot = readState(currentStatePointer + 1);
+        if (snapshot == null) {
+            // the states after the current state can no longer be restored
+            removeStatesAfterCurrentPointer();
+            throw new NoRedoableStateException();
+        }
+        moveCurrentStatePointer(currentStatePointer + 1);
+        restoreSnapshot(snapshot);
+    }
+
+    /**
+     * Returns the snapshot of the state at {@code index}, reading it back from the undo history storage if it was
+     * spilled, or null if the spilled state could not be read.
+     */
+    private ApplicationSnapshot readState(int index) {
+        HistoryState state = applicationStateList.get(index);
+        if (state.isInMemory()) {
+            return state.snapshot;
+        }
+
+        try {
+            return ApplicationSnapshot.of(undoHistoryStorage.readState(state.spilledStateId));
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Problem while reading undo history from disk: " + e);
+            return null;
+        }
     }
 
     /**
@@ -73,6 +290,35 @@ public class VersionedApplication extends Application {
         return currentStatePointer < applicationStateList.size() - 1;
     }
 
+    /**
+     * Returns the number of states in the history, including the states spilled to disk.
+     */
+    public int getStateCount() {
+        return applicationStateList.size();
+    }
+
+    /**
+     * Returns the number of states in the history that are spilled to disk.
+     */
+    public int getSpilledStateCount() {
+        return spilledStateCount;
+    }
+
+    /**
+     * Returns a rough estimate of the number of bytes of memory used by the states of the history held in memory.
+     */
+    public long getEstimatedMemoryBytes() {
+        return estimatedMemoryBytes;
+    }
+
+    /**
+     * Returns a summary of the size of the history, for monitoring its footprint.
+     */
+    public String getHistoryFootprint() {
+        return String.format("Undo history: %1$d state(s), %2$d spilled to disk, about %3$d KiB in memory",
+                getStateCount(), getSpilledStateCount(), getEstimatedMemoryBytes() / 1024);
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
@@ -93,6 +339,41 @@ public class VersionedApplication extends Application {
                 && currentStatePointer == otherVersionedApplication.currentStatePointer;
     }
 
+    /**
+     * A state in the history, which is either held in memory as a snapshot or spilled to the undo history storage.
+     */
+    private static class HistoryState {
+        private ApplicationSnapshot snapshot;
+        private long spilledStateId;
+        private long estimatedBytes;
+
+        /**
+         * Creates a state held in memory, whose memory use is not estimated yet.
+         */
+        HistoryState(ApplicationSnapshot snapshot) {
+            requireNonNull(snapshot);
+
+            this.snapshot = snapshot;
+        }
+
+        boolean isInMemory() {
+            return snapshot != null;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof HistoryState // instanceof handles nulls
+                    && Objects.equals(snapshot, ((HistoryState) other).snapshot)
+                    && spilledStateId == ((HistoryState) other).spilledStateId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(snapshot, spilledStateId);
+        }
+    }
+
     /**
      * Thrown when trying to {@code undo()} but can't.
      */
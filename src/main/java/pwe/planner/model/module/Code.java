@@ -3,9 +3,21 @@ package pwe.planner.model.module;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.AppUtil.checkArgument;
 
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Represents a Module's code in the application.
  * Guarantees: immutable; is valid as declared in {@link #isValidCode(String)}
+ * <p>
+ * Every valid code is at most 8 characters long, so it is packed into a single {@code long}, which is used for
+ * hashing, equality and ordering. The packing preserves the lexicographical order of the codes. Use
+ * {@link #of(String)} to obtain a canonical instance shared by every user of the same code.
+ * <p>
+ * The canonical instances are only weakly referenced, so a code that is no longer used anywhere, such as a mistyped
+ * code or a keyword of a finished search, is reclaimed by the garbage collector instead of being kept forever.
  */
 public class Code implements Comparable<Code> {
 
@@ -19,7 +31,18 @@ public class Code implements Comparable<Code> {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alpha}]{2,3}[\\p{Digit}]{4}[\\p{Alpha}]?";
 
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int MAX_PREFIX_LENGTH = 3;
+    private static final int NUMBER_LENGTH = 4;
+    private static final int MAX_LENGTH = MAX_PREFIX_LENGTH + NUMBER_LENGTH + 1;
+    private static final int BITS_PER_CHARACTER = 6;
+    private static final long INVALID_CODE = -1;
+
+    private static final Map<Long, CanonicalCodeReference> canonicalCodes = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<Code> reclaimedCodes = new ReferenceQueue<>();
+
     public final String value;
+    private final long encodedValue;
 
     /**
      * Constructs an {@code Code}.
@@ -28,9 +51,46 @@ public class Code implements Comparable<Code> {
      */
     public Code(String code) {
         requireNonNull(code);
-        checkArgument(isValidCode(code), MESSAGE_CONSTRAINTS);
+        long encodedCode = encode(code);
+        checkArgument(encodedCode != INVALID_CODE, MESSAGE_CONSTRAINTS);
 
         value = code.toUpperCase();
+        encodedValue = encodedCode;
+    }
+
+    /**
+     * Returns the canonical {@code Code} for {@code code}, creating it if this is the first time the code is seen.
+     * Codes that differ only in case share the same canonical instance.
+     *
+     * @param code A valid code.
+     */
+    public static Code of(String code) {
+        requireNonNull(code);
+        long encodedCode = encode(code);
+        checkArgument(encodedCode != INVALID_CODE, MESSAGE_CONSTRAINTS);
+
+        removeReclaimedCodes();
+        CanonicalCodeReference reference = canonicalCodes.get(encodedCode);
+        Code canonicalCode = reference == null ? null : reference.get();
+        while (canonicalCode == null) {
+            Code newCode = new Code(code);
+            // the canonical code may be reclaimed between the update and the read, in which case the update is retried
+            canonicalCode = canonicalCodes.compute(encodedCode, (key, existingReference) ->
+                    existingReference != null && existingReference.get() != null
+                            ? existingReference
+                            : new CanonicalCodeReference(newCode)).get();
+        }
+        return canonicalCode;
+    }
+
+    /**
+     * Removes the entries of the canonical codes reclaimed by the garbage collector.
+     */
+    private static void removeReclaimedCodes() {
+        CanonicalCodeReference reference;
+        while ((reference = (CanonicalCodeReference) reclaimedCodes.poll()) != null) {
+            canonicalCodes.remove(reference.encodedValue, reference);
+        }
     }
 
     /**
@@ -39,7 +99,66 @@ public class Code implements Comparable<Code> {
     public static boolean isValidCode(String test) {
         requireNonNull(test);
 
-        return test.matches(VALIDATION_REGEX);
+        return encode(test) != INVALID_CODE;
+    }
+
+    /**
+     * Returns {@code code} packed into a {@code long}, or {@link #INVALID_CODE} if {@code code} does not match
+     * {@link #VALIDATION_REGEX}.
+     * Every character takes 6 bits, starting from the most significant bits, and unused characters are left as 0, so
+     * comparing two packed codes gives the same result as comparing the codes in upper case.
+     */
+    private static long encode(String code) {
+        int length = code.length();
+        if (length < MIN_PREFIX_LENGTH + NUMBER_LENGTH || length > MAX_LENGTH) {
+            return INVALID_CODE;
+        }
+
+        int prefixLength = 0;
+        while (prefixLength < length && isAsciiLetter(code.charAt(prefixLength))) {
+            prefixLength++;
+        }
+        int suffixStart = prefixLength + NUMBER_LENGTH;
+        if (prefixLength < MIN_PREFIX_LENGTH || prefixLength > MAX_PREFIX_LENGTH || suffixStart > length
+                || length > suffixStart + 1) {
+            return INVALID_CODE;
+        }
+
+        long encodedCode = 0;
+        for (int i = 0; i < MAX_LENGTH; i++) {
+            encodedCode <<= BITS_PER_CHARACTER;
+            if (i >= length) {
+                continue;
+            }
+
+            char c = code.charAt(i);
+            boolean isValidCharacter = (i >= prefixLength && i < suffixStart) ? isAsciiDigit(c) : isAsciiLetter(c);
+            if (!isValidCharacter) {
+                return INVALID_CODE;
+            }
+            encodedCode |= encodeCharacter(c);
+        }
+        return encodedCode;
+    }
+
+    /**
+     * Returns the 6-bit value of {@code c}, which must be an ASCII letter or digit.
+     * Digits are mapped to 1 to 10 and letters (in upper case) to 11 to 36, so that their order is kept and 0 is left
+     * for unused characters.
+     */
+    private static long encodeCharacter(char c) {
+        if (isAsciiDigit(c)) {
+            return c - '0' + 1;
+        }
+        return Character.toUpperCase(c) - 'A' + 11;
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
     }
 
     @Override
@@ -51,16 +170,29 @@ public class Code implements Comparable<Code> {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Code // instanceof handles nulls
-                && value.equals(((Code) other).value)); // state check
+                && encodedValue == ((Code) other).encodedValue); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Long.hashCode(encodedValue);
     }
 
     @Override
     public int compareTo(Code other) {
-        return value.compareTo(other.value);
+        return Long.compare(encodedValue, other.encodedValue);
+    }
+
+    /**
+     * A weak reference to a canonical code, which remembers the packed value of the code so that its entry can be
+     * removed once the code is reclaimed.
+     */
+    private static class CanonicalCodeReference extends WeakReference<Code> {
+        private final long encodedValue;
+
+        private CanonicalCodeReference(Code code) {
+            super(code, reclaimedCodes);
+            encodedValue = code.encodedValue;
+        }
     }
 }
@@ -1,18 +1,25 @@
 package pwe.planner.model.module;
 
 import static java.util.Objects.requireNonNull;
-import static pwe.planner.logic.parser.ParserUtil.parseKeyword;
+
+import pwe.planner.commons.util.KeywordMatcher;
 
 /**
  * Tests that a {@code Module}'s {@code Code} matches the keyword given.
  */
 public class CodeContainsKeywordsPredicate<T> implements KeywordsPredicate<T> {
     private final String keyword;
+    private final KeywordMatcher keywordMatcher;
 
     public CodeContainsKeywordsPredicate(String keyword) {
         requireNonNull(keyword);
 
         this.keyword = keyword;
+        keywordMatcher = new KeywordMatcher(keyword);
+    }
+
+    public String getKeyword() {
+        return keyword;
     }
 
     @Override
@@ -21,7 +28,7 @@ public class CodeContainsKeywordsPredicate<T> implements KeywordsPredicate<T> {
         Module module = (Module) object;
 
         String moduleCode = module.getCode().toString();
-        return parseKeyword(keyword, moduleCode);
+        return keywordMatcher.matches(moduleCode);
     }
 
     @Override
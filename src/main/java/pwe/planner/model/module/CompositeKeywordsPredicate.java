@@ -0,0 +1,84 @@
+package pwe.planner.model.module;
+
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Combines two predicates with a logical AND or OR.
+ * Unlike {@link Predicate#and(Predicate)} and {@link Predicate#or(Predicate)}, the combined predicates can be
+ * inspected, so that a filter expression can be evaluated by other means than testing every object.
+ */
+public class CompositeKeywordsPredicate<T> implements KeywordsPredicate<T> {
+
+    /**
+     * The logical connectives that can combine two predicates.
+     */
+    public enum Connective {
+        AND, OR
+    }
+
+    private final Connective connective;
+    private final Predicate<T> firstPredicate;
+    private final Predicate<T> secondPredicate;
+
+    /**
+     * Creates a predicate combining {@code firstPredicate} and {@code secondPredicate} with {@code connective}.
+     * {@code firstPredicate} is tested first, and {@code secondPredicate} is only tested if the result is still
+     * unknown.
+     */
+    public CompositeKeywordsPredicate(Connective connective, Predicate<T> firstPredicate,
+            Predicate<T> secondPredicate) {
+        requireAllNonNull(connective, firstPredicate, secondPredicate);
+
+        this.connective = connective;
+        this.firstPredicate = firstPredicate;
+        this.secondPredicate = secondPredicate;
+    }
+
+    public Connective getConnective() {
+        return connective;
+    }
+
+    public Predicate<T> getFirstPredicate() {
+        return firstPredicate;
+    }
+
+    public Predicate<T> getSecondPredicate() {
+        return secondPredicate;
+    }
+
+    @Override
+    public boolean test(T object) {
+        switch (connective) {
+        case AND:
+            return firstPredicate.test(object) && secondPredicate.test(object);
+        case OR:
+            return firstPredicate.test(object) || secondPredicate.test(object);
+        default:
+            throw new AssertionError("Unknown connective: " + connective);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof CompositeKeywordsPredicate)) {
+            return false;
+        }
+
+        CompositeKeywordsPredicate<?> otherPredicate = (CompositeKeywordsPredicate<?>) other;
+        return connective == otherPredicate.connective
+                && firstPredicate.equals(otherPredicate.firstPredicate)
+                && secondPredicate.equals(otherPredicate.secondPredicate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(connective, firstPredicate, secondPredicate);
+    }
+}
@@ -0,0 +1,157 @@
+package pwe.planner.model.module;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A disjoint-set of module codes, where every set is a group of modules that are co-requisites of one another.
+ * <p>
+ * Every grouped code is mapped directly to the representative code of its group, and every representative keeps the
+ * codes that belong to its group. Groups are merged by relabelling the codes of the smaller group, so finding the group
+ * of a code is a single lookup, while listing the co-requisites of a code takes time proportional to the size of its
+ * group. Codes without any co-requisites are not stored.
+ */
+class CorequisiteGroups {
+
+    private final Map<Code, Code> codeToRepresentative = new HashMap<>();
+    private final Map<Code, Set<Code>> representativeToMembers = new HashMap<>();
+
+    /**
+     * Returns an immutable set of the codes in the same group as {@code code}, including {@code code} itself.
+     */
+    public Set<Code> getGroup(Code code) {
+        requireNonNull(code);
+
+        Set<Code> members = representativeToMembers.get(find(code));
+        return members == null ? Set.of(code) : Collections.unmodifiableSet(members);
+    }
+
+    /**
+     * Returns the co-requisites of {@code code}, i.e. the codes in the same group as {@code code} excluding itself.
+     */
+    public Set<Code> getCorequisites(Code code) {
+        requireNonNull(code);
+
+        Set<Code> corequisites = new HashSet<>(getGroup(code));
+        corequisites.remove(code);
+        return corequisites;
+    }
+
+    /**
+     * Merges the group of {@code code} with the groups of every code in {@code corequisites}.
+     *
+     * @return an immutable set of the codes in the merged group.
+     */
+    public Set<Code> union(Code code, Collection<Code> corequisites) {
+        requireAllNonNull(code, corequisites);
+
+        for (Code corequisite : corequisites) {
+            union(code, corequisite);
+        }
+        return getGroup(code);
+    }
+
+    /**
+     * Merges the group of {@code code} with the group of {@code otherCode}.
+     */
+    private void union(Code code, Code otherCode) {
+        assert code != null;
+        assert otherCode != null;
+
+        Code representative = find(code);
+        Code otherRepresentative = find(otherCode);
+        if (representative.equals(otherRepresentative)) {
+            return;
+        }
+
+        Set<Code> members = getOrCreateMembers(representative);
+        Set<Code> otherMembers = getOrCreateMembers(otherRepresentative);
+        if (members.size() < otherMembers.size()) {
+            relabel(members, otherRepresentative, otherMembers);
+            representativeToMembers.remove(representative);
+        } else {
+            relabel(otherMembers, representative, members);
+            representativeToMembers.remove(otherRepresentative);
+        }
+    }
+
+    /**
+     * Removes {@code code} from its group.
+     *
+     * @return the codes that remained in the group of {@code code}, or an empty set if {@code code} had no
+     *     co-requisites.
+     */
+    public Set<Code> remove(Code code) {
+        requireNonNull(code);
+
+        Code representative = codeToRepresentative.remove(code);
+        if (representative == null) {
+            return Set.of();
+        }
+
+        Set<Code> members = representativeToMembers.remove(representative);
+        members.remove(code);
+        Set<Code> remainingMembers = new HashSet<>(members);
+
+        if (members.size() == 1) {
+            // a single remaining code no longer has any co-requisites
+            codeToRepresentative.remove(members.iterator().next());
+            return remainingMembers;
+        }
+
+        Code newRepresentative = representative;
+        if (representative.equals(code)) {
+            newRepresentative = members.iterator().next();
+            for (Code member : members) {
+                codeToRepresentative.put(member, newRepresentative);
+            }
+        }
+        representativeToMembers.put(newRepresentative, members);
+        return remainingMembers;
+    }
+
+    /**
+     * Removes all groups.
+     */
+    public void clear() {
+        codeToRepresentative.clear();
+        representativeToMembers.clear();
+    }
+
+    /**
+     * Returns the representative code of the group containing {@code code}.
+     * A code that is not in any group is its own representative.
+     */
+    private Code find(Code code) {
+        return codeToRepresentative.getOrDefault(code, code);
+    }
+
+    /**
+     * Returns the codes in the group represented by {@code representative}, creating a single-code group if
+     * {@code representative} is not in any group.
+     */
+    private Set<Code> getOrCreateMembers(Code representative) {
+        return representativeToMembers.computeIfAbsent(representative, unused -> {
+            codeToRepresentative.put(representative, representative);
+            return new HashSet<>(Set.of(representative));
+        });
+    }
+
+    /**
+     * Moves every code in {@code codesToMove} into {@code members}, the group represented by {@code representative}.
+     */
+    private void relabel(Set<Code> codesToMove, Code representative, Set<Code> members) {
+        for (Code codeToMove : codesToMove) {
+            codeToRepresentative.put(codeToMove, representative);
+        }
+        members.addAll(codesToMove);
+        representativeToMembers.put(representative, members);
+    }
+}
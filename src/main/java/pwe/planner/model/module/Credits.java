@@ -3,8 +3,12 @@ package pwe.planner.model.module;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.AppUtil.checkArgument;
 
+import pwe.planner.commons.util.CanonicalPool;
+
 /**
  * Represents a Module's credits in the application.
+ * The credits are kept as a primitive {@code int} as well as in their textual form, so that credits can be summed and
+ * compared without parsing them again.
  * Guarantees: immutable; is valid as declared in {@link #isValidCredits(String)}
  */
 public class Credits {
@@ -12,7 +16,12 @@ public class Credits {
     public static final String MESSAGE_CONSTRAINTS =
             "Credits should only contain numbers between 0 and 999.";
     public static final String VALIDATION_REGEX = "0|([\\d&&[^0]]{1}[\\d]{0,2})";
+    public static final int MAXIMUM_CREDITS = 999;
+
+    private static final CanonicalPool<String, Credits> canonicalCredits = new CanonicalPool<>(Credits::new);
+
     public final String value;
+    private final int intValue;
 
     /**
      * Constructs a {@code Credits}.
@@ -24,6 +33,31 @@ public class Credits {
         checkArgument(isValidCredits(credits), MESSAGE_CONSTRAINTS);
 
         value = credits;
+        intValue = Integer.parseInt(credits);
+    }
+
+    /**
+     * Constructs a {@code Credits}.
+     *
+     * @param credits A valid amount of credits, between 0 and {@value #MAXIMUM_CREDITS}.
+     */
+    public Credits(int credits) {
+        checkArgument(isValidCredits(credits), MESSAGE_CONSTRAINTS);
+
+        value = Integer.toString(credits);
+        intValue = credits;
+    }
+
+    /**
+     * Returns the canonical {@code Credits} for {@code credits}, creating it if this is the first time the amount of
+     * credits is seen.
+     *
+     * @param credits A valid amount of credits.
+     */
+    public static Credits of(String credits) {
+        requireNonNull(credits);
+
+        return canonicalCredits.get(credits);
     }
 
     /**
@@ -35,6 +69,20 @@ public class Credits {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns true if a given number is a valid amount of credits.
+     */
+    public static boolean isValidCredits(int test) {
+        return test >= 0 && test <= MAXIMUM_CREDITS;
+    }
+
+    /**
+     * Returns the amount of credits as an {@code int}.
+     */
+    public int intValue() {
+        return intValue;
+    }
+
     @Override
     public String toString() {
         return value;
@@ -44,12 +92,12 @@ public class Credits {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Credits // instanceof handles nulls
-                && value.equals(((Credits) other).value)); // state check
+                && intValue == ((Credits) other).intValue); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Integer.hashCode(intValue);
     }
 
 }
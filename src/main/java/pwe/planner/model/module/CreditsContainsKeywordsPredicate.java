@@ -1,18 +1,25 @@
 package pwe.planner.model.module;
 
 import static java.util.Objects.requireNonNull;
-import static pwe.planner.logic.parser.ParserUtil.parseKeyword;
+
+import pwe.planner.commons.util.KeywordMatcher;
 
 /**
  * Tests that a {@code Module}'s {@code Credit} matches keyword given.
  */
 public class CreditsContainsKeywordsPredicate<T> implements KeywordsPredicate<T> {
     private final String keyword;
+    private final KeywordMatcher keywordMatcher;
 
     public CreditsContainsKeywordsPredicate(String keyword) {
         requireNonNull(keyword);
 
         this.keyword = keyword;
+        keywordMatcher = new KeywordMatcher(keyword);
+    }
+
+    public String getKeyword() {
+        return keyword;
     }
 
     @Override
@@ -21,7 +28,7 @@ public class CreditsContainsKeywordsPredicate<T> implements KeywordsPredicate<T>
         Module module = (Module) object;
 
         String moduleCredits = module.getCredits().toString();
-        return parseKeyword(keyword, moduleCredits);
+        return keywordMatcher.matches(moduleCredits);
     }
 
     @Override
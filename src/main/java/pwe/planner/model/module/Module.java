@@ -1,12 +1,12 @@
 package pwe.planner.model.module;
 
+import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
+import pwe.planner.commons.util.SortedArraySet;
 import pwe.planner.commons.util.StringUtil;
 import pwe.planner.model.planner.Semester;
 import pwe.planner.model.tag.Tag;
@@ -14,6 +14,9 @@ import pwe.planner.model.tag.Tag;
 /**
  * Represents a Module in the application.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * <p>
+ * The tags and co-requisites are kept in exactly sized sorted arrays, and the hash code is computed once, as modules
+ * are hashed and compared often by the lists containing them.
  */
 public class Module {
     /**
@@ -30,9 +33,12 @@ public class Module {
     // Data fields
     private final Name name;
     private final Credits credits;
-    private final Set<Tag> tags = new HashSet<>();
-    private final Set<Code> corequisites = new HashSet<>();
-    private final Set<Semester> semesters = new HashSet<>();
+    private final Set<Tag> tags;
+    private final Set<Code> corequisites;
+    private final int semesterMask;
+
+    private final int hashCode;
+    private String stringRepresentation;
 
     /**
      * Every field must be present and not null.
@@ -44,9 +50,10 @@ public class Module {
         this.code = code;
         this.name = name;
         this.credits = credits;
-        this.semesters.addAll(semesters);
-        this.corequisites.addAll(corequisites);
-        this.tags.addAll(tags);
+        this.semesterMask = Semester.toMask(semesters);
+        this.corequisites = SortedArraySet.copyOf(corequisites);
+        this.tags = SortedArraySet.copyOf(tags);
+        hashCode = Objects.hash(code, name, credits, semesterMask, this.corequisites, this.tags);
     }
 
     public Code getCode() {
@@ -66,7 +73,24 @@ public class Module {
      * if modification is attempted.
      */
     public Set<Semester> getSemesters() {
-        return Collections.unmodifiableSet(semesters);
+        return Semester.fromMask(semesterMask);
+    }
+
+    /**
+     * Returns the bitmask of the semesters in which this module is offered, as defined by
+     * {@link Semester#toMask(java.util.Collection)}.
+     */
+    public int getSemesterMask() {
+        return semesterMask;
+    }
+
+    /**
+     * Returns true if this module is offered in {@code semester}.
+     */
+    public boolean isOfferedIn(Semester semester) {
+        requireNonNull(semester);
+
+        return (semesterMask & semester.toMask()) != 0;
     }
 
     /**
@@ -74,7 +98,7 @@ public class Module {
      * if modification is attempted.
      */
     public Set<Code> getCorequisites() {
-        return Collections.unmodifiableSet(corequisites);
+        return corequisites;
     }
 
     /**
@@ -82,7 +106,7 @@ public class Module {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
@@ -112,28 +136,35 @@ public class Module {
         }
 
         Module otherModule = (Module) other;
-        return otherModule.getCode().equals(getCode())
+        return otherModule.hashCode == hashCode
+                && otherModule.getCode().equals(getCode())
                 && otherModule.getName().equals(getName())
                 && otherModule.getCredits().equals(getCredits())
                 && otherModule.getCorequisites().equals(getCorequisites())
-                && otherModule.getSemesters().equals(getSemesters())
+                && otherModule.getSemesterMask() == getSemesterMask()
                 && otherModule.getTags().equals(getTags());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(code, name, credits, semesters, corequisites, tags);
+        return hashCode;
     }
 
     @Override
     public String toString() {
+        if (stringRepresentation != null) {
+            return stringRepresentation;
+        }
 
-        final String allSemesters = StringUtil.joinStreamAsString(semesters.stream().sorted());
+        // the semesters, co-requisites and tags are already iterated in sorted order
+        final String allSemesters = StringUtil.joinStreamAsString(getSemesters().stream());
 
-        final String allCorequisites = StringUtil.joinStreamAsString(corequisites.stream().sorted());
+        final String allCorequisites = StringUtil.joinStreamAsString(corequisites.stream());
 
-        final String allTags = StringUtil.joinStreamAsString(tags.stream().sorted());
+        final String allTags = StringUtil.joinStreamAsString(tags.stream());
 
-        return String.format(STRING_REPRESENTATION, code, name, credits, allSemesters, allCorequisites, allTags);
+        stringRepresentation =
+                String.format(STRING_REPRESENTATION, code, name, credits, allSemesters, allCorequisites, allTags);
+        return stringRepresentation;
     }
 }
@@ -3,6 +3,10 @@ package pwe.planner.model.module;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.AppUtil.checkArgument;
 
+import java.util.List;
+
+import pwe.planner.commons.util.StringUtil;
+
 /**
  * Represents a Module's name in the application.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -20,7 +24,10 @@ public class Name {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "^[\\p{Graph}&&[^\\(\\)\\|\\&]][\\p{Print}&&[^\\(\\)\\|\\&]]*$";
+
     public final String fullName;
+    /** The words of the name folded by {@link StringUtil#foldCase(String)}, computed when they are first needed. */
+    private List<String> normalizedWords;
 
     /**
      * Constructs a {@code Name}.
@@ -48,6 +55,19 @@ public class Name {
         return fullName;
     }
 
+    /**
+     * Returns the words of the name folded by {@link StringUtil#foldCase(String)}, for matching keywords against it.
+     */
+    public List<String> getNormalizedWords() {
+        // a racy but idempotent initialization, as the words of an immutable name never change
+        List<String> words = normalizedWords;
+        if (words == null) {
+            words = StringUtil.getNormalizedWords(fullName);
+            normalizedWords = words;
+        }
+        return words;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
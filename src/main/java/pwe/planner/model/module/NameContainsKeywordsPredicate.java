@@ -1,18 +1,25 @@
 package pwe.planner.model.module;
 
 import static java.util.Objects.requireNonNull;
-import static pwe.planner.logic.parser.ParserUtil.parseKeyword;
+
+import pwe.planner.commons.util.KeywordMatcher;
 
 /**
  * Tests that a {@code Module}'s {@code Name} matches the keyword given.
  */
 public class NameContainsKeywordsPredicate<T> implements KeywordsPredicate<T> {
     private final String keyword;
+    private final KeywordMatcher keywordMatcher;
 
     public NameContainsKeywordsPredicate(String keyword) {
         requireNonNull(keyword);
 
         this.keyword = keyword;
+        keywordMatcher = new KeywordMatcher(keyword);
+    }
+
+    public String getKeyword() {
+        return keyword;
     }
 
     @Override
@@ -20,8 +27,8 @@ public class NameContainsKeywordsPredicate<T> implements KeywordsPredicate<T> {
         requireNonNull(object);
         Module module = (Module) object;
 
-        String moduleName = module.getName().toString();
-        return parseKeyword(keyword, moduleName);
+        Name moduleName = module.getName();
+        return keywordMatcher.matches(moduleName.fullName, moduleName.getNormalizedWords());
     }
 
     @Override
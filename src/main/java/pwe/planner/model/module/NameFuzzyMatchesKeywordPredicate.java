@@ -0,0 +1,40 @@
+package pwe.planner.model.module;
+
+import static java.util.Objects.requireNonNull;
+
+import pwe.planner.commons.util.FuzzyMatcher;
+
+/**
+ * Tests that a {@code Module}'s {@code Name} approximately matches the keyword given, allowing for typos.
+ */
+public class NameFuzzyMatchesKeywordPredicate<T> implements KeywordsPredicate<T> {
+    private final String keyword;
+    private final FuzzyMatcher fuzzyMatcher;
+
+    public NameFuzzyMatchesKeywordPredicate(String keyword) {
+        requireNonNull(keyword);
+
+        this.keyword = keyword;
+        fuzzyMatcher = new FuzzyMatcher(keyword);
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    @Override
+    public boolean test(T object) {
+        requireNonNull(object);
+        Module module = (Module) object;
+
+        return fuzzyMatcher.matches(module.getName().getNormalizedWords());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NameFuzzyMatchesKeywordPredicate // instanceof handles nulls
+                && keyword.equals(((NameFuzzyMatchesKeywordPredicate) other).keyword)); // state check
+    }
+
+}
@@ -1,10 +1,10 @@
 package pwe.planner.model.module;
 
 import static java.util.Objects.requireNonNull;
-import static pwe.planner.logic.parser.ParserUtil.parseKeyword;
 
 import java.util.Set;
 
+import pwe.planner.commons.util.KeywordMatcher;
 import pwe.planner.model.tag.Tag;
 
 /**
@@ -12,11 +12,17 @@ import pwe.planner.model.tag.Tag;
  */
 public class TagContainsKeywordsPredicate<T> implements KeywordsPredicate<T> {
     private final String keyword;
+    private final KeywordMatcher keywordMatcher;
 
     public TagContainsKeywordsPredicate(String keyword) {
         requireNonNull(keyword);
 
         this.keyword = keyword;
+        keywordMatcher = new KeywordMatcher(keyword);
+    }
+
+    public String getKeyword() {
+        return keyword;
     }
 
     @Override
@@ -25,7 +31,12 @@ public class TagContainsKeywordsPredicate<T> implements KeywordsPredicate<T> {
         Module module = (Module) object;
 
         Set<Tag> tags = module.getTags();
-        return tags.stream().anyMatch(tag -> parseKeyword(keyword, tag.tagName));
+        for (Tag tag : tags) {
+            if (keywordMatcher.matches(tag.tagName, tag.getNormalizedWords())) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -0,0 +1,69 @@
+package pwe.planner.model.module;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import pwe.planner.model.tag.Tag;
+
+/**
+ * An inverted index from every tag to the codes of the modules with the tag in a list of modules.
+ * <p>
+ * The modules are identified by their codes rather than their positions in the list, so removing a module from the
+ * list only touches the tags of that module. Tags without any modules are not stored.
+ */
+class TagIndex {
+
+    private final Map<Tag, Set<Code>> tagToCodes = new HashMap<>();
+
+    /**
+     * Adds the tags of {@code module} to the index.
+     */
+    public void add(Module module) {
+        requireNonNull(module);
+
+        for (Tag tag : module.getTags()) {
+            tagToCodes.computeIfAbsent(tag, unused -> new HashSet<>()).add(module.getCode());
+        }
+    }
+
+    /**
+     * Removes the tags of {@code module} from the index.
+     */
+    public void remove(Module module) {
+        requireNonNull(module);
+
+        for (Tag tag : module.getTags()) {
+            Set<Code> codes = tagToCodes.get(tag);
+            if (codes == null) {
+                continue;
+            }
+
+            codes.remove(module.getCode());
+            if (codes.isEmpty()) {
+                tagToCodes.remove(tag);
+            }
+        }
+    }
+
+    /**
+     * Returns an unmodifiable view of the codes of the modules with {@code tag}.
+     */
+    public Set<Code> getCodes(Tag tag) {
+        requireNonNull(tag);
+
+        Set<Code> codes = tagToCodes.get(tag);
+        return codes == null ? Collections.emptySet() : Collections.unmodifiableSet(codes);
+    }
+
+    /**
+     * Removes every tag from the index.
+     */
+    public void clear() {
+        tagToCodes.clear();
+    }
+}
@@ -3,16 +3,24 @@ package pwe.planner.model.module;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import pwe.planner.commons.util.BatchedObservableList;
+import pwe.planner.commons.util.ListSnapshot;
+import pwe.planner.commons.util.ListSnapshotManager;
 import pwe.planner.model.module.exceptions.DuplicateModuleException;
 import pwe.planner.model.module.exceptions.ModuleNotFoundException;
+import pwe.planner.model.tag.Tag;
 
 /**
  * A list of modules that enforces uniqueness between its elements and does not allow nulls.
@@ -23,13 +31,34 @@ import pwe.planner.model.module.exceptions.ModuleNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Modules are additionally indexed by their {@code Code} (together with their position in the backing list), so that
+ * lookups by code do not require a scan of the entire list. The co-requisite groups of the modules are tracked by
+ * {@link CorequisiteGroups}, so that cascading co-requisite changes only touches the modules in the affected groups.
+ * The codes of the modules with each tag are tracked by {@link TagIndex}, so that the modules with a tag can be
+ * listed without going through every module.
+ * The indexes are kept in sync with the backing list by every operation that modifies it, except for the positions
+ * of the modules after a removed module, so that a removal does not rewrite the position of every following module.
+ * Each removal can only move a module forward by one position, so the module of a stale position is found by
+ * searching back from the position by the number of removals since the positions were last recomputed. The positions
+ * are recomputed once that number exceeds the square root of the size of the list, which bounds both the search and
+ * the amortized cost of recomputing the positions to O(sqrt(n)) per removal.
+ *
  * @see Module#isSameModule(Module)
  */
 public class UniqueModuleList implements Iterable<Module> {
 
-    private final ObservableList<Module> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<Module> internalList = new BatchedObservableList<>();
     private final ObservableList<Module> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Code, Module> codeToModuleIndex = new HashMap<>();
+    private final Map<Code, Integer> codeToPositionIndex = new HashMap<>();
+    private final CorequisiteGroups corequisiteGroups = new CorequisiteGroups();
+    private final TagIndex tagIndex = new TagIndex();
+    /** The smallest position from which the positions in {@code codeToPositionIndex} may be out of date. */
+    private int firstStalePosition = Integer.MAX_VALUE;
+    /** The number of modules removed since the positions in {@code codeToPositionIndex} were last recomputed. */
+    private int staleRemovalCount = 0;
+    private final ListSnapshotManager<Module> snapshotManager = new ListSnapshotManager<>(internalList);
 
     /**
      * Returns true if the list contains an equivalent module as the given argument.
@@ -37,7 +66,16 @@ public class UniqueModuleList implements Iterable<Module> {
     public boolean contains(Module toCheck) {
         requireNonNull(toCheck);
 
-        return internalList.stream().anyMatch(toCheck::isSameModule);
+        return codeToModuleIndex.containsKey(toCheck.getCode());
+    }
+
+    /**
+     * Returns true if the list contains a module with the same module code as the given argument.
+     */
+    public boolean containsCode(Code toCheck) {
+        requireNonNull(toCheck);
+
+        return codeToModuleIndex.containsKey(toCheck);
     }
 
     /**
@@ -46,10 +84,21 @@ public class UniqueModuleList implements Iterable<Module> {
     public Module getModuleByCode(Code toCheck) {
         requireNonNull(toCheck);
 
-        return internalList.stream()
-                .filter(module -> module.getCode().equals(toCheck))
-                .findFirst()
-                .orElse(null);
+        return codeToModuleIndex.get(toCheck);
+    }
+
+    /**
+     * Returns the modules with {@code tag}, in no particular order.
+     */
+    public List<Module> getModulesWithTag(Tag tag) {
+        requireNonNull(tag);
+
+        Set<Code> codes = tagIndex.getCodes(tag);
+        List<Module> modulesWithTag = new ArrayList<>(codes.size());
+        for (Code code : codes) {
+            modulesWithTag.add(codeToModuleIndex.get(code));
+        }
+        return modulesWithTag;
     }
 
     /**
@@ -63,59 +112,21 @@ public class UniqueModuleList implements Iterable<Module> {
             throw new DuplicateModuleException();
         }
         internalList.add(toAdd);
+        indexModule(toAdd, internalList.size() - 1);
+        snapshotManager.markAdded(internalList.size() - 1);
 
         cascadeAddToModuleCorequisites(toAdd);
     }
 
     /**
-     * Combines all co-requisites linked to current module into one {@code Set<Code>}, and update all linked modules to
-     * have all-corequisites
-     *
-     * @param moduleToAdd
+     * Merges the co-requisite group of {@code moduleToAdd} with the groups of all its co-requisites, and updates all
+     * modules in the merged group to have every other module in the group as co-requisites.
      */
     private void cascadeAddToModuleCorequisites(Module moduleToAdd) {
         assert moduleToAdd != null;
 
-        // create a union Set<Code> of co-requisites
-        Code currentCode = moduleToAdd.getCode();
-        Set<Code> currentCorequisites = moduleToAdd.getCorequisites();
-        Set<Code> allCorequisites = new HashSet<>(currentCorequisites);
-
-        for (Code codeToAdd : currentCorequisites) {
-            Optional<Module> otherModuleOptional = internalUnmodifiableList.stream()
-                    .filter(module -> module.getCode().equals(codeToAdd))
-                    .findFirst();
-
-            if (otherModuleOptional.isPresent()) {
-                allCorequisites.addAll(otherModuleOptional.get().getCorequisites());
-            }
-        }
-
-        allCorequisites.add(currentCode);
-
-        // update all co-requisite modules with the union set excluding itself
-        for (Code codeToEditCorequisites : allCorequisites) {
-            Optional<Module> otherModuleOptional = internalUnmodifiableList.stream()
-                    .filter(module -> module.getCode().equals(codeToEditCorequisites))
-                    .findFirst();
-
-            if (otherModuleOptional.isPresent()) {
-                Module otherModule = otherModuleOptional.get();
-                Set<Code> editedOtherCorequisites = new HashSet<>(allCorequisites);
-                editedOtherCorequisites.remove(otherModule.getCode());
-
-                Module editedOtherModule = new Module(
-                        otherModule.getCode(),
-                        otherModule.getName(),
-                        otherModule.getCredits(),
-                        otherModule.getSemesters(),
-                        editedOtherCorequisites,
-                        otherModule.getTags()
-                );
-
-                setModule(otherModule, editedOtherModule, false);
-            }
-        }
+        Set<Code> group = corequisiteGroups.union(moduleToAdd.getCode(), moduleToAdd.getCorequisites());
+        updateCorequisites(group);
     }
 
     /**
@@ -138,7 +149,7 @@ public class UniqueModuleList implements Iterable<Module> {
     private void setModule(Module target, Module editedModule, boolean cascade) {
         requireAllNonNull(target, editedModule);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new ModuleNotFoundException();
         }
@@ -148,47 +159,28 @@ public class UniqueModuleList implements Iterable<Module> {
         }
 
         internalList.set(index, editedModule);
+        unindexModule(target);
+        indexModule(editedModule, index);
+        snapshotManager.markChanged(index);
 
         if (cascade) {
-            if (!target.getCode().equals(editedModule.getCode())) {
-                cascadeEditToModuleCorequisites(target, editedModule);
-            }
-            cascadeDeleteToModuleCorequisites(target);
-            cascadeAddToModuleCorequisites(editedModule);
+            cascadeEditToModuleCorequisites(target, editedModule);
         }
     }
 
     /**
-     * Cascades the edited module code by updating {@code UniqueModuleList} accordingly
-     * @param target module code to edit/find
-     * @param editedModule module code to replace with
+     * Cascades the edited module by moving it out of the co-requisite group of {@code target} and into the merged
+     * co-requisite group of {@code editedModule}, then updating all modules in both groups accordingly.
+     * @param target module before the edit
+     * @param editedModule module after the edit
      */
     private void cascadeEditToModuleCorequisites(Module target, Module editedModule) {
         assert target != null;
         assert editedModule != null;
 
-        ObservableList<Module> modules = internalUnmodifiableList;
-        Code codeToEdit = target.getCode();
-        Code editedCode = editedModule.getCode();
-
-        for (Module module : modules) {
-            if (module.getCorequisites().contains(codeToEdit)) {
-                Set<Code> editedCorequisiteCodes = new HashSet<>(module.getCorequisites());
-                editedCorequisiteCodes.remove(codeToEdit);
-                editedCorequisiteCodes.add(editedCode);
-
-                Module editedCorequisiteModule = new Module(
-                        module.getCode(),
-                        module.getName(),
-                        module.getCredits(),
-                        module.getSemesters(),
-                        editedCorequisiteCodes,
-                        module.getTags()
-                );
-
-                setModule(module, editedCorequisiteModule, false);
-            }
-        }
+        Set<Code> affectedCodes = new HashSet<>(corequisiteGroups.remove(target.getCode()));
+        affectedCodes.addAll(corequisiteGroups.union(editedModule.getCode(), editedModule.getCorequisites()));
+        updateCorequisites(affectedCodes);
     }
 
     /**
@@ -198,39 +190,62 @@ public class UniqueModuleList implements Iterable<Module> {
     public void remove(Module toRemove) {
         requireNonNull(toRemove);
 
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new ModuleNotFoundException();
         }
 
+        internalList.remove(index);
+        unindexModule(toRemove);
+        // modules after the removed module are shifted forward by one position, which is corrected lazily
+        firstStalePosition = Math.min(firstStalePosition, index);
+        staleRemovalCount++;
+        if ((long) staleRemovalCount * staleRemovalCount > internalList.size()) {
+            refreshStalePositions();
+        }
+        snapshotManager.markRemoved(index);
+
         cascadeDeleteToModuleCorequisites(toRemove);
     }
 
     /**
-     * Cascades the deleted module code by removing it from {@code UniqueModuleList} accordingly
-     * @param moduleToDelete module code to delete
+     * Cascades the deleted module code by removing it from its co-requisite group, and updating the remaining modules
+     * in the group accordingly.
+     * @param moduleToDelete module to delete
      */
     private void cascadeDeleteToModuleCorequisites(Module moduleToDelete) {
         assert moduleToDelete != null;
 
-        ObservableList<Module> modules = internalUnmodifiableList;
-        Code codeToDelete = moduleToDelete.getCode();
+        updateCorequisites(corequisiteGroups.remove(moduleToDelete.getCode()));
+    }
 
-        for (Module module : modules) {
-            if (module.getCorequisites().contains(codeToDelete)) {
-                Set<Code> editedCorequisiteCodes = new HashSet<>(module.getCorequisites());
-                editedCorequisiteCodes.remove(codeToDelete);
-
-                Module editedModule = new Module(
-                        module.getCode(),
-                        module.getName(),
-                        module.getCredits(),
-                        module.getSemesters(),
-                        editedCorequisiteCodes,
-                        module.getTags()
-                );
-
-                setModule(module, editedModule, false);
+    /**
+     * Updates the co-requisites of the modules with the given {@code codes} to match their co-requisite groups.
+     * Codes which are not in the list, or whose modules already have the correct co-requisites, are skipped.
+     */
+    private void updateCorequisites(Collection<Code> codes) {
+        assert codes != null;
+
+        for (Code code : codes) {
+            Module module = codeToModuleIndex.get(code);
+            if (module == null) {
+                continue;
+            }
+
+            Set<Code> corequisites = corequisiteGroups.getCorequisites(code);
+            if (module.getCorequisites().equals(corequisites)) {
+                continue;
             }
+
+            Module editedModule = new Module(
+                    module.getCode(),
+                    module.getName(),
+                    module.getCredits(),
+                    module.getSemesters(),
+                    corequisites,
+                    module.getTags()
+            );
+            setModule(module, editedModule, false);
         }
     }
 
@@ -238,6 +253,8 @@ public class UniqueModuleList implements Iterable<Module> {
         requireNonNull(replacement);
 
         internalList.setAll(replacement.internalList);
+        rebuildIndexes();
+        snapshotManager.markAllChanged();
     }
 
     /**
@@ -247,11 +264,134 @@ public class UniqueModuleList implements Iterable<Module> {
     public void setModules(List<Module> modules) {
         requireAllNonNull(modules);
 
-        if (!modulesAreUnique(modules)) {
-            throw new DuplicateModuleException();
+        List<Code> duplicateCodes = findDuplicateCodes(modules);
+        if (!duplicateCodes.isEmpty()) {
+            throw new DuplicateModuleException(duplicateCodes);
         }
 
         internalList.setAll(modules);
+        rebuildIndexes();
+        snapshotManager.markAllChanged();
+    }
+
+    /**
+     * Returns the position of {@code target} in the backing list, or -1 if the list does not contain a module with
+     * exactly the same fields as {@code target}.
+     */
+    private int indexOf(Module target) {
+        assert target != null;
+
+        Integer storedIndex = codeToPositionIndex.get(target.getCode());
+        if (storedIndex == null) {
+            return -1;
+        }
+
+        int index = storedIndex >= firstStalePosition ? findShiftedPosition(target.getCode(), storedIndex)
+                : storedIndex;
+        if (!internalList.get(index).equals(target)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the position of the module with {@code code}, whose stored position {@code storedIndex} may be out of
+     * date, and stores the found position.
+     */
+    private int findShiftedPosition(Code code, int storedIndex) {
+        int lowestIndex = Math.max(storedIndex - staleRemovalCount, 0);
+        for (int i = Math.min(storedIndex, internalList.size() - 1); i >= lowestIndex; i--) {
+            if (internalList.get(i).getCode().equals(code)) {
+                codeToPositionIndex.put(code, i);
+                return i;
+            }
+        }
+        throw new AssertionError("The module should be at most " + staleRemovalCount + " positions before "
+                + storedIndex + ".");
+    }
+
+    /**
+     * Recomputes the positions of the modules from {@link #firstStalePosition} to the end of the backing list.
+     */
+    private void refreshStalePositions() {
+        for (int i = firstStalePosition; i < internalList.size(); i++) {
+            codeToPositionIndex.put(internalList.get(i).getCode(), i);
+        }
+        firstStalePosition = Integer.MAX_VALUE;
+        staleRemovalCount = 0;
+    }
+
+    /**
+     * Adds {@code module}, which is located at {@code index} of the backing list, to the code and tag indexes.
+     */
+    private void indexModule(Module module, int index) {
+        assert module != null;
+
+        codeToModuleIndex.put(module.getCode(), module);
+        codeToPositionIndex.put(module.getCode(), index);
+        tagIndex.add(module);
+    }
+
+    /**
+     * Removes {@code module} from the code and tag indexes.
+     */
+    private void unindexModule(Module module) {
+        assert module != null;
+
+        codeToModuleIndex.remove(module.getCode());
+        codeToPositionIndex.remove(module.getCode());
+        tagIndex.remove(module);
+    }
+
+    /**
+     * Rebuilds the code and tag indexes from the contents of the backing list.
+     */
+    private void rebuildIndexes() {
+        codeToModuleIndex.clear();
+        codeToPositionIndex.clear();
+        firstStalePosition = Integer.MAX_VALUE;
+        staleRemovalCount = 0;
+        corequisiteGroups.clear();
+        tagIndex.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            Module module = internalList.get(i);
+            indexModule(module, i);
+            corequisiteGroups.union(module.getCode(), module.getCorequisites());
+        }
+    }
+
+    /**
+     * Starts a batch of modifications, whose changes are reported to the listeners of this list as a single change
+     * when the outermost batch is committed.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends the current batch of modifications started by {@link #beginBatch()}.
+     */
+    public void commitBatch() {
+        internalList.endBatch();
+    }
+
+    /**
+     * Returns an immutable snapshot of the current contents of this list.
+     * The snapshot shares its unchanged chunks with the previous snapshot of this list.
+     */
+    public ListSnapshot<Module> takeSnapshot() {
+        return snapshotManager.takeSnapshot();
+    }
+
+    /**
+     * Replaces the contents of this list with the contents of {@code snapshot}, a snapshot previously taken of this
+     * list.
+     */
+    public void restoreSnapshot(ListSnapshot<Module> snapshot) {
+        requireNonNull(snapshot);
+
+        setModules(snapshot);
+        snapshotManager.markRestored(snapshot);
     }
 
     /**
@@ -279,16 +419,17 @@ public class UniqueModuleList implements Iterable<Module> {
     }
 
     /**
-     * Returns true if {@code modules} contains only unique modules.
+     * Returns the codes shared by more than one module in {@code modules}, in the order in which they are first
+     * repeated, or an empty list if {@code modules} contains only unique modules.
      */
-    private boolean modulesAreUnique(List<Module> modules) {
-        for (int i = 0; i < modules.size() - 1; i++) {
-            for (int j = i + 1; j < modules.size(); j++) {
-                if (modules.get(i).isSameModule(modules.get(j))) {
-                    return false;
-                }
+    private static List<Code> findDuplicateCodes(List<Module> modules) {
+        Set<Code> seenCodes = new HashSet<>();
+        Set<Code> duplicateCodes = new LinkedHashSet<>();
+        for (Module module : modules) {
+            if (!seenCodes.add(module.getCode())) {
+                duplicateCodes.add(module.getCode());
             }
         }
-        return true;
+        return new ArrayList<>(duplicateCodes);
     }
 }
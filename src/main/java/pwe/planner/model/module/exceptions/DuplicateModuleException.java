@@ -1,11 +1,38 @@
 package pwe.planner.model.module.exceptions;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+
+import pwe.planner.commons.util.StringUtil;
+import pwe.planner.model.module.Code;
+
 /**
  * Signals that the operation will result in duplicate Modules (Modules are considered duplicates if they have the same
  * identity).
  */
 public class DuplicateModuleException extends RuntimeException {
+    private final List<Code> duplicateCodes;
+
     public DuplicateModuleException() {
         super("Operation would result in duplicate modules");
+        duplicateCodes = Collections.emptyList();
+    }
+
+    /**
+     * Creates an exception reporting every code in {@code duplicateCodes} as shared by more than one module.
+     */
+    public DuplicateModuleException(List<Code> duplicateCodes) {
+        super("Operation would result in duplicate modules: "
+                + StringUtil.joinStreamAsString(requireNonNull(duplicateCodes).stream()));
+        this.duplicateCodes = Collections.unmodifiableList(duplicateCodes);
+    }
+
+    /**
+     * Returns the codes shared by more than one module, or an empty list if they are not known.
+     */
+    public List<Code> getDuplicateCodes() {
+        return duplicateCodes;
     }
 }
@@ -3,9 +3,19 @@ package pwe.planner.model.planner;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.AppUtil.checkArgument;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 /**
  * Represents a DegreePlanner's Semester in the degreePlanner list.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * <p>
+ * As there are only {@value #NUMBER_OF_SEMESTERS} semesters, a set of semesters can be represented as a bitmask, in
+ * which semester {@code n} is the bit {@code 1 << (n - 1)}.
  */
 public class Semester implements Comparable<Semester> {
 
@@ -18,7 +28,20 @@ public class Semester implements Comparable<Semester> {
     public static final String SEMESTER_VALIDATION_REGEX =
             "[1-4]{1}";
 
+    public static final int NUMBER_OF_SEMESTERS = 4;
+
+    /**
+     * The canonical instance of every semester, indexed by the semester minus one.
+     */
+    private static final Semester[] SEMESTERS = createSemesters();
+
+    /**
+     * The immutable set of semesters represented by every possible bitmask, indexed by the bitmask.
+     */
+    private static final List<Set<Semester>> SEMESTER_SETS = createSemesterSets();
+
     public final String plannerSemester;
+    private final int mask;
 
     /**
      * Constructs a {@code Semester}.
@@ -30,6 +53,27 @@ public class Semester implements Comparable<Semester> {
         checkArgument(isValidSemester(semester), MESSAGE_SEMESTER_CONSTRAINTS);
 
         plannerSemester = semester;
+        mask = 1 << (Integer.parseInt(semester) - 1);
+    }
+
+    /**
+     * Returns the canonical {@code Semester} for {@code semester}.
+     *
+     * @param semester A valid semester.
+     */
+    public static Semester of(String semester) {
+        requireNonNull(semester);
+        checkArgument(isValidSemester(semester), MESSAGE_SEMESTER_CONSTRAINTS);
+
+        return SEMESTERS[Integer.parseInt(semester) - 1];
+    }
+
+    private static Semester[] createSemesters() {
+        Semester[] semesters = new Semester[NUMBER_OF_SEMESTERS];
+        for (int semester = 1; semester <= NUMBER_OF_SEMESTERS; semester++) {
+            semesters[semester - 1] = new Semester(Integer.toString(semester));
+        }
+        return semesters;
     }
 
     /**
@@ -41,6 +85,57 @@ public class Semester implements Comparable<Semester> {
         return test.matches(SEMESTER_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the semester as an {@code int}.
+     */
+    public int intValue() {
+        return Integer.numberOfTrailingZeros(mask) + 1;
+    }
+
+    /**
+     * Returns the bitmask representing the set containing only this semester.
+     */
+    public int toMask() {
+        return mask;
+    }
+
+    /**
+     * Returns the bitmask representing {@code semesters}.
+     */
+    public static int toMask(Collection<Semester> semesters) {
+        requireNonNull(semesters);
+
+        int semestersMask = 0;
+        for (Semester semester : semesters) {
+            semestersMask |= semester.mask;
+        }
+        return semestersMask;
+    }
+
+    /**
+     * Returns an immutable set of the semesters represented by {@code semestersMask}, which must be a bitmask returned
+     * by {@link #toMask(Collection)}. The semesters are iterated in ascending order.
+     */
+    public static Set<Semester> fromMask(int semestersMask) {
+        checkArgument(semestersMask >= 0 && semestersMask < SEMESTER_SETS.size());
+
+        return SEMESTER_SETS.get(semestersMask);
+    }
+
+    private static List<Set<Semester>> createSemesterSets() {
+        List<Set<Semester>> semesterSets = new ArrayList<>();
+        for (int semestersMask = 0; semestersMask < 1 << NUMBER_OF_SEMESTERS; semestersMask++) {
+            Set<Semester> semesters = new LinkedHashSet<>();
+            for (int semester = 1; semester <= NUMBER_OF_SEMESTERS; semester++) {
+                if ((semestersMask & 1 << (semester - 1)) != 0) {
+                    semesters.add(SEMESTERS[semester - 1]);
+                }
+            }
+            semesterSets.add(Collections.unmodifiableSet(semesters));
+        }
+        return semesterSets;
+    }
+
     @Override
     public String toString() {
         return plannerSemester;
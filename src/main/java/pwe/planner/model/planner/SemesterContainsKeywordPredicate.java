@@ -1,10 +1,10 @@
 package pwe.planner.model.planner;
 
 import static java.util.Objects.requireNonNull;
-import static pwe.planner.logic.parser.ParserUtil.parseKeyword;
 
 import java.util.Set;
 
+import pwe.planner.commons.util.KeywordMatcher;
 import pwe.planner.model.module.KeywordsPredicate;
 import pwe.planner.model.module.Module;
 
@@ -13,11 +13,17 @@ import pwe.planner.model.module.Module;
  */
 public class SemesterContainsKeywordPredicate<T> implements KeywordsPredicate<T> {
     private final String keyword;
+    private final KeywordMatcher keywordMatcher;
 
     public SemesterContainsKeywordPredicate(String keyword) {
         requireNonNull(keyword);
 
         this.keyword = keyword;
+        keywordMatcher = new KeywordMatcher(keyword);
+    }
+
+    public String getKeyword() {
+        return keyword;
     }
 
     @Override
@@ -28,12 +34,17 @@ public class SemesterContainsKeywordPredicate<T> implements KeywordsPredicate<T>
             DegreePlanner degreePlanner = (DegreePlanner) object;
             String semester = degreePlanner.getSemester().toString();
 
-            return parseKeyword(keyword, semester);
+            return keywordMatcher.matches(semester);
         } else { // we are assuming that only DegreePlanner and Module will be using this method.
             Module module = (Module) object;
             Set<Semester> semesters = module.getSemesters();
 
-            return semesters.stream().anyMatch(semester -> parseKeyword(keyword, semester.toString()));
+            for (Semester semester : semesters) {
+                if (keywordMatcher.matches(semester.toString())) {
+                    return true;
+                }
+            }
+            return false;
         }
     }
 
@@ -3,11 +3,20 @@ package pwe.planner.model.planner;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import pwe.planner.commons.util.BatchedObservableList;
+import pwe.planner.commons.util.ListSnapshot;
+import pwe.planner.commons.util.ListSnapshotManager;
 import pwe.planner.model.module.Code;
 import pwe.planner.model.planner.exceptions.DegreePlannerNotFoundException;
 import pwe.planner.model.planner.exceptions.DuplicateDegreePlannerException;
@@ -21,14 +30,30 @@ import pwe.planner.model.planner.exceptions.DuplicateDegreePlannerException;
  * the same fields will be removed.
  * <p>
  * Supports a minimal set of list operations.
+ * <p>
+ * Each module code is additionally mapped to the degreePlanner containing it, so that the degreePlanner owning a code
+ * can be found without scanning every degreePlanner. Each year and semester is also mapped to a slot of a dense grid
+ * holding the position of its degreePlanner in the backing list, so that the degreePlanner of a year and semester is
+ * found in constant time. As there are only {@value Year#NUMBER_OF_YEARS} years of
+ * {@value Semester#NUMBER_OF_SEMESTERS} semesters, the grid is a fixed-size array with a slot for every year and
+ * semester. Both indexes are kept in sync with the backing list by every operation that modifies it.
  *
  * @see DegreePlanner#isSameDegreePlanner(DegreePlanner)
  */
 public class UniqueDegreePlannerList implements Iterable<DegreePlanner> {
 
-    private final ObservableList<DegreePlanner> internalList = FXCollections.observableArrayList();
+    private static final int EMPTY_SLOT = -1;
+
+    private final BatchedObservableList<DegreePlanner> internalList = new BatchedObservableList<>();
     private final ObservableList<DegreePlanner> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Code, DegreePlanner> codeToDegreePlannerIndex = new HashMap<>();
+    private final ListSnapshotManager<DegreePlanner> snapshotManager = new ListSnapshotManager<>(internalList);
+    private final int[] listIndexBySlot = new int[Year.NUMBER_OF_YEARS * Semester.NUMBER_OF_SEMESTERS];
+
+    public UniqueDegreePlannerList() {
+        Arrays.fill(listIndexBySlot, EMPTY_SLOT);
+    }
 
     /**
      * Returns true if the list contains an equivalent degree planner as the given argument.
@@ -36,7 +61,17 @@ public class UniqueDegreePlannerList implements Iterable<DegreePlanner> {
     public boolean contains(DegreePlanner toCheck) {
         requireNonNull(toCheck);
 
-        return internalList.stream().anyMatch(toCheck::isSameDegreePlanner);
+        return listIndexBySlot[getSlot(toCheck)] != EMPTY_SLOT;
+    }
+
+    /**
+     * Returns the degree planner of {@code year} and {@code semester}, or null if there is no such degree planner.
+     */
+    public DegreePlanner getDegreePlanner(Year year, Semester semester) {
+        requireAllNonNull(year, semester);
+
+        int listIndex = listIndexBySlot[getSlot(year, semester)];
+        return listIndex == EMPTY_SLOT ? null : internalList.get(listIndex);
     }
 
     /**
@@ -46,10 +81,7 @@ public class UniqueDegreePlannerList implements Iterable<DegreePlanner> {
     public DegreePlanner getDegreePlannerByCode(Code toCheck) {
         requireNonNull(toCheck);
 
-        return internalList.stream()
-                .filter(degreePlanner -> degreePlanner.getCodes().contains(toCheck))
-                .findFirst()
-                .orElse(null);
+        return codeToDegreePlannerIndex.get(toCheck);
     }
 
     /**
@@ -62,7 +94,10 @@ public class UniqueDegreePlannerList implements Iterable<DegreePlanner> {
         if (contains(toAdd)) {
             throw new DuplicateDegreePlannerException();
         }
+        listIndexBySlot[getSlot(toAdd)] = internalList.size();
         internalList.add(toAdd);
+        indexCodes(toAdd);
+        snapshotManager.markAdded(internalList.size() - 1);
     }
 
     /**
@@ -74,7 +109,7 @@ public class UniqueDegreePlannerList implements Iterable<DegreePlanner> {
     public void setDegreePlanner(DegreePlanner target, DegreePlanner editedDegreePlanner) {
         requireAllNonNull(target, editedDegreePlanner);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new DegreePlannerNotFoundException();
         }
@@ -84,6 +119,11 @@ public class UniqueDegreePlannerList implements Iterable<DegreePlanner> {
         }
 
         internalList.set(index, editedDegreePlanner);
+        listIndexBySlot[getSlot(target)] = EMPTY_SLOT;
+        listIndexBySlot[getSlot(editedDegreePlanner)] = index;
+        unindexCodes(target);
+        indexCodes(editedDegreePlanner);
+        snapshotManager.markChanged(index);
     }
 
     /**
@@ -93,15 +133,28 @@ public class UniqueDegreePlannerList implements Iterable<DegreePlanner> {
     public void remove(DegreePlanner toRemove) {
         requireNonNull(toRemove);
 
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new DegreePlannerNotFoundException();
         }
+        internalList.remove(index);
+        listIndexBySlot[getSlot(toRemove)] = EMPTY_SLOT;
+        // the degreePlanners after the removed degreePlanner are shifted to the front by one position
+        for (int slot = 0; slot < listIndexBySlot.length; slot++) {
+            if (listIndexBySlot[slot] > index) {
+                listIndexBySlot[slot]--;
+            }
+        }
+        unindexCodes(toRemove);
+        snapshotManager.markRemoved(index);
     }
 
     public void setDegreePlanners(UniqueDegreePlannerList replacement) {
         requireNonNull(replacement);
 
         internalList.setAll(replacement.internalList);
+        rebuildIndex();
+        snapshotManager.markAllChanged();
     }
 
     /**
@@ -111,11 +164,120 @@ public class UniqueDegreePlannerList implements Iterable<DegreePlanner> {
     public void setDegreePlanners(List<DegreePlanner> degreePlanners) {
         requireAllNonNull(degreePlanners);
 
-        if (!degreePlannersAreUnique(degreePlanners)) {
-            throw new DuplicateDegreePlannerException();
+        List<DegreePlanner> duplicateDegreePlanners = findDuplicateDegreePlanners(degreePlanners);
+        if (!duplicateDegreePlanners.isEmpty()) {
+            throw new DuplicateDegreePlannerException(duplicateDegreePlanners);
         }
 
         internalList.setAll(degreePlanners);
+        rebuildIndex();
+        snapshotManager.markAllChanged();
+    }
+
+    /**
+     * Replaces every degreePlanner in the list with a degreePlanner of the same year and semester without any codes.
+     */
+    public void clearCodes() {
+        List<DegreePlanner> emptyDegreePlanners = new ArrayList<>(internalList.size());
+        for (DegreePlanner degreePlanner : internalList) {
+            emptyDegreePlanners.add(new DegreePlanner(degreePlanner.getYear(), degreePlanner.getSemester(), Set.of()));
+        }
+
+        // the years and semesters are unchanged, so the slots of the grid still hold the same positions
+        internalList.setAll(emptyDegreePlanners);
+        codeToDegreePlannerIndex.clear();
+        snapshotManager.markAllChanged();
+    }
+
+    /**
+     * Returns the position in the backing list of the degreePlanner equal to {@code target}, or -1 if there is no
+     * such degreePlanner.
+     */
+    private int indexOf(DegreePlanner target) {
+        int listIndex = listIndexBySlot[getSlot(target)];
+        return listIndex != EMPTY_SLOT && internalList.get(listIndex).equals(target) ? listIndex : -1;
+    }
+
+    private static int getSlot(DegreePlanner degreePlanner) {
+        return getSlot(degreePlanner.getYear(), degreePlanner.getSemester());
+    }
+
+    /**
+     * Returns the slot of {@code year} and {@code semester} in the year and semester grid of the list.
+     */
+    public static int getSlot(Year year, Semester semester) {
+        requireAllNonNull(year, semester);
+
+        return (year.intValue() - 1) * Semester.NUMBER_OF_SEMESTERS + semester.intValue() - 1;
+    }
+
+    /**
+     * Maps every code of {@code degreePlanner} to {@code degreePlanner} in the code index.
+     */
+    private void indexCodes(DegreePlanner degreePlanner) {
+        assert degreePlanner != null;
+
+        for (Code code : degreePlanner.getCodes()) {
+            codeToDegreePlannerIndex.put(code, degreePlanner);
+        }
+    }
+
+    /**
+     * Removes the codes of {@code degreePlanner} that are mapped to {@code degreePlanner} from the code index.
+     */
+    private void unindexCodes(DegreePlanner degreePlanner) {
+        assert degreePlanner != null;
+
+        for (Code code : degreePlanner.getCodes()) {
+            codeToDegreePlannerIndex.remove(code, degreePlanner);
+        }
+    }
+
+    /**
+     * Rebuilds the code index and the year and semester grid from the contents of the backing list.
+     */
+    private void rebuildIndex() {
+        codeToDegreePlannerIndex.clear();
+        Arrays.fill(listIndexBySlot, EMPTY_SLOT);
+        for (int i = 0; i < internalList.size(); i++) {
+            DegreePlanner degreePlanner = internalList.get(i);
+            listIndexBySlot[getSlot(degreePlanner)] = i;
+            indexCodes(degreePlanner);
+        }
+    }
+
+    /**
+     * Starts a batch of modifications, whose changes are reported to the listeners of this list as a single change
+     * when the outermost batch is committed.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends the current batch of modifications started by {@link #beginBatch()}.
+     */
+    public void commitBatch() {
+        internalList.endBatch();
+    }
+
+    /**
+     * Returns an immutable snapshot of the current contents of this list.
+     * The snapshot shares its unchanged chunks with the previous snapshot of this list.
+     */
+    public ListSnapshot<DegreePlanner> takeSnapshot() {
+        return snapshotManager.takeSnapshot();
+    }
+
+    /**
+     * Replaces the contents of this list with the contents of {@code snapshot}, a snapshot previously taken of this
+     * list.
+     */
+    public void restoreSnapshot(ListSnapshot<DegreePlanner> snapshot) {
+        requireNonNull(snapshot);
+
+        setDegreePlanners(snapshot);
+        snapshotManager.markRestored(snapshot);
     }
 
     /**
@@ -143,16 +305,21 @@ public class UniqueDegreePlannerList implements Iterable<DegreePlanner> {
     }
 
     /**
-     * Returns true if {@code degreePlanners} contains only unique degreePlanner.
+     * Returns the first repeat of every year and semester shared by more than one degreePlanner in
+     * {@code degreePlanners}, or an empty list if {@code degreePlanners} contains only unique degreePlanners.
      */
-    private boolean degreePlannersAreUnique(List<DegreePlanner> degreePlanners) {
-        for (int i = 0; i < degreePlanners.size() - 1; i++) {
-            for (int j = i + 1; j < degreePlanners.size(); j++) {
-                if (degreePlanners.get(i).isSameDegreePlanner(degreePlanners.get(j))) {
-                    return false;
-                }
+    private static List<DegreePlanner> findDuplicateDegreePlanners(List<DegreePlanner> degreePlanners) {
+        Map<Year, Set<Semester>> seenSemestersByYear = new HashMap<>();
+        Map<Year, Set<Semester>> duplicateSemestersByYear = new HashMap<>();
+        List<DegreePlanner> duplicateDegreePlanners = new ArrayList<>();
+        for (DegreePlanner degreePlanner : degreePlanners) {
+            Year year = degreePlanner.getYear();
+            Semester semester = degreePlanner.getSemester();
+            if (!seenSemestersByYear.computeIfAbsent(year, unused -> new HashSet<>()).add(semester)
+                    && duplicateSemestersByYear.computeIfAbsent(year, unused -> new HashSet<>()).add(semester)) {
+                duplicateDegreePlanners.add(degreePlanner);
             }
         }
-        return true;
+        return duplicateDegreePlanners;
     }
 }
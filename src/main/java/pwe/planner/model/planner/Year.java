@@ -18,7 +18,15 @@ public class Year implements Comparable<Year> {
     public static final String YEAR_VALIDATION_REGEX =
             "[1-4]{1}";
 
+    public static final int NUMBER_OF_YEARS = 4;
+
+    /**
+     * The canonical instance of every year, indexed by the year minus one.
+     */
+    private static final Year[] YEARS = createYears();
+
     public final String year;
+    private final int intValue;
 
     /**
      * Constructs a {@code Year}.
@@ -30,6 +38,27 @@ public class Year implements Comparable<Year> {
         checkArgument(isValidYear(year), MESSAGE_YEAR_CONSTRAINTS);
 
         this.year = year;
+        intValue = Integer.parseInt(year);
+    }
+
+    /**
+     * Returns the canonical {@code Year} for {@code year}.
+     *
+     * @param year A valid year.
+     */
+    public static Year of(String year) {
+        requireNonNull(year);
+        checkArgument(isValidYear(year), MESSAGE_YEAR_CONSTRAINTS);
+
+        return YEARS[Integer.parseInt(year) - 1];
+    }
+
+    private static Year[] createYears() {
+        Year[] years = new Year[NUMBER_OF_YEARS];
+        for (int year = 1; year <= NUMBER_OF_YEARS; year++) {
+            years[year - 1] = new Year(Integer.toString(year));
+        }
+        return years;
     }
 
     /**
@@ -41,6 +70,13 @@ public class Year implements Comparable<Year> {
         return test.matches(YEAR_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the year as an {@code int}.
+     */
+    public int intValue() {
+        return intValue;
+    }
+
     @Override
     public String toString() {
         return year;
@@ -1,8 +1,8 @@
 package pwe.planner.model.planner;
 
 import static java.util.Objects.requireNonNull;
-import static pwe.planner.logic.parser.ParserUtil.parseKeyword;
 
+import pwe.planner.commons.util.KeywordMatcher;
 import pwe.planner.model.module.KeywordsPredicate;
 
 /**
@@ -10,11 +10,17 @@ import pwe.planner.model.module.KeywordsPredicate;
  */
 public class YearContainsKeywordPredicate<T> implements KeywordsPredicate<T> {
     private final String keyword;
+    private final KeywordMatcher keywordMatcher;
 
     public YearContainsKeywordPredicate(String keyword) {
         requireNonNull(keyword);
 
         this.keyword = keyword;
+        keywordMatcher = new KeywordMatcher(keyword);
+    }
+
+    public String getKeyword() {
+        return keyword;
     }
 
     @Override
@@ -23,7 +29,7 @@ public class YearContainsKeywordPredicate<T> implements KeywordsPredicate<T> {
         DegreePlanner degreePlanner = (DegreePlanner) object;
 
         String year = degreePlanner.getYear().toString();
-        return parseKeyword(keyword, year);
+        return keywordMatcher.matches(year);
     }
 
     @Override
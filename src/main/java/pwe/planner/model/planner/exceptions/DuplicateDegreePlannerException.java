@@ -1,11 +1,42 @@
 package pwe.planner.model.planner.exceptions;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+
+import pwe.planner.commons.util.StringUtil;
+import pwe.planner.model.planner.DegreePlanner;
+
 /**
  * Signals that the operation will result in duplicate DegreePlanners (DegreePlanners are considered duplicates if
  * they have the same identity).
  */
 public class DuplicateDegreePlannerException extends RuntimeException {
+    private final List<DegreePlanner> duplicateDegreePlanners;
+
     public DuplicateDegreePlannerException() {
         super("Operation would result in duplicate degreePlanners");
+        duplicateDegreePlanners = Collections.emptyList();
+    }
+
+    /**
+     * Creates an exception reporting the year and semester of every degreePlanner in {@code duplicateDegreePlanners}
+     * as shared by more than one degreePlanner.
+     */
+    public DuplicateDegreePlannerException(List<DegreePlanner> duplicateDegreePlanners) {
+        super("Operation would result in duplicate degreePlanners: "
+                + StringUtil.joinStreamAsString(requireNonNull(duplicateDegreePlanners).stream()
+                        .map(degreePlanner -> "Year " + degreePlanner.getYear()
+                                + " Semester " + degreePlanner.getSemester())));
+        this.duplicateDegreePlanners = Collections.unmodifiableList(duplicateDegreePlanners);
+    }
+
+    /**
+     * Returns one degreePlanner for every year and semester shared by more than one degreePlanner, or an empty list if
+     * they are not known.
+     */
+    public List<DegreePlanner> getDuplicateDegreePlanners() {
+        return duplicateDegreePlanners;
     }
 }
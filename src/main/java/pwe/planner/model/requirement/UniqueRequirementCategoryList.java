@@ -3,12 +3,22 @@ package pwe.planner.model.requirement;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import pwe.planner.commons.util.BatchedObservableList;
+import pwe.planner.commons.util.ListSnapshot;
+import pwe.planner.commons.util.ListSnapshotManager;
 import pwe.planner.commons.util.StringUtil;
+import pwe.planner.model.module.Code;
 import pwe.planner.model.module.Name;
 import pwe.planner.model.requirement.exceptions.DuplicateRequirementCategoryException;
 import pwe.planner.model.requirement.exceptions.RequirementCategoryNotFoundException;
@@ -27,14 +37,20 @@ import pwe.planner.model.requirement.exceptions.RequirementCategoryNotFoundExcep
  * the same fields will be removed.
  * <p>
  * Supports a minimal set of list operations.
+ * <p>
+ * Each module code is additionally mapped to the requirement category containing it, so that the requirement category
+ * owning a code can be found without scanning every requirement category. The index is kept in sync with the backing
+ * list by every operation that modifies it.
  *
  * @see RequirementCategory#isSameRequirementCategory(RequirementCategory)
  */
 public class UniqueRequirementCategoryList implements Iterable<RequirementCategory> {
 
-    private final ObservableList<RequirementCategory> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<RequirementCategory> internalList = new BatchedObservableList<>();
     private final ObservableList<RequirementCategory> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Code, RequirementCategory> codeToRequirementCategoryIndex = new HashMap<>();
+    private final ListSnapshotManager<RequirementCategory> snapshotManager = new ListSnapshotManager<>(internalList);
 
     /**
      * Returns true if the list contains an equivalent Name as the given argument.
@@ -67,6 +83,16 @@ public class UniqueRequirementCategoryList implements Iterable<RequirementCatego
                 .orElse(null);
     }
 
+    /**
+     * Returns the RequirementCategory object in the internalList which contains the given code, otherwise returns
+     * null.
+     */
+    public RequirementCategory getRequirementCategoryByCode(Code toCheck) {
+        requireNonNull(toCheck);
+
+        return codeToRequirementCategoryIndex.get(toCheck);
+    }
+
     /**
      * Adds a requirement to the list.
      * The requirement must not already exist in the list.
@@ -78,6 +104,8 @@ public class UniqueRequirementCategoryList implements Iterable<RequirementCatego
             throw new DuplicateRequirementCategoryException();
         }
         internalList.add(toAdd);
+        indexCodes(toAdd);
+        snapshotManager.markAdded(internalList.size() - 1);
     }
 
     /**
@@ -100,6 +128,9 @@ public class UniqueRequirementCategoryList implements Iterable<RequirementCatego
         }
 
         internalList.set(index, editedRequirementCategory);
+        unindexCodes(target);
+        indexCodes(editedRequirementCategory);
+        snapshotManager.markChanged(index);
     }
 
     /**
@@ -109,15 +140,21 @@ public class UniqueRequirementCategoryList implements Iterable<RequirementCatego
     public void remove(RequirementCategory toRemove) {
         requireNonNull(toRemove);
 
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new RequirementCategoryNotFoundException();
         }
+        internalList.remove(index);
+        unindexCodes(toRemove);
+        snapshotManager.markRemoved(index);
     }
 
     public void setRequirementCategories(UniqueRequirementCategoryList replacement) {
         requireNonNull(replacement);
 
         internalList.setAll(replacement.internalList);
+        rebuildIndex();
+        snapshotManager.markAllChanged();
     }
 
     /**
@@ -127,11 +164,79 @@ public class UniqueRequirementCategoryList implements Iterable<RequirementCatego
     public void setRequirementCategories(List<RequirementCategory> requirementCategories) {
         requireAllNonNull(requirementCategories);
 
-        if (!requirementCategoriesAreUnique(requirementCategories)) {
-            throw new DuplicateRequirementCategoryException();
+        List<Name> duplicateNames = findDuplicateNames(requirementCategories);
+        if (!duplicateNames.isEmpty()) {
+            throw new DuplicateRequirementCategoryException(duplicateNames);
         }
 
         internalList.setAll(requirementCategories);
+        rebuildIndex();
+        snapshotManager.markAllChanged();
+    }
+
+    /**
+     * Maps every code of {@code requirementCategory} to {@code requirementCategory} in the code index.
+     */
+    private void indexCodes(RequirementCategory requirementCategory) {
+        assert requirementCategory != null;
+
+        for (Code code : requirementCategory.getCodeSet()) {
+            codeToRequirementCategoryIndex.put(code, requirementCategory);
+        }
+    }
+
+    /**
+     * Removes the codes of {@code requirementCategory} that are mapped to {@code requirementCategory} from the code
+     * index.
+     */
+    private void unindexCodes(RequirementCategory requirementCategory) {
+        assert requirementCategory != null;
+
+        for (Code code : requirementCategory.getCodeSet()) {
+            codeToRequirementCategoryIndex.remove(code, requirementCategory);
+        }
+    }
+
+    /**
+     * Rebuilds the code index from the contents of the backing list.
+     */
+    private void rebuildIndex() {
+        codeToRequirementCategoryIndex.clear();
+        internalList.forEach(this::indexCodes);
+    }
+
+    /**
+     * Starts a batch of modifications, whose changes are reported to the listeners of this list as a single change
+     * when the outermost batch is committed.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends the current batch of modifications started by {@link #beginBatch()}.
+     */
+    public void commitBatch() {
+        internalList.endBatch();
+    }
+
+    /**
+     * Returns an immutable snapshot of the current contents of this list.
+     * The snapshot shares its unchanged chunks with the previous snapshot of this list.
+     */
+    public ListSnapshot<RequirementCategory> takeSnapshot() {
+        return snapshotManager.takeSnapshot();
+    }
+
+    /**
+     * Replaces the contents of this list with the contents of {@code snapshot}, a snapshot previously taken of this
+     * list.
+     */
+    public void restoreSnapshot(ListSnapshot<RequirementCategory> snapshot) {
+        requireNonNull(snapshot);
+
+        setRequirementCategories(snapshot);
+        snapshotManager.markRestored(snapshot);
     }
 
     /**
@@ -159,16 +264,18 @@ public class UniqueRequirementCategoryList implements Iterable<RequirementCatego
     }
 
     /**
-     * Returns true if {@code requirement} contains only unique requirement modules.
+     * Returns the names shared by more than one requirement category in {@code requirementCategories}, in the order in
+     * which they are first repeated, or an empty list if {@code requirementCategories} contains only unique
+     * requirement categories.
      */
-    private boolean requirementCategoriesAreUnique(List<RequirementCategory> requirementCategories) {
-        for (int i = 0; i < requirementCategories.size() - 1; i++) {
-            for (int j = i + 1; j < requirementCategories.size(); j++) {
-                if (requirementCategories.get(i).isSameRequirementCategory(requirementCategories.get(j))) {
-                    return false;
-                }
+    private static List<Name> findDuplicateNames(List<RequirementCategory> requirementCategories) {
+        Set<Name> seenNames = new HashSet<>();
+        Set<Name> duplicateNames = new LinkedHashSet<>();
+        for (RequirementCategory requirementCategory : requirementCategories) {
+            if (!seenNames.add(requirementCategory.getName())) {
+                duplicateNames.add(requirementCategory.getName());
             }
         }
-        return true;
+        return new ArrayList<>(duplicateNames);
     }
 }
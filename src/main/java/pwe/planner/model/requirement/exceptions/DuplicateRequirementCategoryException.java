@@ -1,11 +1,39 @@
 package pwe.planner.model.requirement.exceptions;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+
+import pwe.planner.commons.util.StringUtil;
+import pwe.planner.model.module.Name;
+
 /**
  * Signals that the operation will result in duplicate RequirementCategory (RequirementCategory are considered
  * duplicates if they have the same identity).
  */
 public class DuplicateRequirementCategoryException extends RuntimeException {
+    private final List<Name> duplicateNames;
+
     public DuplicateRequirementCategoryException() {
         super("Operation would result in duplicate requirement");
+        duplicateNames = Collections.emptyList();
+    }
+
+    /**
+     * Creates an exception reporting every name in {@code duplicateNames} as shared by more than one requirement
+     * category.
+     */
+    public DuplicateRequirementCategoryException(List<Name> duplicateNames) {
+        super("Operation would result in duplicate requirement: "
+                + StringUtil.joinStreamAsString(requireNonNull(duplicateNames).stream()));
+        this.duplicateNames = Collections.unmodifiableList(duplicateNames);
+    }
+
+    /**
+     * Returns the names shared by more than one requirement category, or an empty list if they are not known.
+     */
+    public List<Name> getDuplicateNames() {
+        return duplicateNames;
     }
 }
@@ -3,6 +3,11 @@ package pwe.planner.model.tag;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.AppUtil.checkArgument;
 
+import java.util.List;
+
+import pwe.planner.commons.util.CanonicalPool;
+import pwe.planner.commons.util.StringUtil;
+
 /**
  * Represents a Tag in the application.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -12,7 +17,11 @@ public class Tag implements Comparable<Tag> {
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final CanonicalPool<String, Tag> canonicalTags = new CanonicalPool<>(Tag::new);
+
     public final String tagName;
+    /** The words of the tag name folded by {@link StringUtil#foldCase(String)}, computed when they are first needed. */
+    private List<String> normalizedWords;
 
     /**
      * Constructs a {@code Tag}.
@@ -26,6 +35,25 @@ public class Tag implements Comparable<Tag> {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the canonical {@code Tag} for {@code tagName}, creating it if this is the first time the tag name is
+     * seen.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+
+        return canonicalTags.get(tagName);
+    }
+
+    /**
+     * Returns the number of canonical tags, for monitoring the memory kept by the canonical tags.
+     */
+    public static int getCanonicalTagCount() {
+        return canonicalTags.size();
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
@@ -35,6 +63,20 @@ public class Tag implements Comparable<Tag> {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the words of the tag name folded by {@link StringUtil#foldCase(String)}, for matching keywords against
+     * it.
+     */
+    public List<String> getNormalizedWords() {
+        // a racy but idempotent initialization, as the words of an immutable tag never change
+        List<String> words = normalizedWords;
+        if (words == null) {
+            words = StringUtil.getNormalizedWords(tagName);
+            normalizedWords = words;
+        }
+        return words;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
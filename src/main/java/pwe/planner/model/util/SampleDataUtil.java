@@ -24,7 +24,7 @@ import pwe.planner.model.tag.Tag;
 public class SampleDataUtil {
     // Sample modules that can be used
     private static final Module CS1010 = new Module(
-            new Code("CS1010"),
+            Code.of("CS1010"),
             new Name("Programming Methodology"),
             new Credits("4"),
             getSemesterSet("1", "2", "4"),
@@ -33,7 +33,7 @@ public class SampleDataUtil {
     );
 
     private static final Module CS1231 = new Module(
-            new Code("CS1231"),
+            Code.of("CS1231"),
             new Name("Discrete Structures"),
             new Credits("4"),
             getSemesterSet("1", "2"),
@@ -42,7 +42,7 @@ public class SampleDataUtil {
     );
 
     private static final Module CS2040C = new Module(
-            new Code("CS2040C"),
+            Code.of("CS2040C"),
             new Name("Data Structures and Algorithms"),
             new Credits("4"),
             getSemesterSet("1", "2"),
@@ -51,7 +51,7 @@ public class SampleDataUtil {
     );
 
     private static final Module CS2100 = new Module(
-            new Code("CS2100"),
+            Code.of("CS2100"),
             new Name("Computer Organisation"),
             new Credits("4"),
             getSemesterSet("1", "2"),
@@ -60,7 +60,7 @@ public class SampleDataUtil {
     );
 
     private static final Module CS2101 = new Module(
-            new Code("CS2101"),
+            Code.of("CS2101"),
             new Name("Effective Communication for Computing Professionals"),
             new Credits("4"),
             getSemesterSet("1", "2"),
@@ -69,7 +69,7 @@ public class SampleDataUtil {
     );
 
     private static final Module CS2102 = new Module(
-            new Code("CS2102"),
+            Code.of("CS2102"),
             new Name("Database Systems"),
             new Credits("4"),
             getSemesterSet("1", "2", "4"),
@@ -78,7 +78,7 @@ public class SampleDataUtil {
     );
 
     private static final Module CS2105 = new Module(
-            new Code("CS2105"),
+            Code.of("CS2105"),
             new Name("Introduction to Computer Networks"),
             new Credits("4"),
             getSemesterSet("1", "2"),
@@ -87,7 +87,7 @@ public class SampleDataUtil {
     );
 
     private static final Module CS2106 = new Module(
-            new Code("CS2106"),
+            Code.of("CS2106"),
             new Name("Introduction to Operating Systems"),
             new Credits("4"),
             getSemesterSet("1", "2"),
@@ -96,7 +96,7 @@ public class SampleDataUtil {
     );
 
     private static final Module CS2107 = new Module(
-            new Code("CS2107"),
+            Code.of("CS2107"),
             new Name("Introduction to Information Security"),
             new Credits("4"),
             getSemesterSet("1", "2"),
@@ -105,7 +105,7 @@ public class SampleDataUtil {
     );
 
     private static final Module CS2113T = new Module(
-            new Code("CS2113T"),
+            Code.of("CS2113T"),
             new Name("Software Engineering and Object-Oriented Programming"),
             new Credits("4"),
             getSemesterSet("1", "2"),
@@ -114,7 +114,7 @@ public class SampleDataUtil {
     );
 
     private static final Module CS3235 = new Module(
-            new Code("CS3235"),
+            Code.of("CS3235"),
             new Name("Introduction to Computer Security"),
             new Credits("4"),
             getSemesterSet("1", "2"),
@@ -123,7 +123,7 @@ public class SampleDataUtil {
     );
 
     private static final Module CS4238 = new Module(
-            new Code("CS4238"),
+            Code.of("CS4238"),
             new Name("Computer Security Practices"),
             new Credits("4"),
             getSemesterSet("1", "2"),
@@ -132,7 +132,7 @@ public class SampleDataUtil {
     );
 
     private static final Module CS5331 = new Module(
-            new Code("CS5331"),
+            Code.of("CS5331"),
             new Name("Web Security"),
             new Credits("4"),
             getSemesterSet("1", "2"),
@@ -141,7 +141,7 @@ public class SampleDataUtil {
     );
 
     private static final Module GER1000 = new Module(
-            new Code("GER1000"),
+            Code.of("GER1000"),
             new Name("Quantitative Reasoning"),
             new Credits("4"),
             getSemesterSet("1", "2"),
@@ -150,7 +150,7 @@ public class SampleDataUtil {
     );
 
     private static final Module GEQ1000 = new Module(
-            new Code("GEQ1000"),
+            Code.of("GEQ1000"),
             new Name("Asking Questions"),
             new Credits("4"),
             getSemesterSet("1", "2"),
@@ -159,7 +159,7 @@ public class SampleDataUtil {
     );
 
     private static final Module IFS4205 = new Module(
-            new Code("IFS4205"),
+            Code.of("IFS4205"),
             new Name("Information Security Capstone Project"),
             new Credits("8"),
             getSemesterSet("1"),
@@ -168,7 +168,7 @@ public class SampleDataUtil {
     );
 
     private static final Module IS1103 = new Module(
-            new Code("IS1103"),
+            Code.of("IS1103"),
             new Name("IS Innovations in Organisations and Society"),
             new Credits("4"),
             getSemesterSet("1"),
@@ -177,7 +177,7 @@ public class SampleDataUtil {
     );
 
     private static final Module IS3103 = new Module(
-            new Code("IS3103"),
+            Code.of("IS3103"),
             new Name("Information Systems Leadership and Communication"),
             new Credits("4"),
             getSemesterSet("1", "2"),
@@ -186,7 +186,7 @@ public class SampleDataUtil {
     );
 
     private static final Module IS4231 = new Module(
-            new Code("IS4231"),
+            Code.of("IS4231"),
             new Name("Information Security Management"),
             new Credits("4"),
             getSemesterSet("1"),
@@ -195,7 +195,7 @@ public class SampleDataUtil {
     );
 
     private static final Module MA1301 = new Module(
-            new Code("MA1301"),
+            Code.of("MA1301"),
             new Name("Introductory Mathematics"),
             new Credits("4"),
             getSemesterSet("1", "2"),
@@ -204,7 +204,7 @@ public class SampleDataUtil {
     );
 
     private static final Module MA1101R = new Module(
-            new Code("MA1101R"),
+            Code.of("MA1101R"),
             new Name("Linear Algebra I"),
             new Credits("4"),
             getSemesterSet("1", "2"),
@@ -213,7 +213,7 @@ public class SampleDataUtil {
     );
 
     private static final Module MA1521 = new Module(
-            new Code("MA1521"),
+            Code.of("MA1521"),
             new Name("Calculus for Computing"),
             new Credits("4"),
             getSemesterSet("1", "2"),
@@ -222,7 +222,7 @@ public class SampleDataUtil {
     );
 
     private static final Module ST2334 = new Module(
-            new Code("ST2334"),
+            Code.of("ST2334"),
             new Name("Probability and Statistics"),
             new Credits("4"),
             getSemesterSet("1", "2"),
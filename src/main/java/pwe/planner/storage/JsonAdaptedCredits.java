@@ -48,7 +48,7 @@ public class JsonAdaptedCredits {
         if (!Credits.isValidCredits(creditsValue)) {
             throw new IllegalValueException(Credits.MESSAGE_CONSTRAINTS);
         }
-        return new Credits(creditsValue);
+        return Credits.of(creditsValue);
     }
 
 }
@@ -48,7 +48,7 @@ public class JsonAdaptedSemester {
         if (!Semester.isValidSemester(semesterValue)) {
             throw new IllegalValueException(Semester.MESSAGE_SEMESTER_CONSTRAINTS);
         }
-        return new Semester(semesterValue);
+        return Semester.of(semesterValue);
     }
 
 }
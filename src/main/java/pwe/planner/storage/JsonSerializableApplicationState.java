@@ -0,0 +1,61 @@
+package pwe.planner.storage;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import pwe.planner.commons.exceptions.IllegalValueException;
+import pwe.planner.model.Application;
+import pwe.planner.model.ReadOnlyApplication;
+
+/**
+ * A single state of the application (all three lists together) that is serializable to JSON format.
+ */
+class JsonSerializableApplicationState {
+
+    private final JsonSerializableModuleList modules;
+    private final JsonSerializableDegreePlannerList degreePlanners;
+    private final JsonSerializableRequirementCategoryList requirementCategories;
+
+    /**
+     * Constructs a {@link JsonSerializableApplicationState} with the given lists.
+     */
+    @JsonCreator
+    public JsonSerializableApplicationState(@JsonProperty("modules") JsonSerializableModuleList modules,
+            @JsonProperty("degreePlanners") JsonSerializableDegreePlannerList degreePlanners,
+            @JsonProperty("requirementCategories") JsonSerializableRequirementCategoryList requirementCategories) {
+        requireAllNonNull(modules, degreePlanners, requirementCategories);
+
+        this.modules = modules;
+        this.degreePlanners = degreePlanners;
+        this.requirementCategories = requirementCategories;
+    }
+
+    /**
+     * Converts a given {@link ReadOnlyApplication} into this class for Jackson use.
+     *
+     * @param source future changes to this will not affect the created {@link JsonSerializableApplicationState}.
+     */
+    public JsonSerializableApplicationState(ReadOnlyApplication source) {
+        requireNonNull(source);
+
+        modules = new JsonSerializableModuleList(source);
+        degreePlanners = new JsonSerializableDegreePlannerList(source.getDegreePlannerList());
+        requirementCategories = new JsonSerializableRequirementCategoryList(source.getRequirementCategoryList());
+    }
+
+    /**
+     * Converts this state into the model's {@link Application} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in any of the lists.
+     */
+    public Application toModelType() throws IllegalValueException {
+        Application application = new Application();
+        application.setModules(modules.toModelType());
+        application.setDegreePlanners(degreePlanners.toModelType());
+        application.setRequirementCategories(requirementCategories.toModelType());
+        return application;
+    }
+}
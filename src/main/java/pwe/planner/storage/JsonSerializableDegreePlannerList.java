@@ -3,9 +3,9 @@ package pwe.planner.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -78,15 +78,12 @@ public class JsonSerializableDegreePlannerList {
 
         // Ensure that all module codes appears at most once
         ObservableList<DegreePlanner> degreePlannerList = uniqueDegreePlannerList.asUnmodifiableObservableList();
-        List<Code> allDegreePlannerCodes = degreePlannerList.stream().map(DegreePlanner::getCodes)
-                .flatMap(Collection::stream).collect(Collectors.toList());
-        for (Code code : allDegreePlannerCodes) {
-            long codeAppearanceInDegreePlanners = allDegreePlannerCodes.stream()
-                    .filter(degreePlannerCode -> degreePlannerCode.equals(code))
-                    .count();
-
-            if (codeAppearanceInDegreePlanners > 1) {
-                throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_DEGREE_PLANNER_CODE, code));
+        Set<Code> seenCodes = new HashSet<>();
+        for (DegreePlanner degreePlanner : degreePlannerList) {
+            for (Code code : degreePlanner.getCodes()) {
+                if (!seenCodes.add(code)) {
+                    throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_DEGREE_PLANNER_CODE, code));
+                }
             }
         }
 
@@ -3,9 +3,9 @@ package pwe.planner.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -79,15 +79,12 @@ public class JsonSerializableRequirementCategoryList {
         // Ensure that all module codes appears at most once
         ObservableList<RequirementCategory> requirementCategories = uniqueRequirementCategoryList
                 .asUnmodifiableObservableList();
-        List<Code> allRequirementCategoryCodes = requirementCategories.stream().map(RequirementCategory::getCodeSet)
-                .flatMap(Collection::stream).collect(Collectors.toList());
-        for (Code code : allRequirementCategoryCodes) {
-            long codeAppearanceInRequirementCategories = allRequirementCategoryCodes.stream()
-                    .filter(requirementCategoryCode -> requirementCategoryCode.equals(code))
-                    .count();
-
-            if (codeAppearanceInRequirementCategories > 1) {
-                throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_REQUIREMENT_CATEGORY_CODE, code));
+        Set<Code> seenCodes = new HashSet<>();
+        for (RequirementCategory requirementCategory : requirementCategories) {
+            for (Code code : requirementCategory.getCodeSet()) {
+                if (!seenCodes.add(code)) {
+                    throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_REQUIREMENT_CATEGORY_CODE, code));
+                }
             }
         }
 
@@ -0,0 +1,215 @@
+package pwe.planner.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import pwe.planner.commons.exceptions.DataConversionException;
+import pwe.planner.commons.exceptions.IllegalValueException;
+import pwe.planner.commons.util.FileUtil;
+import pwe.planner.commons.util.JsonUtil;
+import pwe.planner.model.ReadOnlyApplication;
+import pwe.planner.model.UndoHistoryStorage;
+
+/**
+ * A class to store the spilled states of the undo history in a single file on the hard disk.
+ * <p>
+ * Every state is appended to the file as a gzip-compressed JSON record, preceded by the length of the record, and
+ * is identified by a sequence number mapped to the position of its record in the file. Discarded states leave their
+ * records in the file until the discarded records take up more than half of the file, at which point the remaining
+ * records are copied into a new file which replaces it, so the file never grows to more than twice the size of the
+ * states in use. The file only lives for one session of the application, and is emptied the first time a state is
+ * saved.
+ */
+public class JsonUndoHistoryStorage implements UndoHistoryStorage {
+
+    private final Path filePath;
+    private final Map<Long, RecordLocation> recordLocations = new TreeMap<>();
+    private long nextStateId = 0;
+    private long fileLength = 0;
+    private long usedLength = 0;
+    private boolean isClearedForSession = false;
+
+    public JsonUndoHistoryStorage(Path filePath) {
+        requireNonNull(filePath);
+
+        this.filePath = filePath;
+    }
+
+    public Path getUndoHistoryFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public long saveState(ReadOnlyApplication state) throws IOException {
+        requireNonNull(state);
+
+        if (!isClearedForSession) {
+            clear();
+        }
+
+        byte[] record = compress(JsonUtil.toJsonString(new JsonSerializableApplicationState(state)));
+        try (RandomAccessFile file = new RandomAccessFile(filePath.toFile(), "rw")) {
+            file.seek(fileLength);
+            file.writeInt(record.length);
+            file.write(record);
+        }
+
+        RecordLocation location = new RecordLocation(fileLength, record.length);
+        recordLocations.put(nextStateId, location);
+        fileLength += location.getStoredLength();
+        usedLength += location.getStoredLength();
+        return nextStateId++;
+    }
+
+    @Override
+    public ReadOnlyApplication readState(long stateId) throws DataConversionException, IOException {
+        RecordLocation location = recordLocations.get(stateId);
+        if (location == null) {
+            throw new IOException("No undo history state is saved under " + stateId);
+        }
+
+        byte[] record;
+        try (RandomAccessFile file = new RandomAccessFile(filePath.toFile(), "r")) {
+            record = readRecord(file, location);
+        }
+
+        try {
+            return JsonUtil.fromJsonString(decompress(record), JsonSerializableApplicationState.class).toModelType();
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void discardState(long stateId) throws IOException {
+        RecordLocation location = recordLocations.remove(stateId);
+        if (location == null) {
+            return;
+        }
+
+        usedLength -= location.getStoredLength();
+        if (recordLocations.isEmpty()) {
+            truncate();
+        } else if (fileLength - usedLength > usedLength) {
+            compact();
+        }
+    }
+
+    @Override
+    public void clear() throws IOException {
+        FileUtil.createIfMissing(filePath);
+        truncate();
+        recordLocations.clear();
+        nextStateId = 0;
+        isClearedForSession = true;
+    }
+
+    /**
+     * Empties the file, which must not hold any record in use.
+     */
+    private void truncate() throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(filePath.toFile(), "rw")) {
+            file.setLength(0);
+        }
+        fileLength = 0;
+        usedLength = 0;
+    }
+
+    /**
+     * Copies the records in use into a new file, which then replaces the file.
+     */
+    private void compact() throws IOException {
+        Path compactedFilePath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        Map<Long, RecordLocation> compactedLocations = new TreeMap<>();
+        long compactedLength = 0;
+        try {
+            try (RandomAccessFile file = new RandomAccessFile(filePath.toFile(), "r");
+                    RandomAccessFile compactedFile = new RandomAccessFile(compactedFilePath.toFile(), "rw")) {
+                compactedFile.setLength(0);
+                for (Map.Entry<Long, RecordLocation> entry : recordLocations.entrySet()) {
+                    byte[] record = readRecord(file, entry.getValue());
+                    compactedFile.writeInt(record.length);
+                    compactedFile.write(record);
+
+                    RecordLocation compactedLocation = new RecordLocation(compactedLength, record.length);
+                    compactedLocations.put(entry.getKey(), compactedLocation);
+                    compactedLength += compactedLocation.getStoredLength();
+                }
+            }
+            Files.move(compactedFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException ioe) {
+            Files.deleteIfExists(compactedFilePath);
+            throw ioe;
+        }
+
+        recordLocations.putAll(compactedLocations);
+        fileLength = compactedLength;
+    }
+
+    /**
+     * Returns the record at {@code location} of {@code file}.
+     */
+    private static byte[] readRecord(RandomAccessFile file, RecordLocation location) throws IOException {
+        file.seek(location.offset);
+        byte[] record = new byte[file.readInt()];
+        if (record.length != location.length) {
+            throw new IOException("Undo history record at " + location.offset + " has an unexpected length");
+        }
+        file.readFully(record);
+        return record;
+    }
+
+    /**
+     * Returns the gzip-compressed UTF-8 bytes of {@code json}.
+     */
+    private static byte[] compress(String json) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(json.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Returns the JSON string compressed by {@link #compress(String)}.
+     */
+    private static String decompress(byte[] record) throws IOException {
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(record))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * The position and length of a record in the file.
+     */
+    private static class RecordLocation {
+        private final long offset;
+        private final int length;
+
+        private RecordLocation(long offset, int length) {
+            this.offset = offset;
+            this.length = length;
+        }
+
+        /**
+         * Returns the number of bytes taken by the record in the file, including its length.
+         */
+        private long getStoredLength() {
+            return Integer.BYTES + length;
+        }
+    }
+}
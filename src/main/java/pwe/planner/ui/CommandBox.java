@@ -2,10 +2,14 @@ package pwe.planner.ui;
 
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
@@ -23,20 +27,29 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final CompletionProvider completionProvider;
     private final List<String> history;
+    private final ContextMenu suggestions = new ContextMenu();
     private ListElementPointer historySnapshot;
 
     @FXML
     private TextField commandTextField;
 
     public CommandBox(CommandExecutor commandExecutor, List<String> history) {
+        this(commandExecutor, unused -> List.of(), history);
+    }
+
+    public CommandBox(CommandExecutor commandExecutor, CompletionProvider completionProvider, List<String> history) {
         super(FXML);
-        requireAllNonNull(commandExecutor, history);
+        requireAllNonNull(commandExecutor, completionProvider, history);
 
         this.commandExecutor = commandExecutor;
+        this.completionProvider = completionProvider;
         this.history = history;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        // refreshes the suggestions whenever the user changes the text of the command box.
+        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> showSuggestions());
         historySnapshot = new ListElementPointer(history);
     }
 
@@ -59,6 +72,11 @@ public class CommandBox extends UiPart<Region> {
             keyEvent.consume();
             navigateToNextInput();
             break;
+        case TAB:
+            // consuming it keeps the focus in the command box
+            keyEvent.consume();
+            completeInput();
+            break;
         default:
             // let JavaFx handle the keypress
         }
@@ -92,6 +110,57 @@ public class CommandBox extends UiPart<Region> {
         replaceText(historySnapshot.next());
     }
 
+    /**
+     * Completes the last word of the text field, if there are completions of it.
+     * The text field is replaced with the only completion if there is one, or else with the longest common prefix
+     * of the completions.
+     */
+    private void completeInput() {
+        List<String> completions = completionProvider.getCompletions(commandTextField.getText());
+        if (completions.isEmpty()) {
+            return;
+        }
+
+        String completedText = completions.get(0);
+        for (String completion : completions) {
+            int length = 0;
+            while (length < completedText.length() && length < completion.length()
+                    && completedText.charAt(length) == completion.charAt(length)) {
+                length++;
+            }
+            completedText = completedText.substring(0, length);
+        }
+        if (completedText.length() > commandTextField.getText().length()) {
+            replaceText(completedText);
+        }
+    }
+
+    /**
+     * Shows the completions of the text field below it, or hides them if the text field is not focused or there is
+     * nothing left to complete.
+     */
+    private void showSuggestions() {
+        String text = commandTextField.getText();
+        List<String> completions = commandTextField.isFocused()
+                ? completionProvider.getCompletions(text)
+                : List.of();
+        if (completions.isEmpty() || (completions.size() == 1 && completions.get(0).equals(text))) {
+            suggestions.hide();
+            return;
+        }
+
+        List<MenuItem> items = new ArrayList<>();
+        for (String completion : completions) {
+            MenuItem item = new MenuItem(completion);
+            item.setOnAction(unused -> replaceText(completion));
+            items.add(item);
+        }
+        suggestions.getItems().setAll(items);
+        if (!suggestions.isShowing()) {
+            suggestions.show(commandTextField, Side.BOTTOM, 0, 0);
+        }
+    }
+
     /**
      * Sets {@code CommandBox}'s text field with {@code text} and
      * positions the caret to the end of the {@code text}.
@@ -108,6 +177,7 @@ public class CommandBox extends UiPart<Region> {
      */
     @FXML
     private void handleCommandEntered() {
+        suggestions.hide();
         try {
             commandExecutor.execute(commandTextField.getText());
             initHistory();
@@ -162,4 +232,17 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that can complete partially entered commands.
+     */
+    @FunctionalInterface
+    public interface CompletionProvider {
+        /**
+         * Returns the completions of the last word of {@code commandText}.
+         *
+         * @see Logic#getCompletions(String)
+         */
+        List<String> getCompletions(String commandText);
+    }
+
 }
@@ -13,7 +13,6 @@ import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
-import pwe.planner.model.module.Credits;
 import pwe.planner.model.module.Module;
 import pwe.planner.model.planner.DegreePlanner;
 
@@ -43,7 +42,7 @@ public class DegreePlannerCard extends UiPart<Region> {
     @FXML
     private VBox degreePlannerListView;
 
-    public DegreePlannerCard(DegreePlanner degreePlanner, ObservableList<Module> moduleList) {
+    public DegreePlannerCard(DegreePlanner degreePlanner, ObservableList<Module> moduleList, int currentCredits) {
         super(FXML);
         requireAllNonNull(degreePlanner, moduleList);
 
@@ -67,9 +66,6 @@ public class DegreePlannerCard extends UiPart<Region> {
                 .map(code -> moduleList.stream().filter(module -> module.getCode().equals(code))
                         .findFirst().get()).collect(Collectors.toList());
 
-        int currentCredits = modulesInDegreePlanner.stream().map(Module::getCredits).map(Credits::toString)
-                .map(Integer::parseInt).reduce(0, (totalCredits, credit) -> totalCredits + credit);
-
         credits.setText("Total Credits: " + currentCredits + " MCs");
         credits.setPadding(new Insets(0, 0, 0, 5));
         credits.getStyleClass().clear();
@@ -2,6 +2,8 @@ package pwe.planner.ui;
 
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.function.ToIntFunction;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -17,16 +19,18 @@ public class DegreePlannerListPanel extends UiPart<Region> {
 
     private static final String FXML = "DegreePlannerListPanel.fxml";
     private ObservableList<Module> modules;
+    private ToIntFunction<DegreePlanner> creditsCounter;
 
     @FXML
     private ListView<DegreePlanner> degreePlanners;
 
     public DegreePlannerListPanel(ObservableList<DegreePlanner> degreePlannerList,
-            ObservableList<Module> moduleList) {
+            ObservableList<Module> moduleList, ToIntFunction<DegreePlanner> creditsCounter) {
         super(FXML);
-        requireAllNonNull(degreePlannerList, moduleList);
+        requireAllNonNull(degreePlannerList, moduleList, creditsCounter);
 
         modules = moduleList;
+        this.creditsCounter = creditsCounter;
         degreePlanners.setItems(degreePlannerList);
         degreePlanners.setCellFactory(listView -> new DegreePlannerViewCell());
     }
@@ -44,7 +48,8 @@ public class DegreePlannerListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new DegreePlannerCard(degreePlanner, modules).getRoot());
+                setGraphic(new DegreePlannerCard(degreePlanner, modules,
+                        creditsCounter.applyAsInt(degreePlanner)).getRoot());
             }
         }
     }
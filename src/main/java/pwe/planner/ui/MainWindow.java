@@ -128,20 +128,20 @@ public class MainWindow extends UiPart<Stage> {
         moduleListPanelPlaceholder.getChildren().add(moduleListPanel.getRoot());
 
         degreePlannerListPanel = new DegreePlannerListPanel(logic.getFilteredDegreePlannerList(),
-                logic.getApplication().getModuleList());
+                logic.getApplication().getModuleList(), logic::getDegreePlannerCredits);
         degreePlannerListPanelPlaceholder.getChildren().add(degreePlannerListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
         requirementCategoryListPanel = new RequirementCategoryListPanel(logic.getFilteredRequirementCategoryList(),
-                logic.getApplication().getModuleList());
+                logic::getRequirementCategoryCredits);
         requirementCategoryListPanelPlaceholder.getChildren().add(requirementCategoryListPanel.getRoot());
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getModuleListFilePath(), logic.getApplication());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand, logic.getHistory());
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::getCompletions, logic.getHistory());
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -2,35 +2,34 @@ package pwe.planner.ui;
 
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.function.ToIntFunction;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
-import pwe.planner.model.module.Module;
 import pwe.planner.model.requirement.RequirementCategory;
 
 /**
  * Panel containing the list of requirement categories to be displayed.
- * This class takes in an ObservableModule list for the sole purpose of having the ObservableModule list as a
- * reference object.
- * As the ObservableRequirementCategory list only contains the module code, the ObservableModule list is necessary
- * to be able to compute the total amount of credits.
+ * As the ObservableRequirementCategory list only contains the module code, the total amount of credits of each
+ * requirement category is read from {@code creditsCounter}.
  */
 public class RequirementCategoryListPanel extends UiPart<Region> {
     private static final String FXML = "RequirementCategoryListPanel.fxml";
-    private ObservableList<Module> modules;
+    private ToIntFunction<RequirementCategory> creditsCounter;
 
 
     @FXML
     private ListView<RequirementCategory> requirementCategories;
 
     public RequirementCategoryListPanel(ObservableList<RequirementCategory> requirementCategoryList,
-            ObservableList<Module> moduleList) {
+            ToIntFunction<RequirementCategory> creditsCounter) {
         super(FXML);
-        requireAllNonNull(requirementCategoryList, moduleList);
+        requireAllNonNull(requirementCategoryList, creditsCounter);
 
-        modules = moduleList;
+        this.creditsCounter = creditsCounter;
         requirementCategories.setItems(requirementCategoryList);
         requirementCategories.setCellFactory(listView -> new RequirementCategoryViewCell());
     }
@@ -48,7 +47,8 @@ public class RequirementCategoryListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new RequirementCategoryCard(requirementCategory, modules).getRoot());
+                setGraphic(new RequirementCategoryCard(requirementCategory,
+                        creditsCounter.applyAsInt(requirementCategory)).getRoot());
             }
         }
     }
@@ -0,0 +1,135 @@
+package pwe.planner.commons.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class BkTreeTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final BkTree tree = new BkTree();
+
+    @Test
+    public void findNearest_negativeMaxDistance_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        tree.findNearest("CS1010", -1, 3);
+    }
+
+    @Test
+    public void findNearest_negativeLimit_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        tree.findNearest("CS1010", 2, -1);
+    }
+
+    @Test
+    public void findNearest_emptyTree_returnsEmptyList() {
+        assertEquals(List.of(), tree.findNearest("CS1010", 2, 3));
+    }
+
+    @Test
+    public void findNearest_words_returnsNearestWordsFirst() {
+        List.of("CS1010", "CS1231", "CS2040C", "CS2100", "CS2101", "MA1521").forEach(tree::add);
+
+        assertEquals(List.of("CS1010"), tree.findNearest("CS1010", 0, 3));
+        assertEquals(List.of("CS2040C", "CS1010", "CS2100"), tree.findNearest("CS2040", 2, 3));
+        // words at the same distance are in lexicographical order
+        assertEquals(List.of("CS2100", "CS2101"), tree.findNearest("CS2109", 1, 3));
+        assertEquals(List.of("CS2100"), tree.findNearest("CS2109", 1, 1));
+        assertEquals(List.of(), tree.findNearest("GER1000", 2, 3));
+        assertEquals(6, tree.size());
+    }
+
+    @Test
+    public void addAndRemove_words_reflectsChanges() {
+        tree.add("CS2100");
+        tree.add("CS2100");
+        tree.add("CS2101");
+        assertEquals(2, tree.size());
+
+        tree.remove("CS2100");
+        tree.remove("CS9999");
+        assertEquals(List.of("CS2101"), tree.findNearest("CS2100", 1, 3));
+        assertEquals(1, tree.size());
+
+        // removed words can be added again
+        tree.add("CS2100");
+        assertEquals(List.of("CS2100", "CS2101"), tree.findNearest("CS2100", 1, 3));
+
+        tree.remove("CS2100");
+        tree.remove("CS2101");
+        assertEquals(List.of(), tree.findNearest("CS2100", 1, 3));
+        assertEquals(0, tree.size());
+    }
+
+    @Test
+    public void clear_words_removesAllWords() {
+        tree.add("CS2100");
+        tree.add("CS2101");
+        tree.remove("CS2101");
+        tree.clear();
+
+        assertEquals(List.of(), tree.findNearest("CS2100", 2, 3));
+        assertEquals(0, tree.size());
+
+        tree.add("CS2101");
+        assertEquals(List.of("CS2101"), tree.findNearest("CS2100", 2, 3));
+    }
+
+    @Test
+    public void addAndRemove_randomWords_sameNearestWordsAsFullScan() {
+        Random random = new Random(2103);
+        TreeSet<String> words = new TreeSet<>();
+        for (int i = 0; i < 5000; i++) {
+            String word = generateWord(random);
+            if (random.nextInt(3) == 0) {
+                tree.remove(word);
+                words.remove(word);
+            } else {
+                tree.add(word);
+                words.add(word);
+            }
+        }
+        assertEquals(words.size(), tree.size());
+
+        for (int i = 0; i < 500; i++) {
+            String word = generateWord(random);
+            int maxDistance = random.nextInt(3);
+            assertEquals(word, findNearestByFullScan(words, word, maxDistance, 5),
+                    tree.findNearest(word, maxDistance, 5));
+        }
+    }
+
+    /**
+     * Returns a word of a small alphabet, so that the random words are often close to each other.
+     */
+    private static String generateWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 1 + random.nextInt(6);
+        for (int i = 0; i < length; i++) {
+            word.append("abc".charAt(random.nextInt(3)));
+        }
+        return word.toString();
+    }
+
+    private static List<String> findNearestByFullScan(TreeSet<String> words, String word, int maxDistance,
+            int limit) {
+        // the words are already in lexicographical order, and sorting is stable
+        List<String> nearestWords = new ArrayList<>(words);
+        nearestWords.sort(Comparator.comparingInt(otherWord -> StringUtil.getEditDistance(word, otherWord)));
+        return nearestWords.stream()
+                .filter(otherWord -> StringUtil.getEditDistance(word, otherWord) <= maxDistance)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,47 @@
+package pwe.planner.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class CanonicalPoolTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final CanonicalPool<String, StringBuilder> pool = new CanonicalPool<>(StringBuilder::new);
+
+    @Test
+    public void constructor_nullFactory_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new CanonicalPool<String, String>(null);
+    }
+
+    @Test
+    public void get_nullKey_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        pool.get(null);
+    }
+
+    @Test
+    public void get_sameKey_returnsSameInstance() {
+        StringBuilder value = pool.get("value");
+        assertSame(value, pool.get(new String("value")));
+        assertNotSame(value, pool.get("other value"));
+        assertEquals(2, pool.size());
+    }
+
+    @Test
+    public void get_factoryThrowsException_nothingAdded() {
+        CanonicalPool<String, Integer> integerPool = new CanonicalPool<>(Integer::valueOf);
+        try {
+            integerPool.get("not a number");
+            throw new AssertionError("The expected NumberFormatException was not thrown.");
+        } catch (NumberFormatException nfe) {
+            assertEquals(0, integerPool.size());
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package pwe.planner.commons.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class CompletionTrieTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final CompletionTrie trie = new CompletionTrie();
+
+    @Test
+    public void complete_negativeLimit_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        trie.complete("", -1);
+    }
+
+    @Test
+    public void complete_prefix_returnsWordsStartingWithPrefixInOrder() {
+        List.of("CS2040C", "CS1010", "CS2100", "CS1231", "MA1521").forEach(trie::add);
+
+        assertEquals(List.of("CS1010", "CS1231", "CS2040C", "CS2100", "MA1521"), trie.complete("", 10));
+        assertEquals(List.of("CS2040C", "CS2100"), trie.complete("cs2", 10));
+        assertEquals(List.of("CS2040C"), trie.complete("CS2040", 10));
+        assertEquals(List.of("CS2040C"), trie.complete("cs2040c", 10));
+        // prefixes leaving an edge of the trie before it ends
+        assertEquals(List.of(), trie.complete("CS22", 10));
+        assertEquals(List.of(), trie.complete("CS2040CX", 10));
+        // limit
+        assertEquals(List.of("CS1010", "CS1231"), trie.complete("CS", 2));
+        assertEquals(List.of(), trie.complete("CS", 0));
+        assertEquals(5, trie.size());
+    }
+
+    @Test
+    public void add_wordsDifferingInCase_completesFirstWordAdded() {
+        trie.add("friends");
+        trie.add("Friends");
+
+        assertEquals(List.of("friends"), trie.complete("FR", 10));
+        assertEquals(1, trie.size());
+    }
+
+    @Test
+    public void remove_wordAddedMoreThanOnce_removedOnceCountReachesZero() {
+        trie.add("friends");
+        trie.add("friends");
+        trie.add("friendly");
+
+        trie.remove("friends");
+        assertEquals(List.of("friendly", "friends"), trie.complete("friend", 10));
+
+        trie.remove("FRIENDS");
+        assertEquals(List.of("friendly"), trie.complete("friend", 10));
+        assertEquals(1, trie.size());
+
+        // words which are not in the trie are ignored
+        trie.remove("friend");
+        trie.remove("friendlier");
+        trie.remove("");
+        assertEquals(List.of("friendly"), trie.complete("", 10));
+    }
+
+    @Test
+    public void clear_words_removesAllWords() {
+        trie.add("friends");
+        trie.add("friends");
+        trie.clear();
+
+        assertEquals(List.of(), trie.complete("", 10));
+        assertEquals(0, trie.size());
+
+        trie.add("friends");
+        assertEquals(List.of("friends"), trie.complete("f", 10));
+    }
+
+    @Test
+    public void addAndRemove_randomWords_sameCompletionsAsSortedSet() {
+        Random random = new Random(2103);
+        TreeSet<String> words = new TreeSet<>();
+        for (int i = 0; i < 20000; i++) {
+            String word = generateWord(random);
+            if (random.nextInt(3) == 0) {
+                trie.remove(word);
+                words.remove(word);
+            } else if (words.add(word)) {
+                trie.add(word);
+            }
+        }
+
+        assertEquals(words.size(), trie.size());
+        assertEquals(new ArrayList<>(words), trie.complete("", words.size()));
+        for (int i = 0; i < 1000; i++) {
+            String word = generateWord(random);
+            String prefix = word.substring(0, random.nextInt(word.length() + 1));
+            assertEquals(prefix, getCompletions(words, prefix, 5), trie.complete(prefix, 5));
+        }
+    }
+
+    @Test
+    public void complete_largeCatalog_completesCodes() {
+        for (int i = 0; i < 100000; i++) {
+            trie.add(String.format("CS%05d", i));
+        }
+
+        assertEquals(100000, trie.size());
+        assertEquals(List.of("CS12340", "CS12341", "CS12342"), trie.complete("cs1234", 3));
+        assertEquals(List.of("CS99999"), trie.complete("CS99999", 10));
+        assertEquals(List.of(), trie.complete("CS100000", 10));
+    }
+
+    /**
+     * Returns a short word of a small alphabet, so that the random words share many prefixes.
+     */
+    private static String generateWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 1 + random.nextInt(6);
+        for (int i = 0; i < length; i++) {
+            word.append("abc".charAt(random.nextInt(3)));
+        }
+        return word.toString();
+    }
+
+    private static List<String> getCompletions(TreeSet<String> words, String prefix, int limit) {
+        return words.tailSet(prefix).stream()
+                .filter(word -> word.startsWith(prefix))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,67 @@
+package pwe.planner.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class FuzzyMatcherTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new FuzzyMatcher(null);
+    }
+
+    @Test
+    public void matches_blankKeyword_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new FuzzyMatcher("  ").matches(List.of("abc"));
+    }
+
+    @Test
+    public void getWords_returnsFoldedWords() {
+        assertEquals(List.of("data", "structures"), new FuzzyMatcher(" Data  STRUCTURES ").getWords());
+    }
+
+    @Test
+    public void getMaxEditDistance_longerWords_allowMoreEdits() {
+        assertEquals(0, FuzzyMatcher.getMaxEditDistance("ab"));
+        assertEquals(1, FuzzyMatcher.getMaxEditDistance("abc"));
+        assertEquals(1, FuzzyMatcher.getMaxEditDistance("abcde"));
+        assertEquals(2, FuzzyMatcher.getMaxEditDistance("abcdef"));
+    }
+
+    @Test
+    public void matches_closeWords_returnsTrue() {
+        List<String> words = StringUtil.getNormalizedWords("Data Structures and Algorithms");
+
+        assertTrue(new FuzzyMatcher("algorithms").matches(words));
+        // one edit in a short word
+        assertTrue(new FuzzyMatcher("Dta").matches(words));
+        // two edits in a long word
+        assertTrue(new FuzzyMatcher("ALGORYTHM").matches(words));
+        // every word of the keyword is close to some word, in any order
+        assertTrue(new FuzzyMatcher("algoritms strctures").matches(words));
+    }
+
+    @Test
+    public void matches_distantWords_returnsFalse() {
+        List<String> words = StringUtil.getNormalizedWords("Data Structures and Algorithms");
+
+        // short words must match exactly
+        assertFalse(new FuzzyMatcher("an").matches(words));
+        // too many edits for the length of the word
+        assertFalse(new FuzzyMatcher("Dtaa").matches(words));
+        assertFalse(new FuzzyMatcher("algrthm").matches(words));
+        // a word of the keyword which is not close to any word
+        assertFalse(new FuzzyMatcher("algorithms programming").matches(words));
+    }
+}
@@ -0,0 +1,79 @@
+package pwe.planner.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class KeywordMatcherTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new KeywordMatcher(null);
+    }
+
+    @Test
+    public void matches_blankKeyword_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new KeywordMatcher("  ").matches("abc");
+    }
+
+    @Test
+    public void matches_multipleWordKeywordBlankString_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new KeywordMatcher("abc def").matches(" ");
+    }
+
+    @Test
+    public void matches_singleWordKeyword_matchesAnyWordIgnoringCase() {
+        KeywordMatcher matcher = new KeywordMatcher("bBb");
+        assertTrue(matcher.matches("aaa BBB ccc"));
+        assertTrue(matcher.matches("\tbbb\n"));
+        assertFalse(matcher.matches("aaa bb ccc"));
+        assertFalse(matcher.matches("aaa bbbb"));
+        assertFalse(matcher.matches(""));
+
+        // trailing whitespace does not make a keyword of more than one word
+        assertTrue(new KeywordMatcher("bbb  ").matches("aaa bbb"));
+    }
+
+    @Test
+    public void matches_multipleWordKeyword_matchesWholeStringIgnoringCase() {
+        KeywordMatcher matcher = new KeywordMatcher("aaa BBB");
+        assertTrue(matcher.matches("  AAA bbb "));
+        assertFalse(matcher.matches("aaa bbb ccc"));
+        assertFalse(matcher.matches("aaa"));
+
+        // leading whitespace makes a keyword of more than one word
+        assertTrue(new KeywordMatcher(" bbb").matches("bbb"));
+        assertFalse(new KeywordMatcher(" bbb").matches("aaa bbb"));
+    }
+
+    @Test
+    public void matches_normalizedWords_sameResultAsString() {
+        // includes sharp s and capital I with dot above, which do not have a one-to-one case mapping
+        List<String> strings = List.of("Alice Pauline", "  alice  ", "ALICE PAULINE", "Pauline", "\u00df stra\u00dfe",
+                "\u0130stanbul");
+        List<String> keywords = List.of("alice", "PAULINE", "alice pauline", " alice", "STRASSE", "stra\u00dfe",
+                "istanbul", "\u0130STANBUL", "pauline  ");
+        for (String keyword : keywords) {
+            KeywordMatcher matcher = new KeywordMatcher(keyword);
+            for (String string : strings) {
+                boolean expected = keyword.split("\\s+").length == 1
+                        ? StringUtil.containsWordIgnoreCase(string, keyword)
+                        : StringUtil.compareEqualsIgnoreCase(string, keyword);
+                assertEquals(keyword + " / " + string, expected, matcher.matches(string));
+                assertEquals(keyword + " / " + string, expected,
+                        matcher.matches(string, StringUtil.getNormalizedWords(string)));
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package pwe.planner.commons.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+public class ListSnapshotManagerTest {
+    private static final int LIST_SIZE = ListSnapshot.CHUNK_SIZE * 4;
+
+    private final List<Integer> list = IntStream.range(0, LIST_SIZE).boxed().collect(Collectors.toList());
+    private final ListSnapshotManager<Integer> snapshotManager = new ListSnapshotManager<>(list);
+
+    @Test
+    public void takeSnapshot_noChanges_allChunksShared() {
+        ListSnapshot<Integer> snapshot = snapshotManager.takeSnapshot();
+        assertEquals(4, snapshotManager.takeSnapshot().countSharedChunks(snapshot));
+    }
+
+    @Test
+    public void takeSnapshot_elementReplaced_otherChunksShared() {
+        ListSnapshot<Integer> snapshot = snapshotManager.takeSnapshot();
+        list.set(0, -1);
+        snapshotManager.markChanged(0);
+
+        ListSnapshot<Integer> updatedSnapshot = snapshotManager.takeSnapshot();
+        assertEquals(list, updatedSnapshot);
+        assertEquals(3, updatedSnapshot.countSharedChunks(snapshot));
+    }
+
+    @Test
+    public void takeSnapshot_elementRemoved_otherChunksShared() {
+        ListSnapshot<Integer> snapshot = snapshotManager.takeSnapshot();
+        int index = ListSnapshot.CHUNK_SIZE * 2;
+        list.remove(index);
+        snapshotManager.markRemoved(index);
+
+        ListSnapshot<Integer> updatedSnapshot = snapshotManager.takeSnapshot();
+        assertEquals(list, updatedSnapshot);
+        assertEquals(3, updatedSnapshot.countSharedChunks(snapshot));
+    }
+
+    @Test
+    public void takeSnapshot_elementsAddedAtEnd_otherChunksShared() {
+        ListSnapshot<Integer> snapshot = snapshotManager.takeSnapshot();
+        list.add(-1);
+        snapshotManager.markAdded(LIST_SIZE);
+        list.add(-2);
+        snapshotManager.markAdded(LIST_SIZE + 1);
+
+        ListSnapshot<Integer> updatedSnapshot = snapshotManager.takeSnapshot();
+        assertEquals(list, updatedSnapshot);
+        assertEquals(4, updatedSnapshot.countSharedChunks(snapshot));
+    }
+
+    @Test
+    public void takeSnapshot_mostElementsOfChunkRemoved_chunkMergedWithNeighbour() {
+        snapshotManager.takeSnapshot();
+        for (int i = 0; i < ListSnapshot.CHUNK_SIZE - 1; i++) {
+            list.remove(ListSnapshot.CHUNK_SIZE);
+            snapshotManager.markRemoved(ListSnapshot.CHUNK_SIZE);
+            ListSnapshot<Integer> snapshot = snapshotManager.takeSnapshot();
+            assertEquals(list, snapshot);
+            assertEquals(list.size() / ListSnapshot.CHUNK_SIZE + 1, snapshot.getChunkCount());
+        }
+    }
+
+    @Test
+    public void takeSnapshot_elementsAddedReplacedAndRemoved_snapshotsEqualList() {
+        Random random = new Random(0);
+        List<ListSnapshot<Integer>> snapshots = new ArrayList<>();
+        List<List<Integer>> expectedLists = new ArrayList<>();
+        for (int i = 0; i < LIST_SIZE * 4; i++) {
+            int index = random.nextInt(list.size() + 1);
+            int operation = random.nextInt(3);
+            if (operation == 0 || index == list.size()) {
+                list.add(index, -i);
+                snapshotManager.markAdded(index);
+            } else if (operation == 1) {
+                list.set(index, -i);
+                snapshotManager.markChanged(index);
+            } else {
+                list.remove(index);
+                snapshotManager.markRemoved(index);
+            }
+
+            if (random.nextInt(4) == 0) {
+                snapshots.add(snapshotManager.takeSnapshot());
+                expectedLists.add(new ArrayList<>(list));
+            }
+        }
+        // later snapshots did not modify the chunks shared with earlier snapshots
+        assertEquals(expectedLists, snapshots);
+    }
+
+    @Test
+    public void takeSnapshot_listReplaced_noChunksShared() {
+        ListSnapshot<Integer> snapshot = snapshotManager.takeSnapshot();
+        snapshotManager.markAllChanged();
+        assertEquals(0, snapshotManager.takeSnapshot().countSharedChunks(snapshot));
+    }
+
+    @Test
+    public void takeSnapshot_restoredSnapshot_chunksOfRestoredSnapshotShared() {
+        ListSnapshot<Integer> snapshot = snapshotManager.takeSnapshot();
+        list.set(0, -1);
+        snapshotManager.markChanged(0);
+        snapshotManager.takeSnapshot();
+
+        list.set(0, 0);
+        snapshotManager.markRestored(snapshot);
+        assertEquals(4, snapshotManager.takeSnapshot().countSharedChunks(snapshot));
+    }
+}
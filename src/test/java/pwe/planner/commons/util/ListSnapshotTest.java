@@ -0,0 +1,81 @@
+package pwe.planner.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class ListSnapshotTest {
+    private static final int LIST_SIZE = ListSnapshot.CHUNK_SIZE * 3;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final List<Integer> list = IntStream.range(0, LIST_SIZE).boxed().collect(Collectors.toList());
+
+    @Test
+    public void empty_returnsEmptyList() {
+        assertTrue(ListSnapshot.empty().isEmpty());
+    }
+
+    @Test
+    public void update_nullList_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        ListSnapshot.empty().update(null, new BitSet());
+    }
+
+    @Test
+    public void update_fromEmpty_copiesList() {
+        ListSnapshot<Integer> snapshot = ListSnapshot.<Integer>empty().update(list, new BitSet());
+        assertEquals(list, snapshot);
+
+        // later changes to the list are not reflected in the snapshot
+        List<Integer> expectedList = new ArrayList<>(list);
+        list.set(0, -1);
+        assertEquals(expectedList, snapshot);
+    }
+
+    @Test
+    public void update_changedChunk_onlyChangedChunkCopied() {
+        ListSnapshot<Integer> snapshot = ListSnapshot.<Integer>empty().update(list, new BitSet());
+        list.set(ListSnapshot.CHUNK_SIZE, -1);
+        BitSet changedChunks = new BitSet();
+        changedChunks.set(1);
+
+        ListSnapshot<Integer> updatedSnapshot = snapshot.update(list, changedChunks);
+        assertEquals(list, updatedSnapshot);
+        assertEquals(2, updatedSnapshot.countSharedChunks(snapshot));
+    }
+
+    @Test
+    public void update_elementAdded_lastChunkCopied() {
+        ListSnapshot<Integer> snapshot = ListSnapshot.<Integer>empty().update(list, new BitSet());
+        list.add(-1);
+
+        ListSnapshot<Integer> updatedSnapshot = snapshot.update(list, new BitSet());
+        assertEquals(list, updatedSnapshot);
+        assertEquals(3, updatedSnapshot.countSharedChunks(snapshot));
+    }
+
+    @Test
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        ListSnapshot<Integer> snapshot = ListSnapshot.<Integer>empty().update(list, new BitSet());
+        thrown.expect(IndexOutOfBoundsException.class);
+        snapshot.get(LIST_SIZE);
+    }
+
+    @Test
+    public void set_unsupportedOperation_throwsUnsupportedOperationException() {
+        ListSnapshot<Integer> snapshot = ListSnapshot.<Integer>empty().update(list, new BitSet());
+        thrown.expect(UnsupportedOperationException.class);
+        snapshot.set(0, -1);
+    }
+}
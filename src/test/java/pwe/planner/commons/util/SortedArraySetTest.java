@@ -0,0 +1,82 @@
+package pwe.planner.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class SortedArraySetTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void copyOf_null_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        SortedArraySet.copyOf(null);
+    }
+
+    @Test
+    public void copyOf_collectionWithNull_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        SortedArraySet.copyOf(Arrays.asList("a", null));
+    }
+
+    @Test
+    public void copyOf_unsortedElementsWithDuplicates_iteratesSortedUniqueElements() {
+        Set<String> set = SortedArraySet.copyOf(Arrays.asList("c", "a", "b", "a", "c"));
+        assertEquals(3, set.size());
+        assertEquals(Arrays.asList("a", "b", "c"), new ArrayList<>(set));
+    }
+
+    @Test
+    public void copyOf_sortedArraySet_returnsSameSet() {
+        SortedArraySet<String> set = SortedArraySet.copyOf(Arrays.asList("a", "b"));
+        assertSame(set, SortedArraySet.copyOf(set));
+    }
+
+    @Test
+    public void contains() {
+        Set<String> set = SortedArraySet.copyOf(Arrays.asList("b", "d"));
+        assertTrue(set.contains("b"));
+        assertTrue(set.contains("d"));
+        assertFalse(set.contains("c"));
+        assertFalse(set.contains(null));
+        assertFalse(set.contains(1)); // object of another type
+        assertFalse(SortedArraySet.copyOf(Collections.<String>emptyList()).contains("a"));
+    }
+
+    @Test
+    public void equalsAndHashCode_sameElementsAsHashSet_equal() {
+        List<String> elements = Arrays.asList("x", "y", "z");
+        Set<String> set = SortedArraySet.copyOf(elements);
+        Set<String> hashSet = new HashSet<>(elements);
+        assertEquals(hashSet, set);
+        assertEquals(set, hashSet);
+        assertEquals(hashSet.hashCode(), set.hashCode());
+        assertEquals(SortedArraySet.copyOf(hashSet), set);
+        assertFalse(set.equals(SortedArraySet.copyOf(Arrays.asList("x", "y"))));
+    }
+
+    @Test
+    public void remove_elementNotInSet_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        SortedArraySet.copyOf(Arrays.asList("a")).remove("b");
+    }
+
+    @Test
+    public void add_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        SortedArraySet.copyOf(Arrays.asList("a")).add("b");
+    }
+}
@@ -7,6 +7,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.io.FileNotFoundException;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -196,6 +197,37 @@ public class StringUtilTest {
 
     }
 
+    //---------------- Tests for foldCase and getNormalizedWords --------------------------------------
+
+    @Test
+    public void foldCase() {
+        assertEquals("abc def", StringUtil.foldCase("aBC DeF"));
+        assertEquals(StringUtil.foldCase("\u0130"), StringUtil.foldCase("i")); // capital I with dot above
+        assertFalse(StringUtil.foldCase("abc").equals(StringUtil.foldCase("abd")));
+    }
+
+    @Test
+    public void getNormalizedWords() {
+        assertEquals(List.of("aaa", "bbb", "c@1"), StringUtil.getNormalizedWords("  AAA\tbBb   c@1 "));
+        assertEquals(List.of(), StringUtil.getNormalizedWords("   "));
+    }
+
+    @Test
+    public void getEditDistance() {
+        assertEquals(0, StringUtil.getEditDistance("", ""));
+        assertEquals(3, StringUtil.getEditDistance("abc", ""));
+        assertEquals(3, StringUtil.getEditDistance("", "abc"));
+        assertEquals(0, StringUtil.getEditDistance("kitten", "kitten"));
+        assertEquals(3, StringUtil.getEditDistance("kitten", "sitting"));
+        assertEquals(3, StringUtil.getEditDistance("sitting", "kitten"));
+        // insertion, deletion and substitution
+        assertEquals(1, StringUtil.getEditDistance("algorithms", "algorithm"));
+        assertEquals(1, StringUtil.getEditDistance("algoritms", "algorithms"));
+        assertEquals(1, StringUtil.getEditDistance("algorythms", "algorithms"));
+        // case is not ignored
+        assertEquals(1, StringUtil.getEditDistance("Data", "data"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
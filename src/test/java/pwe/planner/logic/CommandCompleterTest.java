@@ -0,0 +1,72 @@
+package pwe.planner.logic;
+
+import static org.junit.Assert.assertEquals;
+import static pwe.planner.testutil.TypicalModules.ALICE;
+import static pwe.planner.testutil.TypicalModules.CARL;
+import static pwe.planner.testutil.TypicalModules.DANIEL;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import pwe.planner.model.Model;
+import pwe.planner.model.ModelManager;
+
+public class CommandCompleterTest {
+
+    private final Model model = new ModelManager();
+    private final CommandCompleter commandCompleter = new CommandCompleter(model);
+
+    @Before
+    public void setUp() {
+        model.addModule(ALICE);
+        model.addModule(CARL);
+        model.addModule(DANIEL);
+    }
+
+    @Test
+    public void getCompletions_firstWord_completesCommandWords() {
+        assertCompletions(List.of("planner_add", "planner_list", "planner_move", "planner_remove", "planner_show",
+                "planner_suggest"), "planner_");
+        assertCompletions(List.of("  requirement_add"), "  requirement_a");
+        assertCompletions(List.of(), "unknown");
+    }
+
+    @Test
+    public void getCompletions_codePrefix_completesModuleCodes() {
+        assertCompletions(List.of("find name/Carl || code/CS2040C", "find name/Carl || code/CS2100"),
+                "find name/Carl || code/cs2");
+        assertCompletions(List.of("add coreq/CS1010"), "add coreq/cs1");
+        assertCompletions(List.of("find (code/CS2040C"), "find (code/CS20");
+    }
+
+    @Test
+    public void getCompletions_tagPrefix_completesTagNames() {
+        assertCompletions(List.of("find tag/friends"), "find tag/F");
+        assertCompletions(List.of(), "find tag/enemies");
+    }
+
+    @Test
+    public void getCompletions_otherWord_completesPrefixes() {
+        assertCompletions(List.of("add code/", "add coreq/"), "add co");
+        assertCompletions(List.of("find (sem/"), "find (s");
+    }
+
+    @Test
+    public void getCompletions_noWord_returnsEmptyList() {
+        assertCompletions(List.of(), "");
+        assertCompletions(List.of(), "find ");
+        assertCompletions(List.of(), "find (");
+    }
+
+    @Test
+    public void getCompletions_moduleRemoved_completesRemainingCodes() {
+        model.deleteModule(CARL);
+        assertCompletions(List.of("find code/CS2100"), "find code/CS2");
+    }
+
+    private void assertCompletions(List<String> expectedCompletions, String commandText) {
+        assertEquals(expectedCompletions, commandCompleter.getCompletions(commandText));
+    }
+}
@@ -8,6 +8,7 @@ import static org.junit.Assert.assertTrue;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -27,7 +28,10 @@ import pwe.planner.model.module.Code;
 import pwe.planner.model.module.Module;
 import pwe.planner.model.module.Name;
 import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.planner.Semester;
+import pwe.planner.model.planner.Year;
 import pwe.planner.model.requirement.RequirementCategory;
+import pwe.planner.model.tag.Tag;
 import pwe.planner.testutil.ModuleBuilder;
 
 public class AddCommandTest {
@@ -211,6 +215,26 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Module> getModulesWithTag(Tag tag) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> completeModuleCode(String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> completeTagName(String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Code> getSimilarModuleCodes(Code code, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasModuleCode(Code code) {
             throw new AssertionError("This method should not be called.");
@@ -291,6 +315,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public DegreePlanner getDegreePlanner(Year year, Semester semester) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getDegreePlannerCredits(DegreePlanner degreePlanner) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteDegreePlanner(DegreePlanner degreePlanner) {
             //ToDo: implement AssertionError
@@ -337,6 +371,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public RequirementCategory getRequirementCategoryByCode(Code code) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getRequirementCategoryCredits(RequirementCategory requirementCategory) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addRequirementCategory(RequirementCategory requirementCategory) {
             //ToDo: implement error check
@@ -2,6 +2,7 @@ package pwe.planner.logic.commands;
 
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static pwe.planner.commons.core.Messages.MESSAGE_SIMILAR_CODES;
 import static pwe.planner.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static pwe.planner.testutil.TypicalDegreePlanners.getTypicalDegreePlannerList;
 import static pwe.planner.testutil.TypicalModules.getTypicalModuleList;
@@ -125,6 +126,20 @@ public class PlannerAddCommandTest {
         plannerAddCommand.execute(model, commandHistory);
     }
 
+    @Test
+    public void execute_mistypedPlannerCodes_throwsCommandExceptionWithSimilarCodes() throws Exception {
+        Set<Code> mistypedCodeSet = Set.of(new Code("CS2040"), new Code("CS9999"));
+
+        PlannerAddCommand plannerAddCommand = new PlannerAddCommand(new Year("1"), new Semester("1"),
+                mistypedCodeSet);
+
+        // only codes with similar existing codes get suggestions, nearest first
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(String.format(PlannerAddCommand.MESSAGE_NONEXISTENT_MODULES, "CS2040, CS9999") + '\n'
+                + String.format(MESSAGE_SIMILAR_CODES, "CS2040C or CS1010 or CS2100", "CS2040"));
+        plannerAddCommand.execute(model, commandHistory);
+    }
+
     @Test
     public void equals() {
         Year year = new Year("1");
@@ -2,6 +2,7 @@ package pwe.planner.logic.commands;
 
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static pwe.planner.commons.core.Messages.MESSAGE_SIMILAR_CODES;
 import static pwe.planner.logic.commands.CommandTestUtil.assertCommandFailure;
 import static pwe.planner.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static pwe.planner.testutil.TypicalDegreePlanners.getTypicalDegreePlannerList;
@@ -62,13 +63,16 @@ public class RequirementAddCommandTest {
         Set<Code> validCodeSet = Set.of(new Code("CS2010"));
         Name requirementCategoryName = new Name("Computing Foundation");
         String formattedCodeString = StringUtil.joinStreamAsString(validCodeSet.stream().sorted());
+        // the most similar existing codes are suggested
+        String expectedMessage = String.format(RequirementAddCommand.MESSAGE_NONEXISTENT_CODE, formattedCodeString)
+                + '\n' + String.format(MESSAGE_SIMILAR_CODES, "CS1010 or CS2040C or CS2100", "CS2010");
         assertCommandFailure(new RequirementAddCommand(requirementCategoryName, validCodeSet), model, commandHistory,
-                String.format(RequirementAddCommand.MESSAGE_NONEXISTENT_CODE, formattedCodeString));
+                expectedMessage);
 
         //case insensitive checks
         requirementCategoryName = new Name("comPUTING FOUNDATion");
         assertCommandFailure(new RequirementAddCommand(requirementCategoryName, validCodeSet), model, commandHistory,
-                String.format(RequirementAddCommand.MESSAGE_NONEXISTENT_CODE, formattedCodeString));
+                expectedMessage);
     }
 
     @Test
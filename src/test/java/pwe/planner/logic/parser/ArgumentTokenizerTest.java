@@ -136,6 +136,30 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingStart_longestPrefixTaken() {
+        Prefix pSlashSlash = new Prefix("p//");
+        String argsString = " p//double p/single p/ p//";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, pSlashSlash);
+        assertPreambleEmpty(argMultimap);
+        assertArgumentPresent(argMultimap, pSlash, "single", "");
+        assertArgumentPresent(argMultimap, pSlashSlash, "double", "");
+
+        // the order of the prefixes does not matter
+        assertEquals(argMultimap.getAllValues(pSlashSlash),
+                ArgumentTokenizer.tokenize(argsString, pSlashSlash, pSlash).getAllValues(pSlashSlash));
+    }
+
+    @Test
+    public void tokenize_samePrefixesAgain_sameValues() {
+        String argsString = "preamble -t dashT p/pSlash";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, dashT, pSlash);
+        ArgumentMultimap argMultimapAgain = ArgumentTokenizer.tokenize(argsString, dashT, pSlash);
+        assertPreamblePresent(argMultimapAgain, argMultimap.getPreamble());
+        assertArgumentPresent(argMultimapAgain, dashT, "dashT");
+        assertArgumentPresent(argMultimapAgain, pSlash, "pSlash");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
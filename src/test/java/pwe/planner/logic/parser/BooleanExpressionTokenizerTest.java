@@ -0,0 +1,153 @@
+package pwe.planner.logic.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static pwe.planner.logic.parser.CliSyntax.OPERATORS;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_CODE;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_CREDITS;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_NAME;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_SEMESTER;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_TAG;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_YEAR;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class BooleanExpressionTokenizerTest {
+    private static final List<Prefix> PREFIXES =
+            List.of(PREFIX_NAME, PREFIX_CODE, PREFIX_CREDITS, PREFIX_TAG, PREFIX_SEMESTER, PREFIX_YEAR);
+
+    /** Fragments of expressions, including parts of delimiters and delimiters overlapping each other. */
+    private static final List<String> FRAGMENTS = List.of("name/", "code/", "credits/", "tag/", "sem/", "year/",
+            "&&", "||", "(", ")", "&", "|", "&&&", "|||", "name", "/", "e/", "ame/", "Alice", "CS1010", "4", " ", "  ",
+            "\t", "x", "((", "))", "cs/");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void nextToken_noMoreTokens_throwsNoSuchElementException() {
+        BooleanExpressionTokenizer tokenizer = new BooleanExpressionTokenizer("   ", PREFIXES);
+        assertFalse(tokenizer.hasMoreTokens());
+
+        thrown.expect(NoSuchElementException.class);
+        tokenizer.nextToken();
+    }
+
+    @Test
+    public void tokenize_expression_extractsArgumentsAndOperators() {
+        assertTokens(List.of("name/Alice Pauline", "||", "(", "code/CS1010", "&&", "tag/friends", ")"),
+                " name/Alice Pauline|| (code/ CS1010&&tag/friends ) ");
+        // operators are extracted even without whitespace
+        assertTokens(List.of("(", "(", "sem/1", ")", ")"), "((sem/1))");
+        // a prefix followed by a delimiter is not joined with the delimiter
+        assertTokens(List.of("name/", "&&", "code/", "code/CS1010"), "name/ && code/code/CS1010");
+        // overlapping operators
+        assertTokens(List.of("&&", "&", "||", "|"), "&&&|||");
+        // text before the first delimiter
+        assertTokens(List.of("Alice", "name/Bob"), "Alice name/Bob");
+    }
+
+    @Test
+    public void tokenize_shortExpressions_sameTokensAsReferenceTokenizer() {
+        Random random = new Random(2103);
+        for (int i = 0; i < 20000; i++) {
+            assertSameTokensAsReference(generateExpression(random, random.nextInt(12)));
+        }
+    }
+
+    @Test
+    public void tokenize_longExpressions_sameTokensAsReferenceTokenizer() {
+        Random random = new Random(2113);
+        for (int i = 0; i < 20; i++) {
+            assertSameTokensAsReference(generateExpression(random, 2000));
+        }
+    }
+
+    @Test
+    public void tokenize_otherPrefixes_sameTokensAsReferenceTokenizer() {
+        // prefixes which are parts of other prefixes
+        List<Prefix> prefixes = List.of(new Prefix("e/"), new Prefix("name/"), new Prefix("a"));
+        Random random = new Random(2105);
+        for (int i = 0; i < 5000; i++) {
+            String expression = generateExpression(random, random.nextInt(12));
+            assertEquals(expression, tokenizeWithReference(expression, prefixes), tokenize(expression, prefixes));
+        }
+    }
+
+    private static String generateExpression(Random random, int fragmentCount) {
+        StringBuilder expression = new StringBuilder();
+        for (int i = 0; i < fragmentCount; i++) {
+            expression.append(FRAGMENTS.get(random.nextInt(FRAGMENTS.size())));
+        }
+        return expression.toString();
+    }
+
+    private static void assertTokens(List<String> expectedTokens, String expression) {
+        assertEquals(expectedTokens, tokenize(expression, PREFIXES));
+        assertSameTokensAsReference(expression);
+    }
+
+    private static void assertSameTokensAsReference(String expression) {
+        assertEquals(expression, tokenizeWithReference(expression, PREFIXES), tokenize(expression, PREFIXES));
+    }
+
+    private static List<String> tokenize(String expression, List<Prefix> prefixes) {
+        BooleanExpressionTokenizer tokenizer = new BooleanExpressionTokenizer(expression, prefixes);
+        List<String> tokens = new ArrayList<>();
+        while (tokenizer.hasMoreTokens()) {
+            tokens.add(tokenizer.nextToken());
+        }
+        return tokens;
+    }
+
+    /**
+     * Returns the tokens of {@code expression}, as extracted by the original implementation of
+     * {@link BooleanExpressionTokenizer}, which looked up every delimiter with {@link String#indexOf(String, int)}
+     * for every token.
+     */
+    private static List<String> tokenizeWithReference(String expression, List<Prefix> prefixes) {
+        List<String> prefixStrings = prefixes.stream().map(Prefix::getPrefix).collect(Collectors.toList());
+        List<String> delimiters = Stream.concat(prefixStrings.stream(), OPERATORS.stream())
+                .collect(Collectors.toList());
+        List<String> tokens = new ArrayList<>();
+
+        int nextTokenStartIndex = 0;
+        int nextTokenEndIndex = 0;
+        while (nextTokenStartIndex < expression.length() && nextTokenEndIndex < expression.length()) {
+            int startIndex = nextTokenStartIndex;
+            Optional<Integer> optionalNextTokenEndIndex = delimiters.stream()
+                    .map(delimiter -> {
+                        int index = expression.indexOf(delimiter, startIndex);
+                        if (index == startIndex) {
+                            index += delimiter.length();
+                        }
+                        return index;
+                    })
+                    .filter(index -> index != -1)
+                    .min(Integer::compare);
+            nextTokenEndIndex = optionalNextTokenEndIndex.orElse(expression.length());
+
+            String nextToken = expression.substring(nextTokenStartIndex, nextTokenEndIndex).trim();
+            if (!nextToken.isEmpty()) {
+                String lastToken = tokens.isEmpty() ? null : tokens.get(tokens.size() - 1);
+                if (!delimiters.contains(nextToken) && lastToken != null && prefixStrings.contains(lastToken)) {
+                    tokens.set(tokens.size() - 1, lastToken + nextToken);
+                } else {
+                    tokens.add(nextToken);
+                }
+            }
+            nextTokenStartIndex = nextTokenEndIndex;
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,91 @@
+package pwe.planner.logic.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_CODE;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_NAME;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import pwe.planner.logic.parser.exceptions.BooleanParserException;
+import pwe.planner.model.module.CodeContainsKeywordsPredicate;
+import pwe.planner.model.module.CompositeKeywordsPredicate;
+import pwe.planner.model.module.CompositeKeywordsPredicate.Connective;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.module.NameContainsKeywordsPredicate;
+
+public class CompiledQueryCacheTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final CompiledQueryCache<Module> cache = new CompiledQueryCache<>(2, List.of(PREFIX_NAME, PREFIX_CODE));
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new CompiledQueryCache<Module>(0, List.of(PREFIX_NAME));
+    }
+
+    @Test
+    public void get_newExpression_compilesExpression() throws Exception {
+        assertEquals(new CompositeKeywordsPredicate<>(Connective.AND, new CodeContainsKeywordsPredicate<>("CS1010"),
+                new NameContainsKeywordsPredicate<>("Alice")), cache.get("name/Alice && code/CS1010"));
+        assertEquals(0, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void get_repeatedExpression_returnsCachedPredicate() throws Exception {
+        Predicate<Module> predicate = cache.get("name/Alice");
+        assertSame(predicate, cache.get("name/Alice"));
+        // leading and trailing whitespace is ignored
+        assertSame(predicate, cache.get("  name/Alice "));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void get_fullCache_evictsLeastRecentlyUsedPredicate() throws Exception {
+        Predicate<Module> alice = cache.get("name/Alice");
+        Predicate<Module> benson = cache.get("name/Benson");
+        cache.get("name/Alice");
+        cache.get("name/Carl");
+
+        assertEquals(2, cache.size());
+        assertSame(alice, cache.get("name/Alice"));
+        assertNotSame(benson, cache.get("name/Benson"));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(4, cache.getMissCount());
+    }
+
+    @Test
+    public void get_invalidExpression_throwsBooleanParserException() throws Exception {
+        thrown.expect(BooleanParserException.class);
+        try {
+            cache.get("name/Alice &&");
+        } catch (BooleanParserException bpe) {
+            // invalid expressions are not cached
+            assertEquals(0, cache.size());
+            assertEquals(1, cache.getMissCount());
+            throw bpe;
+        }
+    }
+
+    @Test
+    public void clear() throws Exception {
+        cache.get("name/Alice");
+        cache.get("name/Alice");
+        cache.clear();
+
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+    }
+}
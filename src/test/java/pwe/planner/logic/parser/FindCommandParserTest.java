@@ -1,5 +1,6 @@
 package pwe.planner.logic.parser;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.fail;
 import static pwe.planner.logic.parser.CliSyntax.OPERATOR_AND;
@@ -8,6 +9,7 @@ import static pwe.planner.logic.parser.CliSyntax.OPERATOR_OR;
 import static pwe.planner.logic.parser.CliSyntax.OPERATOR_RIGHT_BRACKET;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_CODE;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_CREDITS;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_FUZZY_NAME;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_NAME;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_SEMESTER;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_TAG;
@@ -20,12 +22,16 @@ import pwe.planner.logic.commands.FindCommand;
 import pwe.planner.logic.parser.exceptions.ParseException;
 import pwe.planner.model.module.Code;
 import pwe.planner.model.module.CodeContainsKeywordsPredicate;
+import pwe.planner.model.module.CompositeKeywordsPredicate;
+import pwe.planner.model.module.CompositeKeywordsPredicate.Connective;
 import pwe.planner.model.module.Credits;
 import pwe.planner.model.module.CreditsContainsKeywordsPredicate;
 import pwe.planner.model.module.Name;
 import pwe.planner.model.module.NameContainsKeywordsPredicate;
+import pwe.planner.model.module.NameFuzzyMatchesKeywordPredicate;
 import pwe.planner.model.module.TagContainsKeywordsPredicate;
 import pwe.planner.model.planner.SemesterContainsKeywordPredicate;
+import pwe.planner.model.tag.Tag;
 
 public class FindCommandParserTest {
 
@@ -43,6 +49,14 @@ public class FindCommandParserTest {
         assertParseFailure(parser, PREFIX_CREDITS + "     ", Credits.MESSAGE_CONSTRAINTS);
     }
 
+    @Test
+    public void parse_tagKeyword_canonicalTagsUnchanged() {
+        int canonicalTagCount = Tag.getCanonicalTagCount();
+        assertParseSuccess(parser, PREFIX_TAG + "neverStoredTagKeyword",
+                new FindCommand(new TagContainsKeywordsPredicate<>("neverStoredTagKeyword")));
+        assertEquals(canonicalTagCount, Tag.getCanonicalTagCount());
+    }
+
     @Test
     public void parse_validArgs_returnsFindCommand() {
         // no leading and trailing whitespaces
@@ -121,6 +135,27 @@ public class FindCommandParserTest {
 
     }
 
+    @Test
+    public void parse_fuzzyName_returnsFindCommand() {
+        assertParseSuccess(parser, PREFIX_FUZZY_NAME + "Programing",
+                new FindCommand(new NameFuzzyMatchesKeywordPredicate<>("Programing")));
+        assertParseSuccess(parser, PREFIX_FUZZY_NAME + "Data" + WHITESPACE + OPERATOR_AND + WHITESPACE
+                + PREFIX_CODE + "CS2040", new FindCommand(new CompositeKeywordsPredicate<>(Connective.AND,
+                new CodeContainsKeywordsPredicate<>("CS2040"), new NameFuzzyMatchesKeywordPredicate<>("Data"))));
+        // No name argument -> assertFailure
+        assertParseFailure(parser, PREFIX_FUZZY_NAME + "     ", Name.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_repeatedArgs_reusesCompiledPredicate() throws ParseException {
+        String args = PREFIX_NAME + "Programming" + WHITESPACE + OPERATOR_AND + WHITESPACE + PREFIX_CODE + "CS1231";
+        FindCommand firstCommand = parser.parse(args);
+        int hitCount = FindCommandParser.getQueryCache().getHitCount();
+
+        assertEquals(firstCommand, parser.parse(WHITESPACE + args));
+        assertEquals(hitCount + 1, FindCommandParser.getQueryCache().getHitCount());
+    }
+
     @Test
     public void parseInvalidArgs() {
         assertParseThrowsException(parser, "invalid/DoesNotExists");
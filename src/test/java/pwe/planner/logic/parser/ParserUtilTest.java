@@ -155,6 +155,19 @@ public class ParserUtilTest {
         assertEquals(expectedTag, ParserUtil.parseTag(tagWithWhitespace));
     }
 
+    @Test
+    public void parseTagKeyword_invalidValue_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        ParserUtil.parseTagKeyword(INVALID_TAG);
+    }
+
+    @Test
+    public void parseTagKeyword_validValueWithWhitespace_returnsTrimmedTagNameWithoutCanonicalTag() throws Exception {
+        int canonicalTagCount = Tag.getCanonicalTagCount();
+        assertEquals("uncommonSearchedTag", ParserUtil.parseTagKeyword(WHITESPACE + "uncommonSearchedTag"));
+        assertEquals(canonicalTagCount, Tag.getCanonicalTagCount());
+    }
+
     @Test
     public void parseTags_null_throwsNullPointerException() throws Exception {
         thrown.expect(NullPointerException.class);
@@ -6,6 +6,7 @@ import static org.junit.Assert.assertTrue;
 import static pwe.planner.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static pwe.planner.testutil.TypicalDegreePlanners.getTypicalDegreePlannerList;
 import static pwe.planner.testutil.TypicalModules.ALICE;
+import static pwe.planner.testutil.TypicalModules.BOB;
 import static pwe.planner.testutil.TypicalModules.getTypicalModuleList;
 import static pwe.planner.testutil.TypicalRequirementCategories.getTypicalRequirementCategoriesList;
 
@@ -28,7 +29,9 @@ import pwe.planner.model.module.exceptions.DuplicateModuleException;
 import pwe.planner.model.planner.DegreePlanner;
 import pwe.planner.model.requirement.RequirementCategory;
 import pwe.planner.storage.JsonSerializableApplication;
+import pwe.planner.testutil.DegreePlannerBuilder;
 import pwe.planner.testutil.ModuleBuilder;
+import pwe.planner.testutil.RequirementCategoryBuilder;
 
 public class ApplicationTest {
 
@@ -122,6 +125,112 @@ public class ApplicationTest {
         assertEquals(0, counter.get());
     }
 
+    @Test
+    public void batch_multipleMutations_listenerNotifiedOnce() {
+        SimpleIntegerProperty counter = new SimpleIntegerProperty();
+        application.addListener(observable -> counter.set(counter.get() + 1));
+        application.batch(batchApplication -> {
+            batchApplication.addModule(ALICE);
+            batchApplication.addModule(BOB);
+            assertEquals(0, counter.get());
+        });
+        assertEquals(1, counter.get());
+        assertTrue(application.hasModule(BOB));
+    }
+
+    @Test
+    public void batch_noMutations_listenerNotNotified() {
+        SimpleIntegerProperty counter = new SimpleIntegerProperty();
+        application.addListener(observable -> counter.set(counter.get() + 1));
+        application.batch(batchApplication -> {});
+        assertEquals(0, counter.get());
+    }
+
+    @Test
+    public void batch_mutationThrowsException_applicationRestored() {
+        application.addModule(ALICE);
+        try {
+            application.batch(batchApplication -> {
+                batchApplication.addModule(BOB);
+                batchApplication.addModule(ALICE);
+            });
+            throw new AssertionError("The expected DuplicateModuleException was not thrown.");
+        } catch (DuplicateModuleException e) {
+            assertFalse(application.hasModule(BOB));
+        }
+
+        // the batch has ended, so listeners are notified again
+        SimpleIntegerProperty counter = new SimpleIntegerProperty();
+        application.addListener(observable -> counter.set(counter.get() + 1));
+        application.addModule(BOB);
+        assertEquals(1, counter.get());
+    }
+
+    @Test
+    public void commitBatch_noBatch_throwsIllegalStateException() {
+        thrown.expect(IllegalStateException.class);
+        application.commitBatch();
+    }
+
+    @Test
+    public void getDegreePlannerCredits_modulesEdited_totalUpdated() {
+        Module cs1010 = new ModuleBuilder().withCode("CS1010").withCredits("4").build();
+        Module cs2040c = new ModuleBuilder().withCode("CS2040C").withCredits("5").build();
+        application.addModule(cs1010);
+        application.addModule(cs2040c);
+        DegreePlanner degreePlanner = new DegreePlannerBuilder().withCodes("CS1010", "CS2040C").build();
+        application.addDegreePlanner(degreePlanner);
+        assertEquals(9, application.getDegreePlannerCredits(degreePlanner));
+
+        // credits edited
+        application.editModule(cs1010, new ModuleBuilder(cs1010).withCredits("6").build());
+        assertEquals(11, application.getDegreePlannerCredits(degreePlanner));
+
+        // code edited
+        Module editedCs2040c = new ModuleBuilder(cs2040c).withCode("CS2040").build();
+        application.editModule(cs2040c, editedCs2040c);
+        assertEquals(11, application.getDegreePlannerCredits(application.getDegreePlannerList().get(0)));
+
+        // module deleted
+        application.removeModule(editedCs2040c);
+        assertEquals(6, application.getDegreePlannerCredits(application.getDegreePlannerList().get(0)));
+    }
+
+    @Test
+    public void getRequirementCategoryCredits_requirementCategoryEdited_totalUpdated() {
+        application.addModule(new ModuleBuilder().withCode("CS1010").withCredits("4").build());
+        application.addModule(new ModuleBuilder().withCode("CS2040C").withCredits("5").build());
+        RequirementCategory requirementCategory = new RequirementCategoryBuilder().withCodes("CS1010").build();
+        application.addRequirementCategory(requirementCategory);
+        assertEquals(4, application.getRequirementCategoryCredits(requirementCategory));
+
+        RequirementCategory editedRequirementCategory =
+                new RequirementCategoryBuilder(requirementCategory).withCodes("CS1010", "CS2040C").build();
+        application.setRequirementCategory(requirementCategory, editedRequirementCategory);
+        assertEquals(9, application.getRequirementCategoryCredits(editedRequirementCategory));
+
+        application.resetRequirement();
+        assertEquals(0, application.getRequirementCategoryCredits(application.getRequirementCategoryList().get(0)));
+    }
+
+    @Test
+    public void getDegreePlannerCredits_batchRolledBack_totalRestored() {
+        Module cs1010 = new ModuleBuilder().withCode("CS1010").withCredits("4").build();
+        application.addModule(cs1010);
+        DegreePlanner degreePlanner = new DegreePlannerBuilder().withCodes("CS1010").build();
+        application.addDegreePlanner(degreePlanner);
+        try {
+            application.batch(batchApplication -> {
+                batchApplication.editModule(cs1010, new ModuleBuilder(cs1010).withCredits("8").build());
+                batchApplication.addModule(ALICE);
+                batchApplication.addModule(ALICE);
+            });
+            throw new AssertionError("The expected DuplicateModuleException was not thrown.");
+        } catch (DuplicateModuleException e) {
+            assertEquals(4, application.getDegreePlannerCredits(degreePlanner));
+        }
+    }
+
     /**
      * A stub ReadOnlyApplication whose modules list can violate interface constraints.
      */
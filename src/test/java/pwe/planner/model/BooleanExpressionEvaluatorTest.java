@@ -0,0 +1,78 @@
+package pwe.planner.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+import pwe.planner.model.module.CompositeKeywordsPredicate;
+import pwe.planner.model.module.CompositeKeywordsPredicate.Connective;
+import pwe.planner.model.module.NameContainsKeywordsPredicate;
+
+public class BooleanExpressionEvaluatorTest {
+
+    private final Predicate<Object> first = new NameContainsKeywordsPredicate<>("first");
+    private final Predicate<Object> second = new NameContainsKeywordsPredicate<>("second");
+    private final Predicate<Object> third = new NameContainsKeywordsPredicate<>("third");
+    private final Predicate<Object> unknown = unused -> true;
+
+    private final BitSet firstBits = toBitSet(0, 1, 2);
+    private final BitSet secondBits = toBitSet(1, 2, 3);
+    private final BitSet thirdBits = toBitSet(5);
+    private final Map<Predicate<?>, BitSet> leafBits = Map.of(first, firstBits, second, secondBits, third, thirdBits);
+    private final Function<Predicate<?>, BitSet> leafResolver = leafBits::get;
+
+    @Test
+    public void evaluate_leaf_returnsBitsOfLeaf() {
+        assertSame(firstBits, BooleanExpressionEvaluator.evaluate(first, leafResolver));
+    }
+
+    @Test
+    public void evaluate_compositePredicate_combinesBitsOfLeaves() {
+        assertEquals(toBitSet(1, 2), BooleanExpressionEvaluator.evaluate(
+                new CompositeKeywordsPredicate<>(Connective.AND, first, second), leafResolver));
+        assertEquals(toBitSet(0, 1, 2, 3), BooleanExpressionEvaluator.evaluate(
+                new CompositeKeywordsPredicate<>(Connective.OR, first, second), leafResolver));
+
+        // (first AND second) OR third
+        assertEquals(toBitSet(1, 2, 5), BooleanExpressionEvaluator.evaluate(new CompositeKeywordsPredicate<>(
+                Connective.OR, new CompositeKeywordsPredicate<>(Connective.AND, first, second), third), leafResolver));
+
+        // the bits of the leaves are not modified
+        assertEquals(toBitSet(0, 1, 2), firstBits);
+        assertEquals(toBitSet(1, 2, 3), secondBits);
+    }
+
+    @Test
+    public void evaluate_unresolvableLeaf_returnsNull() {
+        assertNull(BooleanExpressionEvaluator.evaluate(unknown, leafResolver));
+        assertNull(BooleanExpressionEvaluator.evaluate(
+                new CompositeKeywordsPredicate<>(Connective.AND, first, unknown), leafResolver));
+    }
+
+    @Test
+    public void evaluate_andWithNoMatchingElementsForFirstOperand_skipsSecondOperand() {
+        Predicate<Object> none = new NameContainsKeywordsPredicate<>("none");
+        Function<Predicate<?>, BitSet> noneResolver =
+                leaf -> leaf.equals(none) ? new BitSet() : leafResolver.apply(leaf);
+
+        assertEquals(new BitSet(), BooleanExpressionEvaluator.evaluate(
+                new CompositeKeywordsPredicate<>(Connective.AND, none, unknown), noneResolver));
+        assertNull(BooleanExpressionEvaluator.evaluate(
+                new CompositeKeywordsPredicate<>(Connective.OR, none, unknown), noneResolver));
+    }
+
+    private static BitSet toBitSet(int... bits) {
+        BitSet bitSet = new BitSet();
+        for (int bit : bits) {
+            bitSet.set(bit);
+        }
+        return bitSet;
+    }
+}
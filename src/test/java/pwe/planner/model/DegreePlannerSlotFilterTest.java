@@ -0,0 +1,54 @@
+package pwe.planner.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+import pwe.planner.model.module.CompositeKeywordsPredicate;
+import pwe.planner.model.module.CompositeKeywordsPredicate.Connective;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.planner.Semester;
+import pwe.planner.model.planner.SemesterContainsKeywordPredicate;
+import pwe.planner.model.planner.Year;
+import pwe.planner.model.planner.YearContainsKeywordPredicate;
+import pwe.planner.testutil.DegreePlannerBuilder;
+
+public class DegreePlannerSlotFilterTest {
+
+    @Test
+    public void create_unsupportedPredicate_returnsSamePredicate() {
+        Predicate<DegreePlanner> showAll = unused -> true;
+        assertSame(showAll, DegreePlannerSlotFilter.create(showAll));
+    }
+
+    @Test
+    public void create_yearAndSemesterPredicates_testsSameAsPredicate() {
+        Predicate<DegreePlanner> year2 = new YearContainsKeywordPredicate<>("2");
+        Predicate<DegreePlanner> semester3 = new SemesterContainsKeywordPredicate<>("3");
+        Predicate<DegreePlanner> year4 = new YearContainsKeywordPredicate<>("4");
+        Predicate<DegreePlanner> semesterWord = new SemesterContainsKeywordPredicate<>("one");
+
+        List<Predicate<DegreePlanner>> predicates = new ArrayList<>();
+        predicates.add(year2);
+        predicates.add(semesterWord);
+        predicates.add(new CompositeKeywordsPredicate<>(Connective.AND, year2, semester3));
+        predicates.add(new CompositeKeywordsPredicate<>(Connective.OR, year4,
+                new CompositeKeywordsPredicate<>(Connective.AND, year2, semester3)));
+
+        for (Predicate<DegreePlanner> predicate : predicates) {
+            Predicate<DegreePlanner> filter = DegreePlannerSlotFilter.create(predicate);
+            for (int year = 1; year <= Year.NUMBER_OF_YEARS; year++) {
+                for (int semester = 1; semester <= Semester.NUMBER_OF_SEMESTERS; semester++) {
+                    DegreePlanner degreePlanner = new DegreePlannerBuilder().withYear(Integer.toString(year))
+                            .withSemester(Integer.toString(semester)).build();
+                    assertEquals(predicate.test(degreePlanner), filter.test(degreePlanner));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package pwe.planner.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+import pwe.planner.model.FilterExpressionOptimizer.Estimate;
+import pwe.planner.model.module.CodeContainsKeywordsPredicate;
+import pwe.planner.model.module.CompositeKeywordsPredicate;
+import pwe.planner.model.module.CompositeKeywordsPredicate.Connective;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.module.NameContainsKeywordsPredicate;
+import pwe.planner.model.module.TagContainsKeywordsPredicate;
+import pwe.planner.testutil.ModuleBuilder;
+
+public class FilterExpressionOptimizerTest {
+
+    private static final int CATALOG_SIZE = 10000;
+
+    private final Predicate<Object> common = new NameContainsKeywordsPredicate<>("common");
+    private final Predicate<Object> rare = new NameContainsKeywordsPredicate<>("rare");
+    private final Predicate<Object> cheapRare = new NameContainsKeywordsPredicate<>("cheap rare");
+    private final Map<Predicate<?>, Estimate> leafEstimates = Map.of(
+            common, new Estimate(1, 0.9), rare, new Estimate(1, 0.01), cheapRare, new Estimate(0.5, 0.01));
+    private final Function<Predicate<?>, Estimate> leafEstimator = leafEstimates::get;
+
+    @Test
+    public void optimize_leaf_returnsSameLeaf() {
+        assertSame(common, FilterExpressionOptimizer.optimize(common, leafEstimator));
+    }
+
+    @Test
+    public void optimize_bestOrder_returnsSamePredicate() {
+        Predicate<Object> predicate = and(rare, common);
+        assertSame(predicate, FilterExpressionOptimizer.optimize(predicate, leafEstimator));
+    }
+
+    @Test
+    public void optimize_and_evaluatesMostSelectiveOperandFirst() {
+        assertEquals(and(rare, common), FilterExpressionOptimizer.optimize(and(common, rare), leafEstimator));
+    }
+
+    @Test
+    public void optimize_or_evaluatesLeastSelectiveOperandFirst() {
+        assertEquals(or(common, rare), FilterExpressionOptimizer.optimize(or(rare, common), leafEstimator));
+    }
+
+    @Test
+    public void optimize_sameSelectivity_evaluatesCheapestOperandFirst() {
+        assertEquals(and(cheapRare, rare), FilterExpressionOptimizer.optimize(and(rare, cheapRare), leafEstimator));
+        assertEquals(or(cheapRare, rare), FilterExpressionOptimizer.optimize(or(rare, cheapRare), leafEstimator));
+    }
+
+    @Test
+    public void optimize_chainOfSameConnective_reordersAllOperands() {
+        // common && (rare && cheapRare)
+        assertEquals(and(and(cheapRare, rare), common),
+                FilterExpressionOptimizer.optimize(and(common, and(rare, cheapRare)), leafEstimator));
+    }
+
+    @Test
+    public void optimize_nestedConnectives_reordersEveryLevel() {
+        // (common || rare) && cheapRare
+        assertEquals(and(cheapRare, or(common, rare)),
+                FilterExpressionOptimizer.optimize(and(or(rare, common), cheapRare), leafEstimator));
+    }
+
+    @Test
+    public void estimate_compositePredicate_combinesEstimatesOfLeaves() {
+        Estimate andEstimate = FilterExpressionOptimizer.estimate(and(common, rare), leafEstimator);
+        assertEquals(1 + 0.01 * 1, andEstimate.getCost(), 1e-9);
+        assertEquals(0.9 * 0.01, andEstimate.getSelectivity(), 1e-9);
+
+        Estimate orEstimate = FilterExpressionOptimizer.estimate(or(common, rare), leafEstimator);
+        assertEquals(1 + 0.1 * 1, orEstimate.getCost(), 1e-9);
+        assertEquals(0.9 + 0.01 - 0.9 * 0.01, orEstimate.getSelectivity(), 1e-9);
+    }
+
+    /**
+     * Counts the keywords tested against a synthetic catalog of modules to filter it with
+     * {@code n/Programming && c/CS1010}, in which every module is named "Programming" and only one module has the
+     * code CS1010, before and after the expression is optimized.
+     */
+    @Test
+    public void optimize_largeCatalog_testsFewerKeywords() {
+        List<Module> catalog = new ArrayList<>();
+        for (int i = 0; i < CATALOG_SIZE; i++) {
+            catalog.add(new ModuleBuilder().withCode(String.format("CS%04d", i))
+                    .withName("Introduction to Programming " + i).withTags(i % 2 == 0 ? "core" : "elective").build());
+        }
+
+        int[] testCount = new int[1];
+        Map<Predicate<?>, Estimate> catalogEstimates = new HashMap<>();
+        Function<Predicate<Module>, Predicate<Module>> counted = leaf -> {
+            Predicate<Module> countedLeaf = module -> {
+                testCount[0]++;
+                return leaf.test(module);
+            };
+            long matchCount = catalog.stream().filter(leaf).count();
+            catalogEstimates.put(countedLeaf, new Estimate(1, (double) matchCount / CATALOG_SIZE));
+            return countedLeaf;
+        };
+        Predicate<Module> predicate = and(
+                and(counted.apply(new NameContainsKeywordsPredicate<>("Programming")),
+                        counted.apply(new TagContainsKeywordsPredicate<>("core"))),
+                counted.apply(new CodeContainsKeywordsPredicate<>("CS1010")));
+        Predicate<Module> optimizedPredicate = FilterExpressionOptimizer.optimize(predicate, catalogEstimates::get);
+
+        testCount[0] = 0;
+        long matchCount = catalog.stream().filter(predicate).count();
+        int originalTestCount = testCount[0];
+
+        testCount[0] = 0;
+        assertEquals(matchCount, catalog.stream().filter(optimizedPredicate).count());
+        int optimizedTestCount = testCount[0];
+
+        assertEquals(1, matchCount);
+        // every module is tested against every keyword, except the code of the odd modules
+        assertEquals(CATALOG_SIZE * 5 / 2, originalTestCount);
+        // only CS1010 is tested against more than its code
+        assertEquals(CATALOG_SIZE + 2, optimizedTestCount);
+        assertTrue(optimizedTestCount * 2 < originalTestCount);
+    }
+
+    private static <T> Predicate<T> and(Predicate<T> first, Predicate<T> second) {
+        return new CompositeKeywordsPredicate<>(Connective.AND, first, second);
+    }
+
+    private static <T> Predicate<T> or(Predicate<T> first, Predicate<T> second) {
+        return new CompositeKeywordsPredicate<>(Connective.OR, first, second);
+    }
+}
@@ -0,0 +1,249 @@
+package pwe.planner.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static pwe.planner.testutil.TypicalModules.ALICE;
+import static pwe.planner.testutil.TypicalModules.BENSON;
+import static pwe.planner.testutil.TypicalModules.CARL;
+import static pwe.planner.testutil.TypicalModules.DANIEL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.CodeContainsKeywordsPredicate;
+import pwe.planner.model.module.CompositeKeywordsPredicate;
+import pwe.planner.model.module.CompositeKeywordsPredicate.Connective;
+import pwe.planner.model.module.CreditsContainsKeywordsPredicate;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.module.NameContainsKeywordsPredicate;
+import pwe.planner.model.module.NameFuzzyMatchesKeywordPredicate;
+import pwe.planner.model.module.TagContainsKeywordsPredicate;
+import pwe.planner.model.planner.SemesterContainsKeywordPredicate;
+import pwe.planner.testutil.ModuleBuilder;
+
+public class ModuleSearchIndexTest {
+
+    private final ModuleSearchIndex moduleSearchIndex = new ModuleSearchIndex();
+
+    @Before
+    public void setUp() {
+        moduleSearchIndex.reset(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+    }
+
+    @Test
+    public void search_singleWordKeyword_matchesAnyWordIgnoringCase() {
+        assertSearchResult(new NameContainsKeywordsPredicate<Module>("meier"), BENSON, DANIEL);
+        assertSearchResult(new CodeContainsKeywordsPredicate<Module>("cs2040c"), CARL);
+        assertSearchResult(new CreditsContainsKeywordsPredicate<Module>("0"), ALICE);
+        assertSearchResult(new TagContainsKeywordsPredicate<Module>("FRIENDS"), ALICE, BENSON, DANIEL);
+        assertSearchResult(new SemesterContainsKeywordPredicate<Module>("4"), ALICE);
+        assertSearchResult(new NameContainsKeywordsPredicate<Module>("Meyer"));
+    }
+
+    @Test
+    public void search_multipleWordKeyword_matchesWholeValueIgnoringCase() {
+        assertSearchResult(new NameContainsKeywordsPredicate<Module>("benson MEIER"), BENSON);
+        assertSearchResult(new NameContainsKeywordsPredicate<Module>("Benson"), BENSON);
+        assertSearchResult(new NameContainsKeywordsPredicate<Module>("Meier Benson"));
+    }
+
+    @Test
+    public void search_compositePredicate_combinesMatchingModules() {
+        Predicate<Module> meier = new NameContainsKeywordsPredicate<>("Meier");
+        Predicate<Module> friends = new TagContainsKeywordsPredicate<>("friends");
+        Predicate<Module> carl = new NameContainsKeywordsPredicate<>("Carl");
+
+        assertSearchResult(new CompositeKeywordsPredicate<>(Connective.AND, meier, friends), BENSON, DANIEL);
+        assertSearchResult(new CompositeKeywordsPredicate<>(Connective.OR, meier, carl), BENSON, CARL, DANIEL);
+        assertSearchResult(new CompositeKeywordsPredicate<>(Connective.AND,
+                new CompositeKeywordsPredicate<>(Connective.OR, meier, carl), friends), BENSON, DANIEL);
+    }
+
+    @Test
+    public void search_unsupportedPredicate_returnsEmptyOptional() {
+        Predicate<Module> showAll = unused -> true;
+        assertFalse(moduleSearchIndex.search(showAll).isPresent());
+        assertFalse(moduleSearchIndex.search(new CompositeKeywordsPredicate<>(Connective.OR,
+                new NameContainsKeywordsPredicate<>("Meier"), showAll)).isPresent());
+        assertFalse(moduleSearchIndex.search(new NameContainsKeywordsPredicate<Module>(" ")).isPresent());
+    }
+
+    @Test
+    public void search_modulesAddedAndRemoved_reflectsChanges() {
+        moduleSearchIndex.removeModule(BENSON);
+        Module editedDaniel = new ModuleBuilder(DANIEL).withName("Daniel Kurz").build();
+        moduleSearchIndex.addModule(editedDaniel);
+
+        assertSearchResult(new NameContainsKeywordsPredicate<Module>("Meier"));
+        assertSearchResult(new NameContainsKeywordsPredicate<Module>("Kurz"), CARL, DANIEL);
+        assertSearchResult(new TagContainsKeywordsPredicate<Module>("owesMoney"));
+    }
+
+    @Test
+    public void search_fuzzyNameKeyword_matchesCloseWordsIgnoringCase() {
+        assertSearchResult(new NameFuzzyMatchesKeywordPredicate<Module>("meir"), BENSON, DANIEL);
+        assertSearchResult(new NameFuzzyMatchesKeywordPredicate<Module>("ALISE"), ALICE);
+        // every word of the keyword must be close to some word of the name
+        assertSearchResult(new NameFuzzyMatchesKeywordPredicate<Module>("Kurt Carl"), CARL);
+        assertSearchResult(new NameFuzzyMatchesKeywordPredicate<Module>("Benson Kurz"));
+        assertSearchResult(new NameFuzzyMatchesKeywordPredicate<Module>("Zebra"));
+        assertFalse(moduleSearchIndex.search(new NameFuzzyMatchesKeywordPredicate<Module>(" ")).isPresent());
+
+        moduleSearchIndex.removeModule(DANIEL);
+        assertSearchResult(new NameFuzzyMatchesKeywordPredicate<Module>("meir"), BENSON);
+        moduleSearchIndex.removeModule(BENSON);
+        assertSearchResult(new NameFuzzyMatchesKeywordPredicate<Module>("meir"));
+    }
+
+    @Test
+    public void search_fuzzyNameKeywordRandomModules_matchesSameModulesAsPredicate() {
+        Random random = new Random(2103);
+        List<Module> modules = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            String name = generateWord(random) + " " + generateWord(random) + " " + generateWord(random);
+            modules.add(new ModuleBuilder().withCode(String.format("CS%04d", i)).withName(name).build());
+        }
+        moduleSearchIndex.reset(modules);
+
+        for (int i = 0; i < 500; i++) {
+            String keyword = random.nextBoolean()
+                    ? generateWord(random)
+                    : generateWord(random) + " " + generateWord(random);
+            Predicate<Module> predicate = new NameFuzzyMatchesKeywordPredicate<>(keyword);
+            assertSearchResult(predicate, modules.stream().filter(predicate).toArray(Module[]::new));
+        }
+
+        // a keyword repeating its trigrams has too few distinct trigrams to filter the candidates
+        Predicate<Module> predicate = new NameFuzzyMatchesKeywordPredicate<>("aaaaaaaa");
+        assertSearchResult(predicate, modules.stream().filter(predicate).toArray(Module[]::new));
+    }
+
+    @Test
+    public void reset_mostModulesUnchanged_reflectsChanges() {
+        Module editedBenson = new ModuleBuilder(BENSON).withName("Benson Kurz").withTags("friends").build();
+        moduleSearchIndex.reset(Arrays.asList(ALICE, editedBenson, CARL));
+        assertSearchResult(new NameContainsKeywordsPredicate<Module>("Meier"));
+        assertSearchResult(new NameContainsKeywordsPredicate<Module>("Kurz"), CARL, editedBenson);
+        assertSearchResult(new TagContainsKeywordsPredicate<Module>("owesMoney"));
+        assertSearchResult(new TagContainsKeywordsPredicate<Module>("friends"), ALICE, editedBenson);
+        assertEquals(Arrays.asList("CS1010", "CS1231", "CS2040C"), moduleSearchIndex.completeCode("", 10));
+    }
+
+    @Test
+    public void completeCode_modulesAddedAndRemoved_reflectsChanges() {
+        assertEquals(Arrays.asList("CS2040C", "CS2100"), moduleSearchIndex.completeCode("cs2", 10));
+
+        moduleSearchIndex.removeModule(CARL);
+        assertEquals(Arrays.asList("CS2100"), moduleSearchIndex.completeCode("cs2", 10));
+
+        moduleSearchIndex.reset(Arrays.asList(ALICE, CARL));
+        assertEquals(Arrays.asList("CS1010", "CS2040C"), moduleSearchIndex.completeCode("", 10));
+    }
+
+    @Test
+    public void completeTagName_modulesAddedAndRemoved_reflectsChanges() {
+        assertEquals(Arrays.asList("friends", "owesMoney"), moduleSearchIndex.completeTagName("", 10));
+
+        // tag names are kept until no module has them
+        moduleSearchIndex.removeModule(ALICE);
+        moduleSearchIndex.addModule(new ModuleBuilder(BENSON).withTags("friends").build());
+        assertEquals(Arrays.asList("friends"), moduleSearchIndex.completeTagName("", 10));
+
+        moduleSearchIndex.removeModule(BENSON);
+        moduleSearchIndex.removeModule(DANIEL);
+        assertEquals(Arrays.asList(), moduleSearchIndex.completeTagName("", 10));
+    }
+
+    @Test
+    public void findSimilarCodes_modulesAddedAndRemoved_reflectsChanges() {
+        assertEquals(Arrays.asList(CARL.getCode(), ALICE.getCode(), DANIEL.getCode()),
+                moduleSearchIndex.findSimilarCodes(new Code("CS2040"), 3));
+        assertEquals(Arrays.asList(), moduleSearchIndex.findSimilarCodes(new Code("MA1521"), 3));
+
+        // renaming a module replaces its code
+        moduleSearchIndex.removeModule(CARL);
+        moduleSearchIndex.addModule(new ModuleBuilder(CARL).withCode("CS2030").build());
+        assertEquals(Arrays.asList(new Code("CS2030"), ALICE.getCode()),
+                moduleSearchIndex.findSimilarCodes(new Code("CS2040"), 2));
+
+        moduleSearchIndex.reset(Arrays.asList(ALICE));
+        assertEquals(Arrays.asList(ALICE.getCode()), moduleSearchIndex.findSimilarCodes(new Code("CS2040"), 3));
+    }
+
+    @Test
+    public void createFilter_unsupportedPredicate_returnsSamePredicate() {
+        Predicate<Module> showAll = unused -> true;
+        assertSame(showAll, moduleSearchIndex.createFilter(showAll));
+    }
+
+    @Test
+    public void createFilter_unsupportedLeaf_returnsPredicateWithIndexedLeavesFirst() {
+        Predicate<Module> showAll = unused -> true;
+        Predicate<Module> code = new CodeContainsKeywordsPredicate<>("CS2040C");
+        assertEquals(new CompositeKeywordsPredicate<>(Connective.AND, code, showAll),
+                moduleSearchIndex.createFilter(new CompositeKeywordsPredicate<>(Connective.AND, showAll, code)));
+    }
+
+    @Test
+    public void createFilter_fuzzyNameLeaf_orderedAfterCheaperIndexedLeaves() {
+        Predicate<Module> showAll = unused -> true;
+        Predicate<Module> fuzzyName = new NameFuzzyMatchesKeywordPredicate<>("Alise");
+        Predicate<Module> code = new CodeContainsKeywordsPredicate<>("CS1010");
+        assertEquals(new CompositeKeywordsPredicate<>(Connective.AND,
+                        new CompositeKeywordsPredicate<>(Connective.AND, code, fuzzyName), showAll),
+                moduleSearchIndex.createFilter(new CompositeKeywordsPredicate<>(Connective.AND,
+                        new CompositeKeywordsPredicate<>(Connective.AND, showAll, fuzzyName), code)));
+    }
+
+    @Test
+    public void createFilter_supportedPredicate_testsSameAsPredicate() {
+        Predicate<Module> predicate = new CompositeKeywordsPredicate<>(Connective.OR,
+                new NameContainsKeywordsPredicate<>("Meier"), new CreditsContainsKeywordsPredicate<>("2"));
+        Predicate<Module> filter = moduleSearchIndex.createFilter(predicate);
+        for (Module module : Arrays.asList(ALICE, BENSON, CARL, DANIEL)) {
+            assertEquals(predicate.test(module), filter.test(module));
+        }
+
+        // modules which are not in the index yet are tested against the predicate
+        Module editedAlice = new ModuleBuilder(ALICE).withName("Alice Meier").build();
+        assertTrue(filter.test(editedAlice));
+
+        // matching modules are looked up again after the index changes
+        moduleSearchIndex.addModule(editedAlice);
+        moduleSearchIndex.removeModule(CARL);
+        assertTrue(filter.test(editedAlice));
+        assertFalse(filter.test(ALICE));
+    }
+
+    /**
+     * Returns a word of a small alphabet, so that the random words are often close to each other.
+     */
+    private static String generateWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 1 + random.nextInt(8);
+        for (int i = 0; i < length; i++) {
+            word.append("abcd".charAt(random.nextInt(4)));
+        }
+        return word.toString();
+    }
+
+    private void assertSearchResult(Predicate<Module> predicate, Module... expectedModules) {
+        Set<Code> expectedCodes = new HashSet<>();
+        for (Module module : expectedModules) {
+            expectedCodes.add(module.getCode());
+        }
+        assertEquals(Optional.of(expectedCodes), moduleSearchIndex.search(predicate));
+    }
+}
@@ -7,13 +7,18 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static pwe.planner.testutil.TypicalModules.AMY;
 import static pwe.planner.testutil.TypicalModules.BOB;
 import static pwe.planner.testutil.TypicalModules.CARL;
+import static pwe.planner.testutil.TypicalModules.getTypicalModules;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Test;
 
+import pwe.planner.commons.core.HistorySettings;
 import pwe.planner.testutil.ApplicationBuilder;
 
 public class VersionedApplicationTest {
@@ -207,6 +212,127 @@ public class VersionedApplicationTest {
         assertThrows(VersionedApplication.NoRedoableStateException.class, versionedapplication::redo);
     }
 
+    @Test
+    public void commit_moreStatesThanMaxStates_oldestStatesDiscarded() {
+        VersionedApplication versionedapplication =
+                new VersionedApplication(emptyapplication, new HistorySettings(2, Long.MAX_VALUE));
+        versionedapplication.resetData(applicationWithAmy);
+        versionedapplication.commit();
+        versionedapplication.resetData(applicationWithBob);
+        versionedapplication.commit();
+
+        assertEquals(2, versionedapplication.getStateCount());
+        assertapplicationListStatus(versionedapplication,
+                Collections.singletonList(applicationWithAmy),
+                applicationWithBob,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void commit_memoryBudgetExceededWithoutStorage_oldestStatesDiscarded() {
+        VersionedApplication versionedapplication =
+                new VersionedApplication(applicationWithAmy, new HistorySettings(10, 0));
+        versionedapplication.resetData(applicationWithBob);
+        versionedapplication.commit();
+
+        assertEquals(1, versionedapplication.getStateCount());
+        assertFalse(versionedapplication.canUndo());
+    }
+
+    @Test
+    public void commit_memoryBudgetExceededWithStorage_oldestStatesSpilledAndRestoredOnUndo() {
+        UndoHistoryStorageStub undoHistoryStorage = new UndoHistoryStorageStub();
+        VersionedApplication versionedapplication =
+                new VersionedApplication(applicationWithAmy, new HistorySettings(10, 0), undoHistoryStorage);
+        versionedapplication.resetData(applicationWithBob);
+        versionedapplication.commit();
+        versionedapplication.resetData(applicationWithCarl);
+        versionedapplication.commit();
+
+        assertEquals(3, versionedapplication.getStateCount());
+        assertEquals(2, versionedapplication.getSpilledStateCount());
+        assertapplicationListStatus(versionedapplication,
+                Arrays.asList(applicationWithAmy, applicationWithBob),
+                applicationWithCarl,
+                Collections.emptyList());
+
+        // undone spilled states are discarded by the next commit
+        versionedapplication.undo();
+        versionedapplication.undo();
+        versionedapplication.commit();
+        assertEquals(2, versionedapplication.getStateCount());
+        assertEquals(1, versionedapplication.getSpilledStateCount());
+        assertEquals(1, undoHistoryStorage.states.size());
+    }
+
+    @Test
+    public void commit_spilledStatesBeyondMaxStates_discardedFromStorage() {
+        UndoHistoryStorageStub undoHistoryStorage = new UndoHistoryStorageStub();
+        VersionedApplication versionedapplication =
+                new VersionedApplication(applicationWithAmy, new HistorySettings(2, 0), undoHistoryStorage);
+        versionedapplication.resetData(applicationWithBob);
+        versionedapplication.commit();
+        versionedapplication.resetData(applicationWithCarl);
+        versionedapplication.commit();
+
+        assertEquals(2, versionedapplication.getStateCount());
+        assertEquals(1, versionedapplication.getSpilledStateCount());
+        assertEquals(1, undoHistoryStorage.states.size());
+    }
+
+    @Test
+    public void commit_smallChangeToApplicationLargerThanMemoryBudget_noStatesSpilled() {
+        UndoHistoryStorageStub undoHistoryStorage = new UndoHistoryStorageStub();
+        ApplicationBuilder applicationBuilder = new ApplicationBuilder();
+        getTypicalModules().forEach(applicationBuilder::withModule);
+        VersionedApplication versionedapplication = new VersionedApplication(applicationBuilder.build(),
+                new HistorySettings(10, 0, 1), undoHistoryStorage);
+        versionedapplication.addModule(AMY);
+        versionedapplication.commit();
+        versionedapplication.addModule(BOB);
+        versionedapplication.commit();
+
+        // neither the memory shared by the states nor the modules of the current state are charged to the history
+        assertEquals(0, versionedapplication.getSpilledStateCount());
+        assertEquals(3, versionedapplication.getStateCount());
+    }
+
+    @Test
+    public void undo_spilledStateUnreadable_throwsNoUndoableStateException() {
+        UndoHistoryStorageStub undoHistoryStorage = new UndoHistoryStorageStub();
+        VersionedApplication versionedapplication =
+                new VersionedApplication(applicationWithAmy, new HistorySettings(10, 0), undoHistoryStorage);
+        versionedapplication.resetData(applicationWithBob);
+        versionedapplication.commit();
+        undoHistoryStorage.states.clear();
+
+        assertThrows(VersionedApplication.NoUndoableStateException.class, versionedapplication::undo);
+        assertFalse(versionedapplication.canUndo());
+        assertEquals(new Application(applicationWithBob), new Application(versionedapplication));
+    }
+
+    @Test
+    public void getEstimatedMemoryBytes_unchangedCommit_noAdditionalMemory() {
+        VersionedApplication versionedapplication = prepareapplicationList(applicationWithAmy);
+        long estimatedMemoryBytes = versionedapplication.getEstimatedMemoryBytes();
+
+        versionedapplication.commit();
+        assertEquals(estimatedMemoryBytes, versionedapplication.getEstimatedMemoryBytes());
+    }
+
+    @Test
+    public void getEstimatedMemoryBytes_undoAndRedo_sameEstimate() {
+        VersionedApplication versionedapplication =
+                prepareapplicationList(applicationWithAmy, applicationWithBob, applicationWithCarl);
+        long estimatedMemoryBytes = versionedapplication.getEstimatedMemoryBytes();
+
+        versionedapplication.undo();
+        versionedapplication.undo();
+        versionedapplication.redo();
+        versionedapplication.redo();
+        assertEquals(estimatedMemoryBytes, versionedapplication.getEstimatedMemoryBytes());
+    }
+
     @Test
     public void equals() {
         VersionedApplication versionedapplication = prepareapplicationList(applicationWithAmy, applicationWithBob);
@@ -295,4 +421,36 @@ public class VersionedApplicationTest {
             versionedapplication.undo();
         }
     }
+
+    /**
+     * An {@code UndoHistoryStorage} which keeps the spilled states in memory.
+     */
+    private static class UndoHistoryStorageStub implements UndoHistoryStorage {
+        private final Map<Long, ReadOnlyApplication> states = new HashMap<>();
+        private long nextStateId = 0;
+
+        @Override
+        public long saveState(ReadOnlyApplication state) {
+            states.put(nextStateId, new Application(state));
+            return nextStateId++;
+        }
+
+        @Override
+        public ReadOnlyApplication readState(long stateId) throws IOException {
+            if (!states.containsKey(stateId)) {
+                throw new IOException("State not found");
+            }
+            return states.get(stateId);
+        }
+
+        @Override
+        public void discardState(long stateId) {
+            states.remove(stateId);
+        }
+
+        @Override
+        public void clear() {
+            states.clear();
+        }
+    }
 }
@@ -1,8 +1,16 @@
 package pwe.planner.model.module;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.junit.Test;
 
 import pwe.planner.testutil.Assert;
@@ -28,6 +36,14 @@ public class CodeTest {
         // invalid codes
         assertFalse(Code.isValidCode("")); // empty string
         assertFalse(Code.isValidCode(" ")); // spaces only
+        assertFalse(Code.isValidCode(" CS1010")); // leading whitespace
+        assertFalse(Code.isValidCode("C1010")); // only 1 alphabet
+        assertFalse(Code.isValidCode("ABCD1010")); // 4 alphabets
+        assertFalse(Code.isValidCode("CS101")); // only 3 digits
+        assertFalse(Code.isValidCode("CS10101")); // 5 digits
+        assertFalse(Code.isValidCode("CS1010CD")); // 2 alphabets at the end
+        assertFalse(Code.isValidCode("CS1010-")); // non-alphanumeric character at the end
+        assertFalse(Code.isValidCode("CS1\u00e910")); // non-ASCII character
 
         // valid codes
         assertTrue(Code.isValidCode("CS1010"));
@@ -46,4 +62,35 @@ public class CodeTest {
         // case insensitive equals codes -> success
         assertFalse(new Code("DEF5678").equals(new Code("DE5678F")));
     }
+
+    @Test
+    public void of_sameCodeInDifferentCase_returnsSameInstance() {
+        assertSame(Code.of("CS2040C"), Code.of("cs2040c"));
+        assertEquals(new Code("CS2040C"), Code.of("CS2040C"));
+    }
+
+    @Test
+    public void of_unusedCode_isReclaimed() {
+        WeakReference<Code> unusedCode = new WeakReference<>(Code.of("ZZZ9999Z"));
+        for (int i = 0; i < 10 && unusedCode.get() != null; i++) {
+            System.gc();
+        }
+        assertNull(unusedCode.get());
+        assertEquals(new Code("ZZZ9999Z"), Code.of("ZZZ9999Z"));
+    }
+
+    @Test
+    public void of_invalidCode_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> Code.of("CS10"));
+    }
+
+    @Test
+    public void compareTo_sortedCodes_sameOrderAsValues() {
+        List<String> values = Arrays.asList("CS2040C", "cs1010", "IFS4231", "CS2040", "CS1010S", "ABC1234D", "AB1234Z",
+                "CS1231", "MA1521");
+        List<String> expectedOrder = values.stream().map(String::toUpperCase).sorted().collect(Collectors.toList());
+        List<String> actualOrder = values.stream().map(Code::new).sorted().map(code -> code.value)
+                .collect(Collectors.toList());
+        assertEquals(expectedOrder, actualOrder);
+    }
 }
@@ -0,0 +1,50 @@
+package pwe.planner.model.module;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import pwe.planner.model.module.CompositeKeywordsPredicate.Connective;
+import pwe.planner.testutil.ModuleBuilder;
+
+public class CompositeKeywordsPredicateTest {
+
+    private final NameContainsKeywordsPredicate<Module> alicePredicate = new NameContainsKeywordsPredicate<>("Alice");
+    private final NameContainsKeywordsPredicate<Module> bobPredicate = new NameContainsKeywordsPredicate<>("Bob");
+
+    @Test
+    public void test_andConnective() {
+        CompositeKeywordsPredicate<Module> predicate =
+                new CompositeKeywordsPredicate<>(Connective.AND, alicePredicate, bobPredicate);
+        assertTrue(predicate.test(new ModuleBuilder().withName("Alice Bob").build()));
+        assertFalse(predicate.test(new ModuleBuilder().withName("Alice Carol").build()));
+    }
+
+    @Test
+    public void test_orConnective() {
+        CompositeKeywordsPredicate<Module> predicate =
+                new CompositeKeywordsPredicate<>(Connective.OR, alicePredicate, bobPredicate);
+        assertTrue(predicate.test(new ModuleBuilder().withName("Alice Carol").build()));
+        assertTrue(predicate.test(new ModuleBuilder().withName("Bob Carol").build()));
+        assertFalse(predicate.test(new ModuleBuilder().withName("Carol").build()));
+    }
+
+    @Test
+    public void equals() {
+        CompositeKeywordsPredicate<Module> predicate =
+                new CompositeKeywordsPredicate<>(Connective.AND, alicePredicate, bobPredicate);
+
+        // same values -> returns true
+        assertEquals(predicate, new CompositeKeywordsPredicate<>(Connective.AND,
+                new NameContainsKeywordsPredicate<>("Alice"), new NameContainsKeywordsPredicate<>("Bob")));
+
+        // different connective -> returns false
+        assertNotEquals(predicate, new CompositeKeywordsPredicate<>(Connective.OR, alicePredicate, bobPredicate));
+
+        // different order of predicates -> returns false
+        assertNotEquals(predicate, new CompositeKeywordsPredicate<>(Connective.AND, bobPredicate, alicePredicate));
+    }
+}
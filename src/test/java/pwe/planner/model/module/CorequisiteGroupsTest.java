@@ -0,0 +1,85 @@
+package pwe.planner.model.module;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class CorequisiteGroupsTest {
+    private static final Code CODE_A = new Code("CS1010");
+    private static final Code CODE_B = new Code("CS1231");
+    private static final Code CODE_C = new Code("CS2040C");
+    private static final Code CODE_D = new Code("CS2100");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final CorequisiteGroups corequisiteGroups = new CorequisiteGroups();
+
+    @Test
+    public void getGroup_nullCode_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        corequisiteGroups.getGroup(null);
+    }
+
+    @Test
+    public void getGroup_ungroupedCode_returnsOnlyCode() {
+        assertEquals(Set.of(CODE_A), corequisiteGroups.getGroup(CODE_A));
+        assertEquals(Set.of(), corequisiteGroups.getCorequisites(CODE_A));
+    }
+
+    @Test
+    public void union_nullCorequisites_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        corequisiteGroups.union(CODE_A, null);
+    }
+
+    @Test
+    public void union_disjointGroups_mergesGroups() {
+        corequisiteGroups.union(CODE_A, Set.of(CODE_B));
+        corequisiteGroups.union(CODE_C, Set.of(CODE_D));
+
+        assertEquals(Set.of(CODE_A, CODE_B, CODE_C, CODE_D), corequisiteGroups.union(CODE_B, Set.of(CODE_C)));
+        assertEquals(Set.of(CODE_A, CODE_B, CODE_C), corequisiteGroups.getCorequisites(CODE_D));
+    }
+
+    @Test
+    public void union_sameGroup_groupUnchanged() {
+        corequisiteGroups.union(CODE_A, Set.of(CODE_B, CODE_C));
+
+        assertEquals(Set.of(CODE_A, CODE_B, CODE_C), corequisiteGroups.union(CODE_C, Set.of(CODE_A)));
+    }
+
+    @Test
+    public void remove_ungroupedCode_returnsEmptySet() {
+        assertEquals(Set.of(), corequisiteGroups.remove(CODE_A));
+    }
+
+    @Test
+    public void remove_groupedCode_returnsRemainingGroup() {
+        corequisiteGroups.union(CODE_A, Set.of(CODE_B, CODE_C));
+
+        assertEquals(Set.of(CODE_B, CODE_C), corequisiteGroups.remove(CODE_A));
+        assertEquals(Set.of(CODE_A), corequisiteGroups.getGroup(CODE_A));
+        assertEquals(Set.of(CODE_C), corequisiteGroups.getCorequisites(CODE_B));
+    }
+
+    @Test
+    public void remove_lastCorequisite_ungroupsRemainingCode() {
+        corequisiteGroups.union(CODE_A, Set.of(CODE_B));
+
+        assertEquals(Set.of(CODE_B), corequisiteGroups.remove(CODE_A));
+        assertEquals(Set.of(), corequisiteGroups.getCorequisites(CODE_B));
+    }
+
+    @Test
+    public void clear_groupedCodes_ungroupsAllCodes() {
+        corequisiteGroups.union(CODE_A, Set.of(CODE_B));
+        corequisiteGroups.clear();
+
+        assertEquals(Set.of(CODE_A), corequisiteGroups.getGroup(CODE_A));
+    }
+}
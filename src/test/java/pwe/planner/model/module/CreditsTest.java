@@ -1,6 +1,8 @@
 package pwe.planner.model.module;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -20,6 +22,25 @@ public class CreditsTest {
         Assert.assertThrows(IllegalArgumentException.class, () -> new Credits(invalidCredits));
     }
 
+    @Test
+    public void constructor_invalidIntCredits_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> new Credits(-1));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new Credits(1000));
+    }
+
+    @Test
+    public void constructor_validIntCredits_equalsStringCredits() {
+        assertEquals(new Credits("0"), new Credits(0));
+        assertEquals(new Credits("999"), new Credits(999));
+        assertEquals("42", new Credits(42).value);
+    }
+
+    @Test
+    public void intValue() {
+        assertEquals(0, new Credits("0").intValue());
+        assertEquals(999, new Credits("999").intValue());
+    }
+
     @Test
     public void isValidCredits() {
         // null credits
@@ -43,4 +64,11 @@ public class CreditsTest {
         assertTrue(Credits.isValidCredits("50")); // exactly 2 numbers
         assertTrue(Credits.isValidCredits("999")); // exactly 3 numbers
     }
+
+    @Test
+    public void of_validCredits_returnsCanonicalInstance() {
+        assertSame(Credits.of("4"), Credits.of(new String("4")));
+        assertEquals(new Credits("4"), Credits.of("4"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> Credits.of("a"));
+    }
 }
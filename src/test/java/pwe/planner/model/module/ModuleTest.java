@@ -13,6 +13,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import pwe.planner.model.planner.Semester;
 import pwe.planner.testutil.ModuleBuilder;
 
 public class ModuleTest {
@@ -26,6 +27,15 @@ public class ModuleTest {
         module.getTags().remove(0);
     }
 
+    @Test
+    public void isOfferedIn() {
+        Module module = new ModuleBuilder().withSemesters("1", "3").build();
+        assertTrue(module.isOfferedIn(new Semester("1")));
+        assertTrue(module.isOfferedIn(new Semester("3")));
+        assertFalse(module.isOfferedIn(new Semester("2")));
+        assertFalse(new ModuleBuilder().withSemesters().build().isOfferedIn(new Semester("1")));
+    }
+
     @Test
     public void isSameModule() {
         // same object -> returns true
@@ -0,0 +1,53 @@
+package pwe.planner.model.module;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import pwe.planner.testutil.ModuleBuilder;
+
+public class NameFuzzyMatchesKeywordPredicateTest {
+
+    @Test
+    public void equals() {
+        NameFuzzyMatchesKeywordPredicate<Module> firstPredicate = new NameFuzzyMatchesKeywordPredicate<>("first");
+        NameFuzzyMatchesKeywordPredicate<Module> secondPredicate = new NameFuzzyMatchesKeywordPredicate<>("second");
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new NameFuzzyMatchesKeywordPredicate<>("first")));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+        assertFalse(firstPredicate.equals(new NameContainsKeywordsPredicate<>("first")));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keyword -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_nameCloseToKeyword_returnsTrue() {
+        Module module = new ModuleBuilder().withName("Programming Methodology").build();
+
+        // exact keyword
+        assertTrue(new NameFuzzyMatchesKeywordPredicate<Module>("Programming").test(module));
+
+        // keyword with typos
+        assertTrue(new NameFuzzyMatchesKeywordPredicate<Module>("progaming").test(module));
+        assertTrue(new NameFuzzyMatchesKeywordPredicate<Module>("Metodology Programing").test(module));
+    }
+
+    @Test
+    public void test_nameNotCloseToKeyword_returnsFalse() {
+        Module module = new ModuleBuilder().withName("Programming Methodology").build();
+
+        assertFalse(new NameFuzzyMatchesKeywordPredicate<Module>("Design").test(module));
+        assertFalse(new NameFuzzyMatchesKeywordPredicate<Module>("Methodology Design").test(module));
+    }
+}
@@ -1,8 +1,12 @@
 package pwe.planner.model.module;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.util.List;
+
 import org.junit.Test;
 
 import pwe.planner.testutil.Assert;
@@ -38,4 +42,11 @@ public class NameTest {
         assertTrue(Name.isValidName("Capital Tan")); // with capital letters
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
+
+    @Test
+    public void getNormalizedWords() {
+        Name name = new Name("Software  ENGINEERING 2");
+        assertEquals(List.of("software", "engineering", "2"), name.getNormalizedWords());
+        assertSame(name.getNormalizedWords(), name.getNormalizedWords());
+    }
 }
@@ -2,15 +2,21 @@ package pwe.planner.model.module;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static pwe.planner.logic.commands.CommandTestUtil.VALID_CODE_BOB;
 import static pwe.planner.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static pwe.planner.testutil.TypicalModules.ALICE;
+import static pwe.planner.testutil.TypicalModules.BENSON;
 import static pwe.planner.testutil.TypicalModules.BOB;
+import static pwe.planner.testutil.TypicalModules.CARL;
+import static pwe.planner.testutil.TypicalModules.DANIEL;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -18,6 +24,7 @@ import org.junit.rules.ExpectedException;
 
 import pwe.planner.model.module.exceptions.DuplicateModuleException;
 import pwe.planner.model.module.exceptions.ModuleNotFoundException;
+import pwe.planner.model.tag.Tag;
 import pwe.planner.testutil.ModuleBuilder;
 
 public class UniqueModuleListTest {
@@ -38,6 +45,35 @@ public class UniqueModuleListTest {
         uniqueModuleList.getModuleByCode(null);
     }
 
+    @Test
+    public void containsCode_nullCode_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        uniqueModuleList.containsCode(null);
+    }
+
+    @Test
+    public void containsCode_codeNotInList_returnsFalse() {
+        assertFalse(uniqueModuleList.containsCode(ALICE.getCode()));
+    }
+
+    @Test
+    public void containsCode_codeInList_returnsTrue() {
+        uniqueModuleList.add(ALICE);
+        assertTrue(uniqueModuleList.containsCode(ALICE.getCode()));
+    }
+
+    @Test
+    public void getModuleByCode_codeNotInList_returnsNull() {
+        assertNull(uniqueModuleList.getModuleByCode(ALICE.getCode()));
+    }
+
+    @Test
+    public void getModuleByCode_codeInList_returnsModule() {
+        uniqueModuleList.add(ALICE);
+        uniqueModuleList.add(BOB);
+        assertEquals(BOB, uniqueModuleList.getModuleByCode(BOB.getCode()));
+    }
+
     @Test
     public void contains_moduleNotInList_returnsFalse() {
         assertFalse(uniqueModuleList.contains(ALICE));
@@ -109,6 +145,22 @@ public class UniqueModuleListTest {
         assertEquals(expectedUniqueModuleList, uniqueModuleList);
     }
 
+    @Test
+    public void setModule_editedModuleHasDifferentIdentity_codeIndexUpdated() {
+        uniqueModuleList.add(ALICE);
+        uniqueModuleList.setModule(ALICE, BOB);
+        assertFalse(uniqueModuleList.containsCode(ALICE.getCode()));
+        assertEquals(BOB, uniqueModuleList.getModuleByCode(BOB.getCode()));
+    }
+
+    @Test
+    public void setModule_targetModuleHasDifferentFields_throwsModuleNotFoundException() {
+        uniqueModuleList.add(ALICE);
+        Module editedAlice = new ModuleBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        thrown.expect(ModuleNotFoundException.class);
+        uniqueModuleList.setModule(editedAlice, BOB);
+    }
+
     @Test
     public void setModule_editedModuleHasNonUniqueIdentity_throwsDuplicateModuleException() {
         uniqueModuleList.add(ALICE);
@@ -137,6 +189,40 @@ public class UniqueModuleListTest {
         assertEquals(expectedUniqueModuleList, uniqueModuleList);
     }
 
+    @Test
+    public void add_moduleWithCorequisites_mergesCorequisiteGroups() {
+        uniqueModuleList.add(new ModuleBuilder().withCode("CS1010").withCorequisites("CS1231").build());
+        uniqueModuleList.add(new ModuleBuilder().withCode("CS1231").withCorequisites("CS1010").build());
+        uniqueModuleList.add(new ModuleBuilder().withCode("CS2100").withCorequisites("CS1231").build());
+        assertEquals(Set.of(new Code("CS1231"), new Code("CS2100")),
+                uniqueModuleList.getModuleByCode(new Code("CS1010")).getCorequisites());
+    }
+
+    @Test
+    public void remove_moduleWithCorequisites_removedFromCorequisiteGroup() {
+        uniqueModuleList.add(new ModuleBuilder().withCode("CS1010").withCorequisites("CS1231", "CS2100").build());
+        uniqueModuleList.add(new ModuleBuilder().withCode("CS1231").build());
+        uniqueModuleList.add(new ModuleBuilder().withCode("CS2100").build());
+        uniqueModuleList.remove(uniqueModuleList.getModuleByCode(new Code("CS1010")));
+        assertEquals(Set.of(new Code("CS2100")),
+                uniqueModuleList.getModuleByCode(new Code("CS1231")).getCorequisites());
+    }
+
+    @Test
+    public void remove_existingModule_remainingModulesStillIndexed() {
+        uniqueModuleList.add(ALICE);
+        uniqueModuleList.add(BOB);
+        uniqueModuleList.remove(ALICE);
+        assertFalse(uniqueModuleList.containsCode(ALICE.getCode()));
+        assertEquals(BOB, uniqueModuleList.getModuleByCode(BOB.getCode()));
+
+        // the remaining module must still be found at its new position
+        uniqueModuleList.setModule(BOB, ALICE);
+        UniqueModuleList expectedUniqueModuleList = new UniqueModuleList();
+        expectedUniqueModuleList.add(ALICE);
+        assertEquals(expectedUniqueModuleList, uniqueModuleList);
+    }
+
     @Test
     public void setModules_nullUniqueModuleList_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -175,9 +261,67 @@ public class UniqueModuleListTest {
         uniqueModuleList.setModules(listWithDuplicateModules);
     }
 
+    @Test
+    public void setModules_listWithSeveralDuplicateModules_reportsEveryDuplicateCode() {
+        Module editedBob = new ModuleBuilder(BOB).withTags(VALID_TAG_HUSBAND).build();
+        List<Module> listWithDuplicateModules = Arrays.asList(ALICE, BOB, ALICE, editedBob, ALICE);
+        thrown.expect(DuplicateModuleException.class);
+        thrown.expectMessage(ALICE.getCode() + ", " + BOB.getCode());
+        uniqueModuleList.setModules(listWithDuplicateModules);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
         uniqueModuleList.asUnmodifiableObservableList().remove(0);
     }
+
+    @Test
+    public void getModulesWithTag_nullTag_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        uniqueModuleList.getModulesWithTag(null);
+    }
+
+    @Test
+    public void getModulesWithTag_modulesAddedAndRemoved_returnsModulesWithTag() {
+        uniqueModuleList.add(ALICE);
+        uniqueModuleList.add(BENSON);
+        uniqueModuleList.add(CARL);
+        uniqueModuleList.add(DANIEL);
+        assertEquals(Set.of(ALICE.getCode(), BENSON.getCode(), DANIEL.getCode()), getCodesWithTag(new Tag("friends")));
+        assertEquals(Set.of(BENSON.getCode()), getCodesWithTag(new Tag("owesMoney")));
+        assertEquals(Set.of(), getCodesWithTag(new Tag("Friends")));
+
+        uniqueModuleList.remove(uniqueModuleList.getModuleByCode(ALICE.getCode()));
+        assertEquals(Set.of(BENSON.getCode(), DANIEL.getCode()), getCodesWithTag(new Tag("friends")));
+
+        Module benson = uniqueModuleList.getModuleByCode(BENSON.getCode());
+        uniqueModuleList.setModule(benson, new ModuleBuilder(benson).withTags("owesMoney").build());
+        assertEquals(Set.of(DANIEL.getCode()), getCodesWithTag(new Tag("friends")));
+        assertEquals(Set.of(BENSON.getCode()), getCodesWithTag(new Tag("owesMoney")));
+    }
+
+    @Test
+    public void remove_modulesAfterRemovedModules_removesModules() {
+        uniqueModuleList.add(ALICE);
+        uniqueModuleList.add(BENSON);
+        uniqueModuleList.add(CARL);
+        uniqueModuleList.add(DANIEL);
+        uniqueModuleList.remove(uniqueModuleList.getModuleByCode(ALICE.getCode()));
+        uniqueModuleList.remove(uniqueModuleList.getModuleByCode(CARL.getCode()));
+        uniqueModuleList.remove(uniqueModuleList.getModuleByCode(DANIEL.getCode()));
+        assertEquals(Collections.singletonList(BENSON.getCode()), uniqueModuleList.asUnmodifiableObservableList()
+                .stream().map(Module::getCode).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void getModulesWithTag_afterSetModules_returnsModulesWithTag() {
+        uniqueModuleList.add(ALICE);
+        uniqueModuleList.setModules(Arrays.asList(CARL, DANIEL));
+        assertEquals(Set.of(DANIEL.getCode()), getCodesWithTag(new Tag("friends")));
+    }
+
+    private Set<Code> getCodesWithTag(Tag tag) {
+        return uniqueModuleList.getModulesWithTag(tag).stream().map(Module::getCode).collect(Collectors.toSet());
+    }
 }
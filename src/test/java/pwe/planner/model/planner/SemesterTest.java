@@ -1,8 +1,14 @@
 package pwe.planner.model.planner;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
 import org.junit.Test;
 
 import pwe.planner.testutil.Assert;
@@ -37,4 +43,39 @@ public class SemesterTest {
         // valid year
         assertTrue(Semester.isValidSemester("1")); // exactly zero
     }
+
+    @Test
+    public void toMask_semesters_oneBitPerSemester() {
+        assertEquals(0b0001, new Semester("1").toMask());
+        assertEquals(0b1000, new Semester("4").toMask());
+        assertEquals(0, Semester.toMask(Collections.emptySet()));
+        assertEquals(0b1010, Semester.toMask(Arrays.asList(new Semester("2"), new Semester("4"))));
+    }
+
+    @Test
+    public void fromMask_mask_returnsSemestersInAscendingOrder() {
+        Set<Semester> semesters = Semester.fromMask(0b1101);
+        assertEquals(Arrays.asList(new Semester("1"), new Semester("3"), new Semester("4")),
+                Arrays.asList(semesters.toArray()));
+        assertEquals(0b1101, Semester.toMask(semesters));
+    }
+
+    @Test
+    public void fromMask_invalidMask_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> Semester.fromMask(0b10000));
+    }
+
+    @Test
+    public void of_validSemester_returnsCanonicalInstance() {
+        assertSame(Semester.of("2"), Semester.of("2"));
+        assertEquals(new Semester("2"), Semester.of("2"));
+        assertSame(Semester.of("3"), Semester.fromMask(0b0100).iterator().next());
+        Assert.assertThrows(IllegalArgumentException.class, () -> Semester.of("5"));
+    }
+
+    @Test
+    public void intValue() {
+        assertEquals(1, new Semester("1").intValue());
+        assertEquals(4, Semester.of("4").intValue());
+    }
 }
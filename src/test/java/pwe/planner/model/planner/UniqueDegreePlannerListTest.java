@@ -2,18 +2,23 @@ package pwe.planner.model.planner;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static pwe.planner.testutil.TypicalDegreePlanners.YEAR_1_SEMESTER_1;
 import static pwe.planner.testutil.TypicalDegreePlanners.YEAR_1_SEMESTER_2;
+import static pwe.planner.testutil.TypicalDegreePlanners.YEAR_2_SEMESTER_1;
+import static pwe.planner.testutil.TypicalDegreePlanners.YEAR_3_SEMESTER_2;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import pwe.planner.model.module.Code;
 import pwe.planner.model.planner.exceptions.DegreePlannerNotFoundException;
 import pwe.planner.model.planner.exceptions.DuplicateDegreePlannerException;
 import pwe.planner.testutil.DegreePlannerBuilder;
@@ -36,6 +41,68 @@ public class UniqueDegreePlannerListTest {
         uniqueDegreePlannerList.getDegreePlannerByCode(null);
     }
 
+    @Test
+    public void getDegreePlannerByCode_codeNotInList_returnsNull() {
+        uniqueDegreePlannerList.add(YEAR_1_SEMESTER_2);
+        assertNull(uniqueDegreePlannerList.getDegreePlannerByCode(new Code("CS1010")));
+    }
+
+    @Test
+    public void getDegreePlannerByCode_codeInList_returnsDegreePlanner() {
+        uniqueDegreePlannerList.add(YEAR_1_SEMESTER_1);
+        uniqueDegreePlannerList.add(YEAR_1_SEMESTER_2);
+        assertEquals(YEAR_1_SEMESTER_1, uniqueDegreePlannerList.getDegreePlannerByCode(new Code("CS1010")));
+    }
+
+    @Test
+    public void getDegreePlanner_nullYear_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        uniqueDegreePlannerList.getDegreePlanner(null, new Semester("1"));
+    }
+
+    @Test
+    public void getDegreePlanner_yearAndSemesterNotInList_returnsNull() {
+        uniqueDegreePlannerList.add(YEAR_1_SEMESTER_1);
+        assertNull(uniqueDegreePlannerList.getDegreePlanner(new Year("1"), new Semester("2")));
+        assertNull(uniqueDegreePlannerList.getDegreePlanner(new Year("4"), new Semester("4")));
+    }
+
+    @Test
+    public void getDegreePlanner_lastYearAndSemester_returnsDegreePlanner() {
+        DegreePlanner lastDegreePlanner = new DegreePlanner(new Year("4"), new Semester("4"), Set.of());
+        uniqueDegreePlannerList.add(YEAR_3_SEMESTER_2);
+        uniqueDegreePlannerList.add(lastDegreePlanner);
+        assertEquals(YEAR_3_SEMESTER_2, uniqueDegreePlannerList.getDegreePlanner(new Year("3"), new Semester("2")));
+        assertEquals(lastDegreePlanner, uniqueDegreePlannerList.getDegreePlanner(new Year("4"), new Semester("4")));
+        assertNull(uniqueDegreePlannerList.getDegreePlanner(new Year("2"), new Semester("2")));
+    }
+
+    @Test
+    public void getDegreePlanner_afterRemovingEarlierDegreePlanner_returnsDegreePlanner() {
+        uniqueDegreePlannerList.add(YEAR_1_SEMESTER_1);
+        uniqueDegreePlannerList.add(YEAR_1_SEMESTER_2);
+        uniqueDegreePlannerList.add(YEAR_2_SEMESTER_1);
+        uniqueDegreePlannerList.remove(YEAR_1_SEMESTER_1);
+        assertNull(uniqueDegreePlannerList.getDegreePlanner(new Year("1"), new Semester("1")));
+        assertEquals(YEAR_1_SEMESTER_2, uniqueDegreePlannerList.getDegreePlanner(new Year("1"), new Semester("2")));
+        assertEquals(YEAR_2_SEMESTER_1, uniqueDegreePlannerList.getDegreePlanner(new Year("2"), new Semester("1")));
+    }
+
+    @Test
+    public void clearCodes_nonEmptyList_removesAllCodes() {
+        uniqueDegreePlannerList.add(YEAR_1_SEMESTER_1);
+        uniqueDegreePlannerList.add(YEAR_1_SEMESTER_2);
+        uniqueDegreePlannerList.clearCodes();
+
+        UniqueDegreePlannerList expectedUniqueDegreePlannerList = new UniqueDegreePlannerList();
+        expectedUniqueDegreePlannerList.add(new DegreePlannerBuilder(YEAR_1_SEMESTER_1).withCodes().build());
+        expectedUniqueDegreePlannerList.add(new DegreePlannerBuilder(YEAR_1_SEMESTER_2).withCodes().build());
+        assertEquals(expectedUniqueDegreePlannerList, uniqueDegreePlannerList);
+        assertNull(uniqueDegreePlannerList.getDegreePlannerByCode(new Code("CS1010")));
+        assertEquals(expectedUniqueDegreePlannerList.getDegreePlanner(new Year("1"), new Semester("2")),
+                uniqueDegreePlannerList.getDegreePlanner(new Year("1"), new Semester("2")));
+    }
+
     @Test
     public void contains_degreePlannerNotInList_returnsFalse() {
         assertFalse(uniqueDegreePlannerList.contains(YEAR_1_SEMESTER_1));
@@ -107,6 +174,15 @@ public class UniqueDegreePlannerListTest {
         assertEquals(expectedUniqueDegreePlannerList, uniqueDegreePlannerList);
     }
 
+    @Test
+    public void setDegreePlanner_codesMovedToEditedDegreePlanner_codeIndexUpdated() {
+        uniqueDegreePlannerList.add(YEAR_1_SEMESTER_1);
+        DegreePlanner editedDegreePlanner = new DegreePlannerBuilder(YEAR_1_SEMESTER_1).withCodes("CS2040C").build();
+        uniqueDegreePlannerList.setDegreePlanner(YEAR_1_SEMESTER_1, editedDegreePlanner);
+        assertNull(uniqueDegreePlannerList.getDegreePlannerByCode(new Code("CS1010")));
+        assertEquals(editedDegreePlanner, uniqueDegreePlannerList.getDegreePlannerByCode(new Code("CS2040C")));
+    }
+
     @Test
     public void setDegreePlanner_editedDegreePlannerHasNonUniqueIdentity_throwsDuplicateDegreePlannerException() {
         uniqueDegreePlannerList.add(YEAR_1_SEMESTER_1);
@@ -135,6 +211,13 @@ public class UniqueDegreePlannerListTest {
         assertEquals(expectedUniqueDegreePlannerList, uniqueDegreePlannerList);
     }
 
+    @Test
+    public void remove_existingDegreePlanner_codesRemovedFromIndex() {
+        uniqueDegreePlannerList.add(YEAR_1_SEMESTER_1);
+        uniqueDegreePlannerList.remove(YEAR_1_SEMESTER_1);
+        assertNull(uniqueDegreePlannerList.getDegreePlannerByCode(new Code("CS1010")));
+    }
+
     @Test
     public void setDegreePlanners_nullUniqueDegreePlannerList_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -173,6 +256,16 @@ public class UniqueDegreePlannerListTest {
         uniqueDegreePlannerList.setDegreePlanners(listWithDuplicateDegreePlanners);
     }
 
+    @Test
+    public void setDegreePlanners_listWithSeveralDuplicateDegreePlanners_reportsEveryDuplicateYearAndSemester() {
+        DegreePlanner editedDegreePlanner = new DegreePlannerBuilder(YEAR_1_SEMESTER_2).withCodes("CS2040C").build();
+        List<DegreePlanner> listWithDuplicateDegreePlanners = Arrays.asList(YEAR_1_SEMESTER_1, YEAR_1_SEMESTER_2,
+                YEAR_1_SEMESTER_1, editedDegreePlanner);
+        thrown.expect(DuplicateDegreePlannerException.class);
+        thrown.expectMessage("Year 1 Semester 1, Year 1 Semester 2");
+        uniqueDegreePlannerList.setDegreePlanners(listWithDuplicateDegreePlanners);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -1,6 +1,8 @@
 package pwe.planner.model.planner;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -37,4 +39,18 @@ public class YearTest {
         // valid year
         assertTrue(Year.isValidYear("1")); // exactly zero
     }
+
+    @Test
+    public void of_validYear_returnsCanonicalInstance() {
+        assertSame(Year.of("1"), Year.of(new String("1")));
+        assertEquals(new Year("4"), Year.of("4"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> Year.of("5"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> Year.of("one"));
+    }
+
+    @Test
+    public void intValue() {
+        assertEquals(1, new Year("1").intValue());
+        assertEquals(4, Year.of("4").intValue());
+    }
 }
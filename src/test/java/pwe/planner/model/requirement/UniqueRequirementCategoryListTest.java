@@ -2,6 +2,7 @@ package pwe.planner.model.requirement;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static pwe.planner.testutil.TypicalRequirementCategories.COMPUTING_BREADTH;
 import static pwe.planner.testutil.TypicalRequirementCategories.COMPUTING_FOUNDATION;
@@ -46,6 +47,40 @@ public class UniqueRequirementCategoryListTest {
         uniqueRequirementCategoryList.getRequirementCategory(null);
     }
 
+    @Test
+    public void getRequirementCategoryByCode_nullCode_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        uniqueRequirementCategoryList.getRequirementCategoryByCode(null);
+    }
+
+    @Test
+    public void getRequirementCategoryByCode_codeNotInList_returnsNull() {
+        uniqueRequirementCategoryList.add(COMPUTING_BREADTH);
+        assertNull(uniqueRequirementCategoryList.getRequirementCategoryByCode(new Code("CS2100")));
+    }
+
+    @Test
+    public void getRequirementCategoryByCode_codeInList_returnsRequirementCategory() {
+        uniqueRequirementCategoryList.add(COMPUTING_FOUNDATION);
+        uniqueRequirementCategoryList.add(COMPUTING_BREADTH);
+        assertEquals(COMPUTING_FOUNDATION,
+                uniqueRequirementCategoryList.getRequirementCategoryByCode(new Code("CS2100")));
+    }
+
+    @Test
+    public void getRequirementCategoryByCode_codeMovedByEdit_returnsEditedRequirementCategory() {
+        uniqueRequirementCategoryList.add(COMPUTING_FOUNDATION);
+        uniqueRequirementCategoryList.add(COMPUTING_BREADTH);
+        RequirementCategory editedComputingFoundation =
+                new RequirementCategoryBuilder(COMPUTING_FOUNDATION).withCodes().build();
+        RequirementCategory editedComputingBreadth =
+                new RequirementCategoryBuilder(COMPUTING_BREADTH).withCodes("CS2100").build();
+        uniqueRequirementCategoryList.setRequirementCategory(COMPUTING_FOUNDATION, editedComputingFoundation);
+        uniqueRequirementCategoryList.setRequirementCategory(COMPUTING_BREADTH, editedComputingBreadth);
+        assertEquals(editedComputingBreadth,
+                uniqueRequirementCategoryList.getRequirementCategoryByCode(new Code("CS2100")));
+    }
+
     @Test
     public void contains_requirementCategoryNameNotInList_returnsFalse() {
         assertFalse(uniqueRequirementCategoryList.contains(new Name("SOMETHING")));
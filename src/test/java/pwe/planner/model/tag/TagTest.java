@@ -1,5 +1,8 @@
 package pwe.planner.model.tag;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
 import org.junit.Test;
 
 import pwe.planner.testutil.Assert;
@@ -23,4 +26,11 @@ public class TagTest {
         Assert.assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
     }
 
+
+    @Test
+    public void of_validTagName_returnsCanonicalInstance() {
+        assertSame(Tag.of("core"), Tag.of(new String("core")));
+        assertEquals(new Tag("core"), Tag.of("core"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> Tag.of(""));
+    }
 }
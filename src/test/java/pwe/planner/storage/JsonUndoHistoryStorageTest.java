@@ -0,0 +1,106 @@
+package pwe.planner.storage;
+
+import static org.junit.Assert.assertEquals;
+import static pwe.planner.testutil.TypicalDegreePlanners.getTypicalDegreePlannerList;
+import static pwe.planner.testutil.TypicalModules.getTypicalModuleList;
+import static pwe.planner.testutil.TypicalRequirementCategories.getTypicalRequirementCategoriesList;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import pwe.planner.commons.exceptions.IllegalValueException;
+import pwe.planner.model.Application;
+import pwe.planner.model.ReadOnlyApplication;
+import pwe.planner.testutil.ApplicationBuilder;
+
+public class JsonUndoHistoryStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void saveState_nullState_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new JsonUndoHistoryStorage(getTempFilePath("undoHistory.dat")).saveState(null);
+    }
+
+    @Test
+    public void saveStateAndReadState_multipleStates_success() throws Exception {
+        JsonUndoHistoryStorage undoHistoryStorage = new JsonUndoHistoryStorage(getTempFilePath("undoHistory.dat"));
+        ReadOnlyApplication typicalApplication = getTypicalApplication();
+        ReadOnlyApplication emptyApplication = new ApplicationBuilder().build();
+
+        long typicalStateId = undoHistoryStorage.saveState(typicalApplication);
+        long emptyStateId = undoHistoryStorage.saveState(emptyApplication);
+
+        assertEquals(new Application(typicalApplication), undoHistoryStorage.readState(typicalStateId));
+        assertEquals(new Application(emptyApplication), undoHistoryStorage.readState(emptyStateId));
+    }
+
+    @Test
+    public void saveState_afterClear_previousStatesDiscarded() throws Exception {
+        JsonUndoHistoryStorage undoHistoryStorage = new JsonUndoHistoryStorage(getTempFilePath("undoHistory.dat"));
+        undoHistoryStorage.saveState(getTypicalApplication());
+        undoHistoryStorage.clear();
+
+        ReadOnlyApplication emptyApplication = new ApplicationBuilder().build();
+        long stateId = undoHistoryStorage.saveState(emptyApplication);
+        assertEquals(0, stateId);
+        assertEquals(new Application(emptyApplication), undoHistoryStorage.readState(stateId));
+    }
+
+    @Test
+    public void discardState_mostStatesDiscarded_fileCompacted() throws Exception {
+        Path filePath = getTempFilePath("undoHistory.dat");
+        JsonUndoHistoryStorage undoHistoryStorage = new JsonUndoHistoryStorage(filePath);
+        ReadOnlyApplication typicalApplication = getTypicalApplication();
+        long firstStateId = undoHistoryStorage.saveState(typicalApplication);
+        long stateSize = Files.size(filePath);
+        long secondStateId = undoHistoryStorage.saveState(typicalApplication);
+        long thirdStateId = undoHistoryStorage.saveState(typicalApplication);
+
+        // a single discarded state is left in the file
+        undoHistoryStorage.discardState(secondStateId);
+        assertEquals(3 * stateSize, Files.size(filePath));
+
+        // the discarded states take up more than half of the file
+        undoHistoryStorage.discardState(firstStateId);
+        assertEquals(stateSize, Files.size(filePath));
+        assertEquals(new Application(typicalApplication), undoHistoryStorage.readState(thirdStateId));
+
+        thrown.expect(IOException.class);
+        undoHistoryStorage.readState(firstStateId);
+    }
+
+    @Test
+    public void discardState_allStatesDiscarded_fileEmptied() throws Exception {
+        Path filePath = getTempFilePath("undoHistory.dat");
+        JsonUndoHistoryStorage undoHistoryStorage = new JsonUndoHistoryStorage(filePath);
+        long stateId = undoHistoryStorage.saveState(getTypicalApplication());
+
+        undoHistoryStorage.discardState(stateId);
+        assertEquals(0, Files.size(filePath));
+
+        // discarding a state twice does nothing
+        undoHistoryStorage.discardState(stateId);
+        assertEquals(0, Files.size(filePath));
+    }
+
+    private ReadOnlyApplication getTypicalApplication() throws IllegalValueException {
+        return new JsonSerializableApplication(getTypicalModuleList(), getTypicalDegreePlannerList(),
+                getTypicalRequirementCategoriesList()).toModelType();
+    }
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.getRoot().toPath().resolve(fileName);
+    }
+}
@@ -14,6 +14,7 @@ import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
 import pwe.planner.commons.core.GuiSettings;
+import pwe.planner.commons.core.HistorySettings;
 import pwe.planner.commons.exceptions.DataConversionException;
 import pwe.planner.model.UserPrefs;
 
@@ -80,6 +81,28 @@ public class JsonUserPrefsStorageTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void readUserPrefs_invalidHistorySettings_exceptionThrown() throws DataConversionException {
+        thrown.expect(DataConversionException.class);
+        readUserPrefs("InvalidHistorySettingsUserPrefs.json");
+    }
+
+    @Test
+    public void readUserPrefs_nullHistorySettings_exceptionThrown() throws DataConversionException {
+        thrown.expect(DataConversionException.class);
+        readUserPrefs("NullHistorySettingsUserPrefs.json");
+    }
+
+    @Test
+    public void readUserPrefs_historySettingsValuesMissing_defaultValuesUsed() throws DataConversionException {
+        HistorySettings defaultHistorySettings = new HistorySettings();
+        HistorySettings actual = readUserPrefs("PartialHistorySettingsUserPrefs.json").get().getHistorySettings();
+
+        assertEquals(10, actual.getMaxStates());
+        assertEquals(defaultHistorySettings.getMaxMemoryBytes(), actual.getMaxMemoryBytes());
+        assertEquals(defaultHistorySettings.getMaxApplicationCopies(), actual.getMaxApplicationCopies());
+    }
+
     private UserPrefs getTypicalUserPrefs() {
         UserPrefs userPrefs = new UserPrefs();
         userPrefs.setGuiSettings(new GuiSettings(1000, 500, 300, 100));